@@ -1,38 +1,128 @@
 package io.ssafy.cinemoa.category.service;
 
-import org.springframework.stereotype.Service;
-import lombok.RequiredArgsConstructor;
-import io.ssafy.cinemoa.category.repository.CategoryRepository;
 import io.ssafy.cinemoa.category.dto.CategoryListResponseDto;
 import io.ssafy.cinemoa.category.dto.ParentCategoryDto;
+import io.ssafy.cinemoa.category.repository.CategoryRepository;
 import io.ssafy.cinemoa.category.repository.entity.Category;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
-import org.springframework.transaction.annotation.Transactional;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
 
+/**
+ * 카테고리 서비스
+ * <p>
+ * 카테고리는 거의 바뀌지 않으므로 전체 트리를 한 번에 읽어 불변 스냅샷으로 보관하고,
+ * 목록 조회/하위 카테고리 확장/하위 카테고리 검증을 DB 조회 없이 처리한다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CategoryService {
     private final CategoryRepository categoryRepository;
 
-    @Transactional(readOnly = true)
+    private volatile CategorySnapshot snapshot;
+
     public CategoryListResponseDto getAllCategories() {
-        // 1. 상위 카테고리 조회
-        List<Category> parentCategories = categoryRepository.findParentCategories();
+        return getSnapshot().response();
+    }
+
+    /**
+     * 주어진 카테고리와 그 하위 카테고리 ID 전체 반환
+     */
+    public Set<Long> expandWithChildren(Collection<Long> categoryIds) {
+        CategorySnapshot current = getSnapshot();
+
+        Set<Long> expanded = new HashSet<>(categoryIds.size() * 2);
+        for (Long categoryId : categoryIds) {
+            expanded.add(categoryId);
+            expanded.addAll(current.childrenOf().getOrDefault(categoryId, List.of()));
+        }
+        return expanded;
+    }
+
+    /**
+     * 존재하는 하위 카테고리(부모가 있는 카테고리)인지 확인
+     */
+    public boolean isSubCategory(Long categoryId) {
+        return getSnapshot().parentOf().get(categoryId) != null;
+    }
 
-        // 2. 각 상위 카테고리에 대해 하위 카테고리를 조회하고 DTO로 변환
+    /**
+     * 상위 카테고리 ID 반환 (상위 카테고리이거나 없는 카테고리면 null)
+     */
+    public Long getParentCategoryId(Long categoryId) {
+        return getSnapshot().parentOf().get(categoryId);
+    }
+
+    /**
+     * DB에서 카테고리 전체를 다시 읽어 스냅샷 교체 (1시간마다 및 필요 시 호출)
+     */
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 3_600_000)
+    public void refresh() {
+        snapshot = loadSnapshot();
+        log.info("카테고리 스냅샷 갱신 완료 - {}개", snapshot.parentOf().size());
+    }
+
+    private CategorySnapshot getSnapshot() {
+        CategorySnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    snapshot = loadSnapshot();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private CategorySnapshot loadSnapshot() {
+        // 1. 전체 카테고리를 한 번에 조회 (상위 카테고리는 프록시의 ID만 사용하므로 추가 쿼리 없음)
+        List<Category> categories = new ArrayList<>(categoryRepository.findAll());
+        categories.sort(Comparator.comparing(Category::getCategoryId));
+
+        Map<Long, Long> parentOf = new HashMap<>();
+        Map<Long, List<Category>> childCategoriesOf = new HashMap<>();
+        List<Category> parentCategories = new ArrayList<>();
+
+        for (Category category : categories) {
+            Category parent = category.getParentCategory();
+            if (parent == null) {
+                parentOf.put(category.getCategoryId(), null);
+                parentCategories.add(category);
+            } else {
+                parentOf.put(category.getCategoryId(), parent.getCategoryId());
+                childCategoriesOf.computeIfAbsent(parent.getCategoryId(), id -> new ArrayList<>()).add(category);
+            }
+        }
+
+        // 2. 상위 → 하위 ID 목록
+        Map<Long, List<Long>> childrenOf = new HashMap<>();
+        childCategoriesOf.forEach((parentId, children) -> childrenOf.put(parentId,
+                children.stream().map(Category::getCategoryId).toList()));
+
+        // 3. 카테고리 목록 API 응답을 미리 구성
         List<ParentCategoryDto> parentCategoryDtos = parentCategories.stream()
-                .map(parentCategory ->
-                        {
-                            // 2-1. 특정 상위 카테고리에 속한 하위 카테고리 엔티티들 조회
-                            List<Category> childCategories = categoryRepository.findSubCategoriesByParentId(parentCategory.getCategoryId());
-                            // 2-2. 상위 카테고리와 하위 카테고리를 ParentCategoryDto로 변환
-                            return ParentCategoryDto.of(parentCategory, childCategories);
-                        }
-                )
-                .collect(Collectors.toList());
-
-        // 3. ParentCategoryDto 리스트를 CategoryListResponseDto로 변환
-        return CategoryListResponseDto.of(parentCategoryDtos);
+                .map(parentCategory -> ParentCategoryDto.of(parentCategory,
+                        childCategoriesOf.getOrDefault(parentCategory.getCategoryId(), List.of())))
+                .toList();
+
+        return new CategorySnapshot(parentOf, Map.copyOf(childrenOf),
+                CategoryListResponseDto.of(parentCategoryDtos));
+    }
+
+    // parentOf는 상위 카테고리의 값으로 null을 담으므로 HashMap 그대로 두고 외부에 노출하지 않음
+    private record CategorySnapshot(Map<Long, Long> parentOf,
+                                    Map<Long, List<Long>> childrenOf,
+                                    CategoryListResponseDto response) {
     }
 }
@@ -2,6 +2,7 @@ package io.ssafy.cinemoa.cinema.controller;
 
 import io.ssafy.cinemoa.cinema.dto.BriefCinemaInfoDto;
 import io.ssafy.cinemoa.cinema.dto.CinemaInfoDto;
+import io.ssafy.cinemoa.cinema.dto.NearbyCinemaDto;
 import io.ssafy.cinemoa.cinema.enums.CinemaFeature;
 import io.ssafy.cinemoa.cinema.service.CinemaService;
 import io.ssafy.cinemoa.global.response.ApiResponse;
@@ -34,6 +35,17 @@ public class CinemaController {
         return ResponseEntity.ok(ApiResponse.ofSuccess(result));
     }
 
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<List<NearbyCinemaDto>>> getNearbyCinemas(
+            @RequestParam Double lat,
+            @RequestParam Double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Set<CinemaFeature> feature) {
+        return ResponseEntity.ok(ApiResponse.ofSuccess(
+                cinemaService.getNearbyCinemas(lat, lng, radiusKm, limit, feature)));
+    }
+
     @GetMapping("/{cinemaId}")
     public ResponseEntity<ApiResponse<?>> getCertainCinema(@PathVariable(name = "cinemaId") Long cinemaId) {
         CinemaInfoDto result = cinemaService.getCertainCinema(cinemaId);
@@ -1,13 +1,21 @@
 package io.ssafy.cinemoa.cinema.controller;
 
+import io.ssafy.cinemoa.cinema.dto.ScreenCalendarDto;
+import io.ssafy.cinemoa.cinema.dto.ScreenHoldRequest;
 import io.ssafy.cinemoa.cinema.dto.ScreenInfoDto;
+import io.ssafy.cinemoa.cinema.service.ScreenHoldService;
 import io.ssafy.cinemoa.cinema.service.ScreenService;
 import io.ssafy.cinemoa.global.response.ApiResponse;
+import io.ssafy.cinemoa.security.helper.SecurityContextHelper;
 import java.time.LocalDate;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -18,14 +26,51 @@ import org.springframework.web.bind.annotation.RestController;
 public class ScreenController {
 
     private final ScreenService screenService;
+    private final ScreenHoldService screenHoldService;
+    private final SecurityContextHelper securityContextHelper;
 
 
+    /**
+     * 상영관의 날짜별 예약 가능 시간 (로그인 사용자는 본인이 선점한 시간을 가능한 시간으로 받음)
+     */
     @GetMapping("/{screenId}/available-time")
     public ResponseEntity<ApiResponse<?>> getAvailableTimesOfScreen(@PathVariable("screenId") Long screenId,
                                                                     @RequestParam
                                                                     LocalDate targetDate) {
-        ScreenInfoDto info = screenService.getAvailableTimesOfScreen(screenId, targetDate);
+        Long userId = securityContextHelper.getCurrentUserIdOrNull();
+        ScreenInfoDto info = screenService.getAvailableTimesOfScreen(screenId, targetDate, userId);
 
         return ResponseEntity.ok(ApiResponse.ofSuccess(info));
     }
+
+    /**
+     * 극장의 모든 상영관 날짜별 예약 가능 시간 (from~to 포함, 선점 소유자는 로그인 사용자로 판단)
+     */
+    @GetMapping("/calendar")
+    public ResponseEntity<ApiResponse<List<ScreenCalendarDto>>> getCinemaCalendar(@RequestParam Long cinemaId,
+                                                                                  @RequestParam LocalDate from,
+                                                                                  @RequestParam LocalDate to) {
+        Long userId = securityContextHelper.getCurrentUserIdOrNull();
+        return ResponseEntity.ok(ApiResponse.ofSuccess(screenService.getCinemaCalendar(cinemaId, from, to, userId)));
+    }
+
+    /**
+     * 펀딩 생성 화면에서 시간을 고를 때 해당 시간대를 짧게 선점
+     */
+    @PostMapping("/{screenId}/hold")
+    public ResponseEntity<ApiResponse<?>> holdScreenTime(@PathVariable("screenId") Long screenId,
+                                                         @RequestBody ScreenHoldRequest request) {
+        Long userId = securityContextHelper.getCurrentUserId();
+        screenHoldService.hold(userId, screenId, request.getTargetDate(), request.getStartHour(),
+                request.getEndHour());
+        return ResponseEntity.ok(ApiResponse.ofSuccess(null, "시간대 선점 성공"));
+    }
+
+    @DeleteMapping("/{screenId}/hold")
+    public ResponseEntity<ApiResponse<?>> releaseScreenTime(@PathVariable("screenId") Long screenId,
+                                                            @RequestParam LocalDate targetDate) {
+        Long userId = securityContextHelper.getCurrentUserId();
+        screenHoldService.release(userId, screenId, targetDate);
+        return ResponseEntity.ok(ApiResponse.ofSuccess(null, "시간대 선점 해제 성공"));
+    }
 }
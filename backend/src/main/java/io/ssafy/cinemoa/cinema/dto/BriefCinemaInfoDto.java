@@ -23,6 +23,8 @@ public class BriefCinemaInfoDto {
     private Boolean is4dx;
     private Boolean isDolby;
     private Boolean isRecliner;
+    private Double lat;
+    private Double lng;
 
     public static BriefCinemaInfoDto of(Cinema cinema) {
         return BriefCinemaInfoDto.builder()
@@ -36,6 +38,8 @@ public class BriefCinemaInfoDto {
                 .is4dx(cinema.getIs4dx())
                 .isDolby(cinema.getIsDolby())
                 .isRecliner(cinema.getIsRecliner())
+                .lat(cinema.getLat())
+                .lng(cinema.getLng())
                 .build();
     }
 }
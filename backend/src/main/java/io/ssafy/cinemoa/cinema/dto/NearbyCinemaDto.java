@@ -0,0 +1,17 @@
+package io.ssafy.cinemoa.cinema.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyCinemaDto {
+    private BriefCinemaInfoDto cinema;
+
+    // 요청 좌표로부터의 직선 거리 (km, 소수 둘째 자리 반올림)
+    private Double distanceKm;
+}
@@ -0,0 +1,45 @@
+package io.ssafy.cinemoa.cinema.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import io.ssafy.cinemoa.cinema.repository.entity.Screen;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상영관별 날짜 구간 예약 가능 시간 (극장 달력용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScreenCalendarDto {
+
+    // 상영관 기본 정보 (단건 조회와 같은 매핑을 평탄하게 직렬화, 단건용 시간 필드는 아래 날짜별 필드로 대체)
+    @JsonUnwrapped
+    @JsonIgnoreProperties({"available_time", "held_time"})
+    private ScreenInfoDto screen;
+
+    // 날짜 오름차순, 예약이 없는 날짜도 포함
+    @JsonProperty("available_time")
+    private Map<LocalDate, List<Byte>> availableTime;
+
+    // 다른 사용자가 선택 중인 시간 (선점이 있는 날짜만 포함)
+    @JsonProperty("held_time")
+    private Map<LocalDate, List<Byte>> heldTime;
+
+    public static ScreenCalendarDto of(Screen screen, Map<LocalDate, List<Byte>> availableTime,
+                                       Map<LocalDate, List<Byte>> heldTime) {
+        return ScreenCalendarDto.builder()
+                .screen(ScreenInfoDto.of(screen, null))
+                .availableTime(availableTime)
+                .heldTime(heldTime)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package io.ssafy.cinemoa.cinema.dto;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScreenHoldRequest {
+    private LocalDate targetDate;
+    private Byte startHour;
+    private Byte endHour;
+}
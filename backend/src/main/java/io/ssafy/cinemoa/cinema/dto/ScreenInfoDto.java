@@ -32,6 +32,10 @@ public class ScreenInfoDto {
     @JsonProperty("available_time")
     private List<Byte> availableTime;
 
+    // 다른 사용자가 선택 중인 시간 (선점 만료 전까지 예약 불가)
+    @JsonProperty("held_time")
+    private List<Byte> heldTime;
+
     public static ScreenInfoDto of(Screen screen, List<Byte> timeblocks) {
         return ScreenInfoDto.builder()
                 .screenId(screen.getScreenId())
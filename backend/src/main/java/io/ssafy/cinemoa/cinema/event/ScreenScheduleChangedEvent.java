@@ -0,0 +1,17 @@
+package io.ssafy.cinemoa.cinema.event;
+
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScreenScheduleChangedEvent {
+    private Long cinemaId;
+    private Long screenId;
+    private LocalDate targetDate;
+    // 예약한 사용자 (커밋 후 선점 해제용)
+    private Long userId;
+}
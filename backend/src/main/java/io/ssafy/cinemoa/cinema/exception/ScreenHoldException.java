@@ -0,0 +1,36 @@
+package io.ssafy.cinemoa.cinema.exception;
+
+import io.ssafy.cinemoa.cinema.util.HourBlockMask;
+import io.ssafy.cinemoa.global.enums.ResourceCode;
+import io.ssafy.cinemoa.global.exception.BaseException;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpStatus;
+
+public class ScreenHoldException extends BaseException {
+    public ScreenHoldException(String message) {
+        super(message, HttpStatus.BAD_REQUEST, ResourceCode.SCREEN);
+    }
+
+    public static ScreenHoldException ofHeldByOthers(int conflictMask) {
+        String hours = HourBlockMask.toHours(conflictMask).stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(", "));
+        return new ScreenHoldException("다른 사용자가 선택 중인 시간대입니다. (" + hours + "시)");
+    }
+
+    public static ScreenHoldException ofAlreadyBooked() {
+        return new ScreenHoldException("이미 예약된 시간대입니다.");
+    }
+
+    public static ScreenHoldException ofInvalidRange() {
+        return new ScreenHoldException("예약 시간대가 잘못되었습니다.");
+    }
+
+    public static ScreenHoldException ofInvalidDate() {
+        return new ScreenHoldException("선점할 수 없는 날짜입니다.");
+    }
+
+    public static ScreenHoldException ofNotHolding() {
+        return new ScreenHoldException("선택 중인 시간대가 없습니다.");
+    }
+}
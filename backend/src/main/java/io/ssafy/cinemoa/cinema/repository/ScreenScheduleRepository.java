@@ -0,0 +1,82 @@
+package io.ssafy.cinemoa.cinema.repository;
+
+import io.ssafy.cinemoa.cinema.util.HourBlockMask;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ScreenScheduleRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * startHour~endHour 구간이 모두 비어 있을 때만 예약 (compare-and-set)
+     * <p>
+     * 날짜 행을 먼저 보장한 뒤, 겹치는 비트가 없을 때만 OR 하는 조건부 UPDATE 한 번으로 확인과 예약을 같이 처리한다.
+     * 행 잠금은 트랜잭션 종료까지 유지되므로 동시에 들어온 예약은 앞선 예약이 반영된 마스크로 다시 판단된다.
+     *
+     * @return 예약 성공 여부 (이미 예약된 시간과 겹치거나 구간이 잘못되면 false)
+     */
+    public boolean reserveIfAvailable(Long screenId, LocalDate targetDate, Byte startHour, Byte endHour) {
+        if (startHour == null || endHour == null || startHour < 0 || endHour >= HourBlockMask.HOURS_PER_DAY
+                || startHour > endHour) {
+            return false;
+        }
+
+        int mask = HourBlockMask.rangeOf(startHour, endHour);
+
+        jdbcTemplate.update("""
+                INSERT IGNORE INTO screen_schedules (screen_id, target_date, booked_mask)
+                VALUES (?, ?, 0)
+                """, screenId, targetDate);
+
+        int updated = jdbcTemplate.update("""
+                UPDATE screen_schedules
+                SET booked_mask = booked_mask | ?
+                WHERE screen_id = ? AND target_date = ? AND (booked_mask & ?) = 0
+                """, mask, screenId, targetDate, mask);
+
+        return updated == 1;
+    }
+
+    /**
+     * 날짜의 예약 마스크 조회 (예약이 없으면 0)
+     */
+    public int findBookedMask(Long screenId, LocalDate targetDate) {
+        List<Integer> masks = jdbcTemplate.queryForList("""
+                SELECT booked_mask
+                FROM screen_schedules
+                WHERE screen_id = ? AND target_date = ?
+                """, Integer.class, screenId, targetDate);
+
+        return masks.isEmpty() ? 0 : masks.get(0);
+    }
+
+    /**
+     * 극장의 모든 상영관에 대해 날짜 구간(from~to, 포함)의 예약 마스크를 한 번에 조회
+     *
+     * @return 상영관 ID → (날짜 → 예약 마스크), 예약 행이 없는 날짜는 포함하지 않음
+     */
+    public Map<Long, Map<LocalDate, Integer>> findBookedMasksOfCinema(Long cinemaId, LocalDate from, LocalDate to) {
+        Map<Long, Map<LocalDate, Integer>> masks = new HashMap<>();
+
+        jdbcTemplate.query("""
+                SELECT ss.screen_id, ss.target_date, ss.booked_mask
+                FROM screen_schedules ss
+                JOIN screens s ON s.screen_id = ss.screen_id
+                WHERE s.cinema_id = ?
+                  AND ss.target_date BETWEEN ? AND ?
+                """, (RowCallbackHandler) rs -> masks
+                .computeIfAbsent(rs.getLong("screen_id"), id -> new HashMap<>())
+                .put(rs.getDate("target_date").toLocalDate(), rs.getInt("booked_mask")), cinemaId, from, to);
+
+        return masks;
+    }
+}
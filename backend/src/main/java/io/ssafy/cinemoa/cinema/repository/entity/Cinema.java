@@ -60,6 +60,13 @@ public class Cinema {
     @ColumnDefault("false")
     private Boolean isRecliner;
 
+    // 위도/경도 (좌표가 없는 극장은 거리 검색에서 제외)
+    @Column(name = "lat")
+    private Double lat;
+
+    @Column(name = "lng")
+    private Double lng;
+
     @Override
     public final boolean equals(Object o) {
         if (this == o) {
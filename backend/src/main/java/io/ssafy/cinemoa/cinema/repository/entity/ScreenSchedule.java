@@ -17,28 +17,34 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+/**
+ * 상영관 날짜별 예약 현황
+ * <p>
+ * 하루 24개 시간 블럭을 booked_mask 한 컬럼의 비트로 저장한다. (n번 비트 = n시, 1이면 예약됨)
+ * 예약은 ScreenScheduleRepository의 조건부 UPDATE로만 수행한다.
+ */
 @Getter
 @Setter
 @Entity
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "screen_unavailable_time", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"screen_id", "target_date", "hour_block"})
+@Table(name = "screen_schedules", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_screen_schedules_screen_date", columnNames = {"screen_id", "target_date"})
 })
-public class ScreenUnavailableTime {
+public class ScreenSchedule {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(nullable = false)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "screen_id")
+    @JoinColumn(name = "screen_id", nullable = false)
     private Screen screen;
 
     @Column(nullable = false, name = "target_date")
     private LocalDate targetDate;
 
-    @Column(nullable = false, columnDefinition = "tinyint", name = "hour_block")
-    private Byte hourBlock;
+    @Column(nullable = false, name = "booked_mask")
+    private Integer bookedMask;
 }
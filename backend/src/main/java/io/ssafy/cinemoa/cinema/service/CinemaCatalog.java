@@ -0,0 +1,164 @@
+package io.ssafy.cinemoa.cinema.service;
+
+import io.ssafy.cinemoa.cinema.enums.CinemaFeature;
+import io.ssafy.cinemoa.cinema.repository.CinemaRepository;
+import io.ssafy.cinemoa.cinema.repository.ScreenRepository;
+import io.ssafy.cinemoa.cinema.repository.entity.Cinema;
+import io.ssafy.cinemoa.cinema.repository.entity.Screen;
+import io.ssafy.cinemoa.cinema.util.FeatureMask;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 극장/상영관 읽기 전용 카탈로그
+ * <p>
+ * 극장은 100개 미만이고 거의 바뀌지 않으므로 전체를 메모리 스냅샷으로 들고,
+ * 특별관 여부는 비트마스크로, 시/구는 별도 인덱스로 두어 목록 필터를 DB 없이 처리한다.
+ * 스냅샷은 기동 시와 10분마다 통째로 교체하며, 교체할 때 위치 인덱스도 같은 데이터로 다시 만든다.
+ * 극장/상영관은 애플리케이션에서 수정하지 않으므로 별도 무효화가 없다. DB를 직접 수정하면 다음 교체까지
+ * 최대 10분 동안 이전 값(목록 필터, 상영관 가격/좌석 수, 위치 검색)이 보이며, 바로 반영하려면 서버를 재시작한다.
+ * <p>
+ * 스냅샷의 엔티티는 영속성 컨텍스트에서 분리된 객체이므로 읽기 전용으로만 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CinemaCatalog {
+
+    private final CinemaRepository cinemaRepository;
+    private final ScreenRepository screenRepository;
+    private final CinemaGeoIndex cinemaGeoIndex;
+
+    private volatile CatalogSnapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void refresh() {
+        try {
+            CatalogSnapshot loaded = load();
+            log.info("극장 카탈로그 재구성 완료 - 극장: {}개, 상영관: {}개", loaded.cinemas().size(),
+                    loaded.screens().size());
+        } catch (Exception e) {
+            log.error("극장 카탈로그 재구성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 극장 목록 필터 (시/구 일치, 특별관 비트 연산, 극장 ID)
+     */
+    public List<Cinema> findCinemas(String city, String district, Set<CinemaFeature> features, Long cinemaId) {
+        CatalogSnapshot current = current();
+
+        Collection<CinemaEntry> candidates;
+        if (cinemaId != null) {
+            CinemaEntry entry = current.cinemas().get(cinemaId);
+            candidates = entry == null ? List.of() : List.of(entry);
+        } else if (city != null) {
+            candidates = current.byCity().getOrDefault(city, List.of());
+        } else if (district != null) {
+            candidates = current.byDistrict().getOrDefault(district, List.of());
+        } else {
+            candidates = current.cinemas().values();
+        }
+
+        List<Cinema> result = new ArrayList<>();
+        for (CinemaEntry entry : candidates) {
+            Cinema cinema = entry.cinema();
+            if ((city == null || city.equals(cinema.getCity()))
+                    && (district == null || district.equals(cinema.getDistrict()))
+                    && FeatureMask.matches(entry.featureMask(), features)) {
+                result.add(cinema);
+            }
+        }
+        return result;
+    }
+
+    public Optional<Cinema> findCinema(Long cinemaId) {
+        return Optional.ofNullable(current().cinemas().get(cinemaId)).map(CinemaEntry::cinema);
+    }
+
+    public List<Screen> findScreensOfCinema(Long cinemaId) {
+        CinemaEntry entry = current().cinemas().get(cinemaId);
+        return entry == null ? List.of() : entry.screens();
+    }
+
+    public Optional<ScreenEntry> findScreen(Long screenId) {
+        return Optional.ofNullable(current().screens().get(screenId));
+    }
+
+    private CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot;
+        return current != null ? current : loadIfAbsent();
+    }
+
+    // 기동 완료 전에 들어온 요청은 직접 읽어서 채움
+    private synchronized CatalogSnapshot loadIfAbsent() {
+        return snapshot != null ? snapshot : load();
+    }
+
+    private synchronized CatalogSnapshot load() {
+        List<Cinema> cinemas = cinemaRepository.findAll();
+        List<Screen> screens = screenRepository.findAll();
+
+        Map<Long, List<Screen>> screensByCinema = new HashMap<>();
+        Map<Long, ScreenEntry> screenEntries = new HashMap<>();
+        for (Screen screen : screens) {
+            Long cinemaId = screen.getCinema().getCinemaId();
+            screensByCinema.computeIfAbsent(cinemaId, id -> new ArrayList<>()).add(screen);
+            screenEntries.put(screen.getScreenId(), new ScreenEntry(screen, cinemaId));
+        }
+
+        Map<Long, CinemaEntry> cinemaEntries = new LinkedHashMap<>();
+        Map<String, List<CinemaEntry>> byCity = new HashMap<>();
+        Map<String, List<CinemaEntry>> byDistrict = new HashMap<>();
+        cinemas.sort(Comparator.comparing(Cinema::getCinemaId));
+        for (Cinema cinema : cinemas) {
+            List<Screen> screensOfCinema = screensByCinema.getOrDefault(cinema.getCinemaId(), List.of());
+            List<Screen> sortedScreens = screensOfCinema.stream()
+                    .sorted(Comparator.comparing(Screen::getScreenId))
+                    .toList();
+
+            CinemaEntry entry = new CinemaEntry(cinema,
+                    FeatureMask.of(cinema.getIsImax(), cinema.getIsScreenX(), cinema.getIs4dx(), cinema.getIsDolby(),
+                            cinema.getIsRecliner()),
+                    sortedScreens);
+
+            cinemaEntries.put(cinema.getCinemaId(), entry);
+            if (cinema.getCity() != null) {
+                byCity.computeIfAbsent(cinema.getCity(), key -> new ArrayList<>()).add(entry);
+            }
+            if (cinema.getDistrict() != null) {
+                byDistrict.computeIfAbsent(cinema.getDistrict(), key -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        CatalogSnapshot loaded = new CatalogSnapshot(cinemaEntries, screenEntries, byCity, byDistrict);
+        snapshot = loaded;
+        cinemaGeoIndex.rebuild(cinemaEntries.values());
+        return loaded;
+    }
+
+    public record CinemaEntry(Cinema cinema, int featureMask, List<Screen> screens) {
+    }
+
+    public record ScreenEntry(Screen screen, Long cinemaId) {
+    }
+
+    private record CatalogSnapshot(Map<Long, CinemaEntry> cinemas, Map<Long, ScreenEntry> screens,
+                                   Map<String, List<CinemaEntry>> byCity,
+                                   Map<String, List<CinemaEntry>> byDistrict) {
+    }
+}
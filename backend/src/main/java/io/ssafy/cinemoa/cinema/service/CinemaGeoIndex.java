@@ -0,0 +1,110 @@
+package io.ssafy.cinemoa.cinema.service;
+
+import io.ssafy.cinemoa.cinema.enums.CinemaFeature;
+import io.ssafy.cinemoa.cinema.repository.entity.Cinema;
+import io.ssafy.cinemoa.cinema.service.CinemaCatalog.CinemaEntry;
+import io.ssafy.cinemoa.cinema.util.FeatureMask;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 극장 위치 인덱스
+ * <p>
+ * 좌표가 있는 극장 목록을 메모리에 두고 거리 검색을 전체 스캔으로 처리한다.
+ * 극장은 100개 미만이라 격자 같은 공간 인덱스보다 전체 거리 계산이 더 싸고,
+ * 요청 좌표가 극장들과 얼마나 멀든 비용이 극장 수로 고정된다.
+ * <p>
+ * 목록은 CinemaCatalog가 스냅샷을 교체할 때 함께 다시 만든다.
+ */
+@Slf4j
+@Component
+public class CinemaGeoIndex {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private volatile List<CinemaEntry> located = List.of();
+
+    /**
+     * 카탈로그 스냅샷이 바뀔 때 같은 데이터로 재구성
+     */
+    public void rebuild(Collection<CinemaEntry> cinemas) {
+        located = cinemas.stream()
+                .filter(entry -> entry.cinema().getLat() != null && entry.cinema().getLng() != null)
+                .toList();
+        log.info("극장 위치 인덱스 재구성 완료 - 좌표가 있는 극장 수: {}", located.size());
+    }
+
+    /**
+     * 반경(km) 안의 극장을 가까운 순으로 조회
+     */
+    public List<CinemaDistance> findWithinRadius(double lat, double lng, double radiusKm,
+                                                 Set<CinemaFeature> features) {
+        // 위도 차이만으로 반경을 벗어나는 극장은 거리 계산 없이 제외
+        double latDelta = radiusKm / KM_PER_DEGREE;
+
+        List<CinemaDistance> result = new ArrayList<>();
+        for (CinemaEntry entry : located) {
+            Cinema cinema = entry.cinema();
+            if (Math.abs(cinema.getLat() - lat) > latDelta || !FeatureMask.matches(entry.featureMask(), features)) {
+                continue;
+            }
+            double distance = distanceKm(lat, lng, cinema.getLat(), cinema.getLng());
+            if (distance <= radiusKm) {
+                result.add(new CinemaDistance(cinema, distance));
+            }
+        }
+
+        result.sort(Comparator.comparingDouble(CinemaDistance::distanceKm));
+        return result;
+    }
+
+    /**
+     * 가장 가까운 극장 k개 조회
+     */
+    public List<CinemaDistance> findNearest(double lat, double lng, int k, Set<CinemaFeature> features) {
+        if (k <= 0) {
+            return List.of();
+        }
+
+        List<CinemaDistance> candidates = new ArrayList<>();
+        for (CinemaEntry entry : located) {
+            if (FeatureMask.matches(entry.featureMask(), features)) {
+                Cinema cinema = entry.cinema();
+                candidates.add(new CinemaDistance(cinema, distanceKm(lat, lng, cinema.getLat(), cinema.getLng())));
+            }
+        }
+
+        candidates.sort(Comparator.comparingDouble(CinemaDistance::distanceKm));
+        return candidates.size() > k ? List.copyOf(candidates.subList(0, k)) : candidates;
+    }
+
+    /**
+     * 좌표가 있는 전체 극장을 가까운 순으로 정렬한 ID 목록 (거리순 펀딩 검색용)
+     */
+    public List<Long> findCinemaIdsByDistance(double lat, double lng) {
+        return findNearest(lat, lng, Integer.MAX_VALUE, null).stream()
+                .map(distance -> distance.cinema().getCinemaId())
+                .toList();
+    }
+
+    /**
+     * 하버사인 거리 (km)
+     */
+    static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    public record CinemaDistance(Cinema cinema, double distanceKm) {
+    }
+}
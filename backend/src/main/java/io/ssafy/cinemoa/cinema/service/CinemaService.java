@@ -2,11 +2,11 @@ package io.ssafy.cinemoa.cinema.service;
 
 import io.ssafy.cinemoa.cinema.dto.BriefCinemaInfoDto;
 import io.ssafy.cinemoa.cinema.dto.CinemaInfoDto;
+import io.ssafy.cinemoa.cinema.dto.NearbyCinemaDto;
 import io.ssafy.cinemoa.cinema.enums.CinemaFeature;
-import io.ssafy.cinemoa.cinema.repository.CinemaRepository;
-import io.ssafy.cinemoa.cinema.repository.ScreenRepository;
 import io.ssafy.cinemoa.cinema.repository.entity.Cinema;
-import io.ssafy.cinemoa.cinema.repository.entity.Screen;
+import io.ssafy.cinemoa.cinema.service.CinemaGeoIndex.CinemaDistance;
+import io.ssafy.cinemoa.global.exception.BadRequestException;
 import io.ssafy.cinemoa.global.exception.ResourceNotFoundException;
 import java.util.ArrayList;
 import java.util.List;
@@ -18,45 +18,60 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CinemaService {
 
-    private final CinemaRepository cinemaRepository;
-    private final ScreenRepository screenRepository;
+    private static final int DEFAULT_NEARBY_LIMIT = 10;
+    private static final int MAX_NEARBY_LIMIT = 50;
+    private static final double MAX_RADIUS_KM = 50;
 
+    private final CinemaCatalog cinemaCatalog;
+    private final CinemaGeoIndex cinemaGeoIndex;
+
+    /**
+     * 극장 목록 필터 (메모리 카탈로그에서 시/구 인덱스와 특별관 비트마스크로 처리)
+     */
     public List<BriefCinemaInfoDto> getAllCinema(String city, String district, Set<CinemaFeature> feature,
                                                  Long cinemaId) {
-        List<Cinema> filtered;
-
-        boolean imax = false;
-        boolean recliner = false;
-        boolean dolby = false;
-        boolean screenx = false;
-        boolean fDX = false;
-        boolean normal = false;
-
-        if (feature != null) {
-            imax = feature.contains(CinemaFeature.IMAX);
-            recliner = feature.contains(CinemaFeature.RECLINER);
-            dolby = feature.contains(CinemaFeature.DOLBY);
-            screenx = feature.contains(CinemaFeature.SCREENX);
-            fDX = feature.contains(CinemaFeature.FDX);
-            normal = feature.contains(CinemaFeature.NORMAL);
-        }
-
-        filtered = cinemaRepository.findAllByFiltersAny(city, district, imax, screenx, fDX, dolby, recliner, normal,
-                cinemaId);
         List<BriefCinemaInfoDto> result = new ArrayList<>();
 
-        for (Cinema item : filtered) {
+        for (Cinema item : cinemaCatalog.findCinemas(city, district, feature, cinemaId)) {
             result.add(BriefCinemaInfoDto.of(item));
         }
 
         return result;
     }
 
+    /**
+     * 주변 극장 조회 (가까운 순)
+     * <p>
+     * 반경이 있으면 반경 안에서, 없으면 가장 가까운 limit개를 찾는다. 특별관 필터는 전체 목록 조회와 같은 규칙이다.
+     */
+    public List<NearbyCinemaDto> getNearbyCinemas(Double lat, Double lng, Double radiusKm, Integer limit,
+                                                  Set<CinemaFeature> feature) {
+        if (lat == null || lng == null || lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw BadRequestException.ofInput("좌표가 잘못되었습니다.");
+        }
+        if (radiusKm != null && (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM)) {
+            throw BadRequestException.ofInput("반경은 0보다 크고 " + (int) MAX_RADIUS_KM + "km 이하여야 합니다.");
+        }
+
+        int size = limit == null || limit <= 0 ? DEFAULT_NEARBY_LIMIT : Math.min(limit, MAX_NEARBY_LIMIT);
+
+        List<CinemaDistance> found = radiusKm == null
+                ? cinemaGeoIndex.findNearest(lat, lng, size, feature)
+                : cinemaGeoIndex.findWithinRadius(lat, lng, radiusKm, feature);
+
+        return found.stream()
+                .limit(size)
+                .map(item -> NearbyCinemaDto.builder()
+                        .cinema(BriefCinemaInfoDto.of(item.cinema()))
+                        .distanceKm(Math.round(item.distanceKm() * 100) / 100.0)
+                        .build())
+                .toList();
+    }
+
     public CinemaInfoDto getCertainCinema(Long cinemaId) {
-        Cinema cinema = cinemaRepository.findById(cinemaId)
+        Cinema cinema = cinemaCatalog.findCinema(cinemaId)
                 .orElseThrow(ResourceNotFoundException::ofCinema);
-        List<Screen> screens = screenRepository.findByCinema_CinemaId(cinemaId);
-        return CinemaInfoDto.of(cinema, screens);
+        return CinemaInfoDto.of(cinema, cinemaCatalog.findScreensOfCinema(cinemaId));
     }
 
 
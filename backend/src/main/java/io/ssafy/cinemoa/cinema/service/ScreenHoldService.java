@@ -0,0 +1,226 @@
+package io.ssafy.cinemoa.cinema.service;
+
+import io.ssafy.cinemoa.cinema.event.ScreenScheduleChangedEvent;
+import io.ssafy.cinemoa.cinema.exception.ScreenHoldException;
+import io.ssafy.cinemoa.cinema.repository.ScreenScheduleRepository;
+import io.ssafy.cinemoa.cinema.util.HourBlockMask;
+import io.ssafy.cinemoa.global.exception.ResourceNotFoundException;
+import io.ssafy.cinemoa.global.redis.service.RedisService;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상영관 시간대 선점(hold) 관리
+ * <p>
+ * 사용자가 펀딩 생성 화면에서 시간을 고르면 (상영관, 날짜)별 Redis 해시에 "사용자 → 시간 마스크:만료 시각"을 기록해
+ * 짧게 선점한다. 다른 사용자와 겹치는 시간은 이미지 업로드 전에 바로 실패시키고,
+ * 실제 예약(DB 마스크 CAS)은 펀딩 저장 직전에 짧게 처리한다.
+ * <p>
+ * 해시 필드에는 개별 만료가 없으므로 만료 시각을 값에 함께 두고, 스크립트가 읽을 때 지난 항목을 무시/정리한다.
+ */
+@Slf4j
+@Service
+public class ScreenHoldService {
+
+    private static final String HOLD_KEY_PREFIX = "screen:hold:";
+
+    /**
+     * KEYS[1] = 선점 해시 키, ARGV = [사용자 ID, 요청 마스크, 현재 시각(ms), 유지 시간(ms)]
+     * 반환: {1, 0} 성공 / {0, 겹치는 마스크} 다른 사용자가 선점 중
+     */
+    private static final String HOLD_SCRIPT = """
+            local key = KEYS[1]
+            local holder = ARGV[1]
+            local mask = tonumber(ARGV[2])
+            local now = tonumber(ARGV[3])
+            local ttl = tonumber(ARGV[4])
+
+            local conflict = 0
+            local entries = redis.call("hgetall", key)
+            for i = 1, #entries, 2 do
+                local value = entries[i + 1]
+                local sep = string.find(value, ":")
+                local heldMask = tonumber(string.sub(value, 1, sep - 1))
+                local expiresAt = tonumber(string.sub(value, sep + 1))
+                if expiresAt <= now then
+                    redis.call("hdel", key, entries[i])
+                elseif entries[i] ~= holder then
+                    conflict = bit.bor(conflict, bit.band(heldMask, mask))
+                end
+            end
+
+            if conflict ~= 0 then
+                return {0, conflict}
+            end
+
+            -- 같은 사용자가 다시 고르면 이전 선점을 덮어씀
+            redis.call("hset", key, holder, mask .. ":" .. (now + ttl))
+            if redis.call("pttl", key) < ttl then
+                redis.call("pexpire", key, ttl)
+            end
+
+            return {1, 0}
+            """;
+
+    /**
+     * KEYS = 선점 해시 키 목록, ARGV = [현재 시각(ms), 제외할 사용자 ID(없으면 빈 문자열)]
+     * 반환: 키 순서대로 만료되지 않은 선점 마스크를 OR 한 값
+     */
+    private static final String HELD_MASKS_SCRIPT = """
+            local now = tonumber(ARGV[1])
+            local exclude = ARGV[2]
+            local result = {}
+
+            for k = 1, #KEYS do
+                local held = 0
+                local entries = redis.call("hgetall", KEYS[k])
+                for i = 1, #entries, 2 do
+                    local value = entries[i + 1]
+                    local sep = string.find(value, ":")
+                    local expiresAt = tonumber(string.sub(value, sep + 1))
+                    if expiresAt > now and entries[i] ~= exclude then
+                        held = bit.bor(held, tonumber(string.sub(value, 1, sep - 1)))
+                    end
+                end
+                result[k] = held
+            end
+
+            return result
+            """;
+
+    private final RedisService redisService;
+    private final ScreenScheduleRepository scheduleRepository;
+    private final CinemaCatalog cinemaCatalog;
+    private final Duration holdDuration;
+
+    public ScreenHoldService(RedisService redisService, ScreenScheduleRepository scheduleRepository,
+                             CinemaCatalog cinemaCatalog,
+                             @Value("${screen.hold.ttl-seconds:300}") long holdSeconds) {
+        this.redisService = redisService;
+        this.scheduleRepository = scheduleRepository;
+        this.cinemaCatalog = cinemaCatalog;
+        this.holdDuration = Duration.ofSeconds(holdSeconds);
+    }
+
+    /**
+     * startHour~endHour 구간 선점 (같은 사용자의 같은 상영관/날짜 선점은 새 구간으로 교체되고 만료 시간이 연장됨)
+     * <p>
+     * 이미 예약된 시간이거나 다른 사용자가 선점 중인 시간과 겹치면 바로 실패한다.
+     * 없는 상영관이나 지난 날짜는 Redis 키를 만들지 않고 거절한다.
+     */
+    public void hold(Long userId, Long screenId, LocalDate targetDate, Byte startHour, Byte endHour) {
+        if (cinemaCatalog.findScreen(screenId).isEmpty()) {
+            throw ResourceNotFoundException.ofScreen();
+        }
+        if (targetDate == null || targetDate.isBefore(LocalDate.now())) {
+            throw ScreenHoldException.ofInvalidDate();
+        }
+        int mask = maskOf(startHour, endHour);
+
+        if ((scheduleRepository.findBookedMask(screenId, targetDate) & mask) != 0) {
+            throw ScreenHoldException.ofAlreadyBooked();
+        }
+
+        List<Object> result = redisService.execute(
+                RedisScript.of(HOLD_SCRIPT, List.class),
+                List.of(keyOf(screenId, targetDate)),
+                userId.toString(),
+                String.valueOf(mask),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(holdDuration.toMillis()));
+
+        if ((Long) result.get(0) == 0) {
+            throw ScreenHoldException.ofHeldByOthers(((Long) result.get(1)).intValue());
+        }
+    }
+
+    public void release(Long userId, Long screenId, LocalDate targetDate) {
+        if (!redisService.removeHashField(keyOf(screenId, targetDate), userId.toString())) {
+            throw ScreenHoldException.ofNotHolding();
+        }
+    }
+
+    /**
+     * 다른 사용자가 선점 중인 시간 마스크 (excludeUserId의 선점은 제외, null이면 전부 포함)
+     */
+    public int findHeldMask(Long screenId, LocalDate targetDate, Long excludeUserId) {
+        return findHeldMasks(List.of(screenId), targetDate, targetDate, excludeUserId)
+                .getOrDefault(screenId, Map.of())
+                .getOrDefault(targetDate, 0);
+    }
+
+    /**
+     * 여러 상영관의 날짜 구간(from~to, 포함) 선점 마스크를 스크립트 한 번으로 조회
+     *
+     * @return 상영관 ID → (날짜 → 선점 마스크), 선점이 없는 날짜는 포함하지 않음
+     */
+    public Map<Long, Map<LocalDate, Integer>> findHeldMasks(List<Long> screenIds, LocalDate from, LocalDate to,
+                                                           Long excludeUserId) {
+        List<String> keys = new ArrayList<>();
+        for (Long screenId : screenIds) {
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                keys.add(keyOf(screenId, date));
+            }
+        }
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> result = redisService.execute(
+                RedisScript.of(HELD_MASKS_SCRIPT, List.class),
+                keys,
+                String.valueOf(System.currentTimeMillis()),
+                excludeUserId == null ? "" : excludeUserId.toString());
+
+        Map<Long, Map<LocalDate, Integer>> masks = new HashMap<>();
+        int index = 0;
+        for (Long screenId : screenIds) {
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                int held = ((Long) result.get(index++)).intValue();
+                if (held != 0) {
+                    masks.computeIfAbsent(screenId, id -> new HashMap<>()).put(date, held);
+                }
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * 예약이 커밋되면 예약한 사용자의 선점 해제 (DB 마스크가 대신 막아 줌)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleScreenScheduleChanged(ScreenScheduleChangedEvent event) {
+        if (event.getUserId() == null || event.getScreenId() == null || event.getTargetDate() == null) {
+            return;
+        }
+        try {
+            redisService.removeHashField(keyOf(event.getScreenId(), event.getTargetDate()),
+                    event.getUserId().toString());
+        } catch (Exception e) {
+            // 선점은 만료 시간이 지나면 자연히 풀리므로 로그만 남김
+            log.warn("상영관 선점 해제 실패 - screenId: {}, date: {}", event.getScreenId(), event.getTargetDate(), e);
+        }
+    }
+
+    private static int maskOf(Byte startHour, Byte endHour) {
+        if (startHour == null || endHour == null || startHour < 0 || endHour >= HourBlockMask.HOURS_PER_DAY
+                || startHour > endHour) {
+            throw ScreenHoldException.ofInvalidRange();
+        }
+        return HourBlockMask.rangeOf(startHour, endHour);
+    }
+
+    private static String keyOf(Long screenId, LocalDate targetDate) {
+        return HOLD_KEY_PREFIX + screenId + ":" + targetDate;
+    }
+}
@@ -1,104 +1,159 @@
 package io.ssafy.cinemoa.cinema.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.ssafy.cinemoa.cinema.dto.ScreenCalendarDto;
 import io.ssafy.cinemoa.cinema.dto.ScreenInfoDto;            // 화면(상영관) 정보를 담아 되돌려줄 DTO(데이터 묶음)
-import io.ssafy.cinemoa.cinema.repository.ScreenRepository;   // 화면(상영관) DB 테이블을 읽고 쓰는 도우미(리포지토리)
-import io.ssafy.cinemoa.cinema.repository.ScreenUnavailableTimeRepository; // 상영 불가 시간표 DB 리포지토리
+import io.ssafy.cinemoa.cinema.event.ScreenScheduleChangedEvent;
+import io.ssafy.cinemoa.cinema.repository.ScreenScheduleRepository; // 상영관 날짜별 예약 마스크 리포지토리
 import io.ssafy.cinemoa.cinema.repository.entity.Screen;      // 화면(상영관) 엔티티(DB 한 행을 자바 객체로 표현)
+import io.ssafy.cinemoa.cinema.service.CinemaCatalog.ScreenEntry; // 카탈로그의 상영관 항목
+import io.ssafy.cinemoa.cinema.util.HourBlockMask;            // 24시간 예약 비트마스크 계산 도우미
+import io.ssafy.cinemoa.global.exception.BadRequestException;
 import io.ssafy.cinemoa.global.exception.ResourceNotFoundException; // 데이터를 못 찾았을 때 던지는 예외
+import io.ssafy.cinemoa.global.redis.service.RedisService;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;                         // final 필드로 생성자를 자동 생성해주는 롬복 어노테이션
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;                // "이 클래스는 비즈니스 로직을 담당해!" 라는 표시
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+@Slf4j
 @Service                                                     // 스프링이 이 클래스를 서비스 빈으로 등록함
 @RequiredArgsConstructor                                     // 아래 final 필드들을 받는 생성자를 자동으로 만들어 줌
 public class ScreenService {
 
+    // 예약으로 바뀐 극장의 달력 캐시 무효화 채널 (메시지: 극장 ID)
+    public static final String CALENDAR_INVALIDATE_CHANNEL = "cinema:calendar:invalidate";
+
+    // 달력 조회 최대 기간 (한 달 보기 + 앞뒤 주)
+    private static final int MAX_CALENDAR_DAYS = 42;
+
     // 생성자 주입 대상(스프링이 알아서 넣어줌). DB 접근 도우미(리포지토리)들
-    private final ScreenRepository screenRepository;
-    private final ScreenUnavailableTimeRepository timeRepository;
+    private final CinemaCatalog cinemaCatalog;
+    private final ScreenScheduleRepository scheduleRepository;
+
+    private final ScreenHoldService screenHoldService;
+    private final RedisService redisService;
+
+    // 극장 달력 예약 마스크 캐시 (다른 서버의 예약은 무효화 메시지로, 전파 실패 시에도 만료 시간 안에 반영)
+    private final Cache<CalendarKey, Map<Long, Map<LocalDate, Integer>>> calendarCache = Caffeine.newBuilder()
+            .maximumSize(500)
+            .expireAfterWrite(Duration.ofSeconds(10))
+            .build();
 
     /**
      * 특정 상영관(screenId)의 targetDate 날짜에 '예약 가능한 시간들'을 구해서 돌려주는 메서드
      * @param screenId   상영관 ID (예: 3번관)
      * @param targetDate 어떤 날짜인지 (예: 2025-09-10)
-     * @return ScreenInfoDto (상영관 기본 정보 + 가능한 시간 목록)
+     * @param userId     조회하는 사용자 ID (본인이 선점한 시간은 가능한 시간으로 보여줌, 없으면 null)
+     * @return ScreenInfoDto (상영관 기본 정보 + 가능한 시간 목록 + 다른 사용자가 선택 중인 시간 목록)
      */
-    public ScreenInfoDto getAvailableTimesOfScreen(Long screenId, LocalDate targetDate) {
+    public ScreenInfoDto getAvailableTimesOfScreen(Long screenId, LocalDate targetDate, Long userId) {
         // 1) 상영관 존재 여부 확인 (없으면 예외 던져서 바로 끝냄)
-        //    findById(...)는 Optional을 주고, orElseThrow(...)로 "없을 때 예외"를 지정함
-        Screen screen = screenRepository.findById(screenId)
+        //    findScreen(...)는 Optional을 주고, orElseThrow(...)로 "없을 때 예외"를 지정함
+        //    (상영관 정보는 메모리 카탈로그에서 바로 꺼냄)
+        Screen screen = cinemaCatalog.findScreen(screenId)
+                .map(ScreenEntry::screen)
                 .orElseThrow(ResourceNotFoundException::ofScreen); // 메서드 참조 문법(없을 때 예외 생성)
 
-        // 2) 그 날짜에 "이미 막혀있는 시간대(한 시간 단위 블럭)" 목록을 DB에서 가져옴
-        //    메서드 이름이 길어 보이지만, "화면ID와 날짜로 hourBlock을 올림차순으로" 라는 의미를 그대로 이름에 씀
-        //    Set<Byte> : 중복 없이 시간 숫자(0~23)를 담는 집합
-        Set<Byte> unavailableTimes =
-                timeRepository.findHourBlocksByScreen_ScreenIdAndTargetDateOrderByHourBlockAsc(
-                        screenId, targetDate);
+        // 2) 그 날짜의 예약 마스크 한 행을 읽어옴 (n번 비트가 켜져 있으면 n시는 이미 예약됨)
+        int bookedMask = scheduleRepository.findBookedMask(screenId, targetDate);
 
-        // 3) 0~23시 중에서 가능한 시간대를 모아 List로 만듦
+        // 3) 다른 사용자가 선택 중인(선점한) 시간은 Redis에서 바로 읽어 예약된 것처럼 취급
+        int heldMask = screenHoldService.findHeldMask(screenId, targetDate, userId) & ~bookedMask;
+
+        // 4) 비트 연산으로 예약 가능한 시간만 남김
         //    정책: 새벽 4~6시는 아예 건너뜀(유지보수/점검 시간 같은 내부 규칙이라고 이해하면 됨)
-        List<Byte> timeblocks = new ArrayList<>();
-        for (byte i = 0; i <= 23; ++i) {
-            // 새벽 4,5,6시는 제외
-            if (i >= 4 && i < 7) {
-                continue;
-            }
-            // 이미 막혀 있지 않다면(= 예약 가능하다면) 결과 목록에 추가
-            if (!unavailableTimes.contains(i)) {
-                timeblocks.add(i);
-            }
+        int availableMask = HourBlockMask.availableOf(bookedMask | heldMask);
+
+        // 5) DTO로 예쁘게 싸서 돌려줌 (화면 기본 정보 + 가능한 시간 리스트 + 선택 중인 시간 리스트)
+        ScreenInfoDto info = ScreenInfoDto.of(screen, HourBlockMask.toHours(availableMask));
+        info.setHeldTime(HourBlockMask.toHours(heldMask));
+        return info;
+    }
+
+    /**
+     * 극장의 모든 상영관에 대해 from~to(포함) 날짜별 예약 가능한 시간을 한 번에 조회 (달력 화면용)
+     * <p>
+     * 상영관 목록은 메모리 카탈로그에서, 예약 마스크는 구간 조회 1회로 처리하고, 같은 구간 요청은 짧게 캐시한다.
+     * 예약이 생기면 해당 극장 캐시를 비운다. 선점은 수시로 바뀌므로 캐시하지 않고 요청마다 Redis에서 한 번에 읽어 덮어쓴다.
+     */
+    public List<ScreenCalendarDto> getCinemaCalendar(Long cinemaId, LocalDate from, LocalDate to, Long userId) {
+        if (cinemaId == null || from == null || to == null || to.isBefore(from)) {
+            throw BadRequestException.ofInput("조회 기간이 잘못되었습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_CALENDAR_DAYS) {
+            throw BadRequestException.ofInput("최대 " + MAX_CALENDAR_DAYS + "일까지 조회할 수 있습니다.");
+        }
+
+        List<Screen> screens = cinemaCatalog.findScreensOfCinema(cinemaId);
+        if (screens.isEmpty()) {
+            throw ResourceNotFoundException.ofCinema();
+        }
+
+        Map<Long, Map<LocalDate, Integer>> bookedMasks = calendarCache.get(new CalendarKey(cinemaId, from, to),
+                key -> scheduleRepository.findBookedMasksOfCinema(cinemaId, from, to));
+        Map<Long, Map<LocalDate, Integer>> heldMasks = screenHoldService.findHeldMasks(
+                screens.stream().map(Screen::getScreenId).toList(), from, to, userId);
+
+        return toCalendar(screens, bookedMasks, heldMasks, from, to);
+    }
+
+    /**
+     * 상영관 예약 후 해당 극장의 달력 캐시를 비우고 모든 서버에 무효화 전파
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleScreenScheduleChanged(ScreenScheduleChangedEvent event) {
+        Long cinemaId = event.getCinemaId();
+        evictLocal(cinemaId);
+        try {
+            redisService.publish(CALENDAR_INVALIDATE_CHANNEL, cinemaId.toString());
+        } catch (Exception e) {
+            // 전파에 실패해도 다른 서버의 캐시는 만료 시간 안에 갱신됨
+            log.warn("극장 달력 캐시 무효화 전파 실패 - 극장ID: {}, 오류: {}", cinemaId, e.getMessage());
         }
+    }
 
-        // 4) DTO로 예쁘게 싸서 돌려줌 (화면 기본 정보 + 가능한 시간 리스트)
-        return ScreenInfoDto.of(screen, timeblocks);
+    /**
+     * 다른 서버에서 전파된 무효화 메시지 처리
+     */
+    public void evictLocal(Long cinemaId) {
+        calendarCache.asMap().keySet().removeIf(key -> key.cinemaId().equals(cinemaId));
     }
-}
 
+    private List<ScreenCalendarDto> toCalendar(List<Screen> screens, Map<Long, Map<LocalDate, Integer>> bookedMasks,
+                                               Map<Long, Map<LocalDate, Integer>> heldMasks, LocalDate from,
+                                               LocalDate to) {
+        List<ScreenCalendarDto> result = new ArrayList<>(screens.size());
+        for (Screen screen : screens) {
+            Map<LocalDate, Integer> bookedOfScreen = bookedMasks.getOrDefault(screen.getScreenId(), Map.of());
+            Map<LocalDate, Integer> heldOfScreen = heldMasks.getOrDefault(screen.getScreenId(), Map.of());
+
+            Map<LocalDate, List<Byte>> availableTime = new LinkedHashMap<>();
+            Map<LocalDate, List<Byte>> heldTime = new LinkedHashMap<>();
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                int bookedMask = bookedOfScreen.getOrDefault(date, 0);
+                int heldMask = heldOfScreen.getOrDefault(date, 0) & ~bookedMask;
+                availableTime.put(date, HourBlockMask.toHours(HourBlockMask.availableOf(bookedMask | heldMask)));
+                if (heldMask != 0) {
+                    heldTime.put(date, HourBlockMask.toHours(heldMask));
+                }
+            }
 
+            result.add(ScreenCalendarDto.of(screen, availableTime, heldTime));
+        }
 
+        return result;
+    }
 
-//package io.ssafy.cinemoa.cinema.service;
-//
-//import io.ssafy.cinemoa.cinema.dto.ScreenInfoDto;
-//import io.ssafy.cinemoa.cinema.repository.ScreenRepository;
-//import io.ssafy.cinemoa.cinema.repository.ScreenUnavailableTimeRepository;
-//import io.ssafy.cinemoa.cinema.repository.entity.Screen;
-//import io.ssafy.cinemoa.global.exception.ResourceNotFoundException;
-//import java.time.LocalDate;
-//import java.util.ArrayList;
-//import java.util.List;
-//import java.util.Set;
-//import lombok.RequiredArgsConstructor;
-//import org.springframework.stereotype.Service;
-//
-//@Service
-//@RequiredArgsConstructor
-//public class ScreenService {
-//
-//    private final ScreenRepository screenRepository;
-//    private final ScreenUnavailableTimeRepository timeRepository;
-//
-//    public ScreenInfoDto getAvailableTimesOfScreen(Long screenId, LocalDate targetDate) {
-//        Screen screen = screenRepository.findById(screenId)
-//                .orElseThrow(ResourceNotFoundException::ofScreen);
-//
-//        Set<Byte> unavailableTimes = timeRepository.findHourBlocksByScreen_ScreenIdAndTargetDateOrderByHourBlockAsc(
-//                screenId, targetDate);
-//
-//        List<Byte> timeblocks = new ArrayList<>();
-//        for (byte i = 0; i <= 23; ++i) {
-//            if (i >= 4 && i < 7) {
-//                continue;
-//            }
-//            if (!unavailableTimes.contains(i)) {
-//                timeblocks.add(i);
-//            }
-//        }
-//
-//        return ScreenInfoDto.of(screen, timeblocks);
-//    }
-//}
+    private record CalendarKey(Long cinemaId, LocalDate from, LocalDate to) {
+    }
+}
@@ -0,0 +1,53 @@
+package io.ssafy.cinemoa.cinema.util;
+
+import io.ssafy.cinemoa.cinema.enums.CinemaFeature;
+import java.util.Set;
+
+/**
+ * 극장/상영관 특별관 여부 비트마스크 유틸
+ * <p>
+ * NORMAL은 비트가 아니라 "특별관 비트가 하나도 없음"을 뜻한다.
+ */
+public final class FeatureMask {
+
+    public static final int IMAX = 1;
+    public static final int SCREENX = 1 << 1;
+    public static final int FDX = 1 << 2;
+    public static final int DOLBY = 1 << 3;
+    public static final int RECLINER = 1 << 4;
+
+    private FeatureMask() {
+    }
+
+    public static int of(Boolean imax, Boolean screenx, Boolean fdx, Boolean dolby, Boolean recliner) {
+        return bit(imax, IMAX) | bit(screenx, SCREENX) | bit(fdx, FDX) | bit(dolby, DOLBY) | bit(recliner, RECLINER);
+    }
+
+    /**
+     * 선택한 특별관을 모두 갖추었거나, NORMAL 선택 시 특별관이 하나도 없으면 일치
+     */
+    public static boolean matches(int mask, Set<CinemaFeature> features) {
+        if (features == null || features.isEmpty()) {
+            return true;
+        }
+
+        int required = 0;
+        for (CinemaFeature feature : features) {
+            required |= switch (feature) {
+                case IMAX -> IMAX;
+                case SCREENX -> SCREENX;
+                case FDX -> FDX;
+                case DOLBY -> DOLBY;
+                case RECLINER -> RECLINER;
+                case NORMAL -> 0;
+            };
+        }
+
+        return (mask & required) == required
+                || (features.contains(CinemaFeature.NORMAL) && mask == 0);
+    }
+
+    private static int bit(Boolean flag, int bit) {
+        return Boolean.TRUE.equals(flag) ? bit : 0;
+    }
+}
@@ -0,0 +1,54 @@
+package io.ssafy.cinemoa.cinema.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상영관 하루 예약 현황 비트마스크 유틸
+ * <p>
+ * 0~23시 한 시간 블럭을 비트 하나로 표현한다. (n번 비트 = n시, 1이면 예약됨)
+ */
+public final class HourBlockMask {
+
+    public static final int HOURS_PER_DAY = 24;
+
+    public static final int FULL_DAY = (1 << HOURS_PER_DAY) - 1;
+
+    // 새벽 4~6시는 점검 시간으로 예약을 받지 않음
+    public static final int CLOSED_HOURS = rangeOf(4, 6);
+
+    private HourBlockMask() {
+    }
+
+    /**
+     * startHour~endHour(포함) 구간 마스크
+     */
+    public static int rangeOf(int startHour, int endHour) {
+        if (startHour < 0 || endHour >= HOURS_PER_DAY || startHour > endHour) {
+            throw new IllegalArgumentException("잘못된 시간 구간: " + startHour + "~" + endHour);
+        }
+        return ((1 << (endHour + 1)) - 1) & ~((1 << startHour) - 1);
+    }
+
+    /**
+     * 예약 마스크에서 예약 가능한 시간 마스크 계산 (점검 시간 제외)
+     */
+    public static int availableOf(int bookedMask) {
+        // 새벽 4,5,6시는 제외
+        // 이미 막혀 있지 않다면(= 예약 가능하다면) 결과 마스크에 남김
+        return ~(bookedMask | CLOSED_HOURS) & FULL_DAY;
+    }
+
+    /**
+     * 마스크의 켜진 비트를 시간 목록으로 변환 (오름차순)
+     */
+    public static List<Byte> toHours(int mask) {
+        List<Byte> hours = new ArrayList<>(Integer.bitCount(mask));
+        int remaining = mask & FULL_DAY;
+        while (remaining != 0) {
+            hours.add((byte) Integer.numberOfTrailingZeros(remaining));
+            remaining &= remaining - 1;
+        }
+        return hours;
+    }
+}
@@ -0,0 +1,15 @@
+package io.ssafy.cinemoa.favorite.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FavoriteChangedEvent {
+    private Long userId;
+    private Long fundingId;
+    // true: 좋아요 추가, false: 좋아요 취소
+    private boolean liked;
+}
@@ -1,9 +1,11 @@
 package io.ssafy.cinemoa.favorite.service;
 
+import io.ssafy.cinemoa.favorite.event.FavoriteChangedEvent;
 import io.ssafy.cinemoa.favorite.exception.FavoriteException;
 import io.ssafy.cinemoa.favorite.repository.UserFavoriteRepository;
 import io.ssafy.cinemoa.favorite.repository.entity.UserFavorite;
 import io.ssafy.cinemoa.favorite.repository.entity.UserFavoriteId;
+import io.ssafy.cinemoa.funding.dto.CardTypeFundingInfoDto;
 import io.ssafy.cinemoa.funding.enums.FundingType;
 import io.ssafy.cinemoa.funding.event.FundingScoreUpdateEvent;
 import io.ssafy.cinemoa.funding.repository.FundingRepository;
@@ -12,14 +14,20 @@ import io.ssafy.cinemoa.funding.repository.entity.Funding;
 import io.ssafy.cinemoa.funding.repository.entity.FundingStat;
 import io.ssafy.cinemoa.global.exception.InternalServerException;
 import io.ssafy.cinemoa.global.exception.ResourceNotFoundException;
+import io.ssafy.cinemoa.global.redis.service.RedisFavoriteService;
 import io.ssafy.cinemoa.global.redis.service.RedisRankingService;
 import io.ssafy.cinemoa.user.repository.UserRepository;
 import io.ssafy.cinemoa.user.repository.entity.User;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 @RequiredArgsConstructor
@@ -34,6 +42,7 @@ public class FundingFavoriteService {
     private final UserRepository userRepository;
 
     private final RedisRankingService redisRankingService;
+    private final RedisFavoriteService redisFavoriteService;
 
     @Transactional
     public void like(Long userId, Long fundingId) {
@@ -72,6 +81,7 @@ public class FundingFavoriteService {
             }
         }
 
+        eventPublisher.publishEvent(new FavoriteChangedEvent(userId, fundingId, true));
         eventPublisher.publishEvent(new FundingScoreUpdateEvent(fundingId));
     }
 
@@ -98,6 +108,70 @@ public class FundingFavoriteService {
             log.warn("Redis 버킷 좋아요 감소 실패: fundingId={}, error={}", fundingId, e.getMessage());
         }
 
+        eventPublisher.publishEvent(new FavoriteChangedEvent(userId, fundingId, false));
         eventPublisher.publishEvent(new FundingScoreUpdateEvent(fundingId));
     }
+
+    /**
+     * 좋아요 변경 후 Redis 좋아요 집합 무효화 (커밋된 경우에만)
+     * <p>
+     * 집합을 고쳐 쓰지 않고 지운 뒤 변경 버전을 올려, 변경 전에 DB를 읽던 조회가 이전 목록을 적재하지 못하게 한다.
+     * 실패하면 집합이 만료되어 DB에서 다시 적재될 때 맞춰진다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFavoriteChanged(FavoriteChangedEvent event) {
+        try {
+            redisFavoriteService.invalidateLikedSet(event.getUserId());
+        } catch (Exception e) {
+            log.warn("Redis 좋아요 집합 무효화 실패: userId={}, fundingId={}, liked={}, error={}", event.getUserId(),
+                    event.getFundingId(), event.isLiked(), e.getMessage());
+        }
+    }
+
+    /**
+     * 주어진 펀딩 중 사용자가 좋아요한 펀딩 ID 조회
+     * <p>
+     * Redis 좋아요 집합을 우선 사용하고, 집합이 없으면 DB에서 한 번 적재한다.
+     * DB 조회와 적재 사이에 좋아요 변경이 커밋되었으면 적재하지 않고 이번 요청만 DB에서 직접 조회한다.
+     */
+    public Set<Long> findLikedFundingIds(Long userId, List<Long> fundingIds) {
+        if (userId == null || fundingIds.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        try {
+            if (!redisFavoriteService.hasLikedSet(userId)) {
+                String version = redisFavoriteService.getLikedSetVersion(userId);
+                List<Long> likedIds = userFavoriteRepository.findLikedFundingIdsByUserId(userId);
+                if (!redisFavoriteService.loadLikedSetIfUnchanged(userId, version, likedIds)) {
+                    return userFavoriteRepository.findLikedFundingIdsByUserIdAndFundingIds(userId, fundingIds);
+                }
+            }
+            return redisFavoriteService.filterLiked(userId, fundingIds);
+        } catch (Exception e) {
+            log.warn("Redis 좋아요 집합 조회 실패, DB 조회로 대체: userId={}, error={}", userId, e.getMessage());
+            return userFavoriteRepository.findLikedFundingIdsByUserIdAndFundingIds(userId, fundingIds);
+        }
+    }
+
+    /**
+     * 사용자 무관한 카드 목록에 좋아요 여부 덧씌우기
+     * <p>
+     * 공유 캐시 객체는 건드리지 않고, 좋아요 여부만 바꾼 복사본을 반환
+     */
+    public List<CardTypeFundingInfoDto> applyLikedOverlay(Long userId, List<CardTypeFundingInfoDto> cards) {
+        List<Long> fundingIds = cards.stream()
+                .map(card -> card.getFunding().getFundingId())
+                .toList();
+
+        Set<Long> likedIds = findLikedFundingIds(userId, fundingIds);
+
+        return cards.stream()
+                .map(card -> card.toBuilder()
+                        .funding(card.getFunding().toBuilder()
+                                .isLiked(likedIds.contains(card.getFunding().getFundingId()))
+                                .build())
+                        .build())
+                .toList();
+    }
 }
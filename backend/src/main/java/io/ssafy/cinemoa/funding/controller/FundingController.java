@@ -14,7 +14,13 @@ import io.ssafy.cinemoa.funding.service.FundingService;
 import io.ssafy.cinemoa.funding.service.PopularFundingService;
 import io.ssafy.cinemoa.funding.service.RecommendedFundingListService;
 import io.ssafy.cinemoa.global.response.ApiResponse;
+import io.ssafy.cinemoa.security.helper.SecurityContextHelper;
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -38,6 +44,9 @@ import org.springframework.web.multipart.MultipartFile;
 @RequestMapping("/api/funding")
 public class FundingController {
 
+    // 비로그인 조회자 지문 길이 (SHA-256 앞부분)
+    private static final int VIEWER_FINGERPRINT_BYTES = 16;
+
     private final FundingService fundingService;
     private final FundingFavoriteService fundingFavoriteService;
 
@@ -45,6 +54,8 @@ public class FundingController {
     private final RecommendedFundingListService recommendedFundingListService;
     private final PopularFundingService popularFundingService;
 
+    private final SecurityContextHelper securityContextHelper;
+
     @PostMapping
     public ResponseEntity<ApiResponse<?>> createFunding(
             @RequestPart(value = "bannerImg", required = false) MultipartFile image,
@@ -56,7 +67,9 @@ public class FundingController {
         log.info("Image content type: {}", image != null ? image.getContentType() : "null");
         log.info("FundingCreateRequest: {}", request);
         log.info("====================================");
-        FundingCreationResult result = fundingService.createFunding(image, request);
+        // 제안자와 시간대 선점 소유자는 요청 본문이 아닌 로그인 사용자로 판단
+        Long userId = securityContextHelper.getCurrentUserId();
+        FundingCreationResult result = fundingService.createFunding(userId, image, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.ofSuccess(result));
     }
 
@@ -65,14 +78,17 @@ public class FundingController {
             @PathVariable("fundingId") Long fundingId,
             @RequestBody FundingCreateRequest request) {
 
-        FundingCreationResult result = fundingService.convertToFunding(fundingId, request);
+        Long userId = securityContextHelper.getCurrentUserId();
+        FundingCreationResult result = fundingService.convertToFunding(userId, fundingId, request);
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.ofSuccess(result));
     }
 
     @GetMapping("/{fundingId}")
     public ResponseEntity<ApiResponse<?>> getFundingDetails(@PathVariable("fundingId") Long fundingId,
-                                                            @RequestParam(value = "userId", required = false) Long userId) {
-        FundingDetailResponse response = fundingService.getFundingDetail(fundingId, userId);
+                                                            @RequestParam(value = "userId", required = false) Long userId,
+                                                            HttpServletRequest httpRequest) {
+        FundingDetailResponse response = fundingService.getFundingDetail(fundingId, userId,
+                resolveViewerKey(httpRequest));
 
         return ResponseEntity.ok(ApiResponse.ofSuccess(response));
     }
@@ -142,6 +158,37 @@ public class FundingController {
         return ResponseEntity.ok(ApiResponse.ofSuccess(result, "조회 성공"));
     }
 
+    /**
+     * 조회수 중복 제거용 조회자 키 (로그인 사용자는 ID, 비로그인 사용자는 IP + User-Agent 지문)
+     * <p>
+     * 요청 파라미터의 userId는 누구나 바꿔 보낼 수 있으므로 인증 정보에서 사용자를 꺼낸다.
+     * IP는 X-Forwarded-For를 직접 읽지 않고 getRemoteAddr()를 쓴다.
+     * 프록시 뒤에서는 server.forward-headers-strategy=native로 내부 프록시가 넘긴 값만 원격 주소에 반영된다.
+     */
+    private String resolveViewerKey(HttpServletRequest httpRequest) {
+        Long currentUserId = securityContextHelper.getCurrentUserIdOrNull();
+        if (currentUserId != null) {
+            return "u:" + currentUserId;
+        }
+
+        String clientIp = httpRequest.getRemoteAddr();
+        String userAgent = httpRequest.getHeader("User-Agent");
+
+        return "a:" + fingerprint(clientIp + "\n" + (userAgent != null ? userAgent : ""));
+    }
+
+    /**
+     * 비로그인 조회자 지문: SHA-256 앞 16바이트(128비트)를 16진수로 (짧은 해시는 서로 다른 조회자가 쉽게 겹침)
+     */
+    private static String fingerprint(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, VIEWER_FINGERPRINT_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
     @PostMapping("/video-content")
     public ResponseEntity<ApiResponse<?>> processVideoContent(
             @RequestBody VideoContentRequest request) {
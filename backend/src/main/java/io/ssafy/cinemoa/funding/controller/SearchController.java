@@ -1,15 +1,23 @@
 package io.ssafy.cinemoa.funding.controller;
 
+import io.ssafy.cinemoa.funding.dto.SearchFacetResponse;
 import io.ssafy.cinemoa.funding.dto.SearchRequest;
+import io.ssafy.cinemoa.funding.dto.SearchSuggestionDto;
+import io.ssafy.cinemoa.funding.service.SearchFacetService;
 import io.ssafy.cinemoa.funding.service.SearchService;
+import io.ssafy.cinemoa.funding.service.SearchSuggestionService;
 import io.ssafy.cinemoa.global.response.ApiResponse;
 import io.ssafy.cinemoa.global.response.CursorResponse;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -17,9 +25,32 @@ import org.springframework.web.bind.annotation.RestController;
 public class SearchController {
 
     private final SearchService searchService;
+    private final SearchSuggestionService searchSuggestionService;
+    private final SearchFacetService searchFacetService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<CursorResponse<?>>> search(@ModelAttribute SearchRequest request) {
         return ResponseEntity.ok(ApiResponse.ofSuccess(searchService.search(request)));
     }
+
+    /**
+     * 검색 결과 스트리밍 응답 (응답 형태는 /api/search와 동일)
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> searchStreaming(@ModelAttribute SearchRequest request) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(searchService.searchStreaming(request));
+    }
+
+    @GetMapping("/suggestions")
+    public ResponseEntity<ApiResponse<List<SearchSuggestionDto>>> suggest(@RequestParam(required = false) String q,
+                                                                          @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(ApiResponse.ofSuccess(searchSuggestionService.suggest(q, limit)));
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<SearchFacetResponse>> facets(@ModelAttribute SearchRequest request) {
+        return ResponseEntity.ok(ApiResponse.ofSuccess(searchFacetService.getFacetCounts(request)));
+    }
 }
@@ -0,0 +1,19 @@
+package io.ssafy.cinemoa.funding.dto;
+
+import io.ssafy.cinemoa.cinema.enums.CinemaFeature;
+import io.ssafy.cinemoa.funding.enums.FundingType;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetSourceDto {
+    private Long fundingId;
+    private FundingType fundingType;
+    private Long categoryId;
+    private String district;
+    private Set<CinemaFeature> theaterTypes;
+}
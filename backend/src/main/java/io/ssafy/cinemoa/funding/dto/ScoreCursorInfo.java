@@ -0,0 +1,15 @@
+package io.ssafy.cinemoa.funding.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreCursorInfo {
+    private Double score;
+    private LocalDateTime createdAt;
+    private Long fundingId;
+}
@@ -0,0 +1,23 @@
+package io.ssafy.cinemoa.funding.dto;
+
+import io.ssafy.cinemoa.cinema.enums.CinemaFeature;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchFacetResponse {
+    // 현재 필터 조건 전체에 해당하는 진행 중 펀딩 수
+    private Integer totalCount;
+    // 구(district)별 펀딩 수
+    private Map<String, Integer> regions;
+    // 상영관 타입별 펀딩 수
+    private Map<CinemaFeature, Integer> theaterTypes;
+    // 카테고리별 펀딩 수 (상위 카테고리는 하위 카테고리 합계)
+    private Map<Long, Integer> categories;
+}
@@ -24,4 +24,8 @@ public class SearchRequest {
     @JsonProperty("isClosed")
     private Boolean isClosed;
     private String nextCursor;
+
+    // 거리순 정렬 기준 좌표
+    private Double lat;
+    private Double lng;
 }
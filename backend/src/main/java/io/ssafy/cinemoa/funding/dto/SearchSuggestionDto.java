@@ -0,0 +1,16 @@
+package io.ssafy.cinemoa.funding.dto;
+
+import io.ssafy.cinemoa.funding.enums.SuggestionType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchSuggestionDto {
+    private String text;
+    private SuggestionType type;
+    // 펀딩 제목이면 fundingId, 영화관 이름이면 cinemaId, 상영물 이름이면 null
+    private Long id;
+}
@@ -1,5 +1,5 @@
 package io.ssafy.cinemoa.funding.enums;
 
 public enum FundingSortOrder {
-    RECOMMENDED, POPULAR, LATEST
+    RECOMMENDED, POPULAR, LATEST, RELEVANCE, DISTANCE
 }
@@ -0,0 +1,5 @@
+package io.ssafy.cinemoa.funding.enums;
+
+public enum SuggestionType {
+    FUNDING_TITLE, VIDEO_NAME, CINEMA_NAME
+}
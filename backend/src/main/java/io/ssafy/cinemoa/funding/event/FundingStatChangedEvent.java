@@ -0,0 +1,12 @@
+package io.ssafy.cinemoa.funding.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FundingStatChangedEvent {
+    private Long fundingId;
+}
@@ -92,27 +92,23 @@ public class ExpiringFundingRepository {
 
         public void buildBaseQuery(Long userId) {
             sql.append("""
-                    SELECT f.funding_id, f.title, f.banner_url, f.state, f.ends_on, f.screen_day,
-                           f.funding_type, f.max_people, f.video_name, s.price,
-                           c.cinema_id, c.cinema_name, c.city, c.district,
-                           COALESCE(fs.participant_count, 0) as participant_count,
-                           COALESCE(fs.favorite_count, 0) as favorite_count,
+                    SELECT fc.funding_id, fc.title, fc.banner_url, fc.state, fc.ends_on, fc.screen_day,
+                           fc.funding_type, fc.max_people, fc.video_name, fc.price,
+                           fc.cinema_id, fc.cinema_name, fc.city, fc.district,
+                           fc.participant_count, fc.favorite_count,
                            CASE WHEN ? IS NOT NULL AND uf.user_id IS NOT NULL THEN true ELSE false END as is_liked,
-                           f.created_at as timestamp
-                    FROM fundings f
-                    LEFT JOIN cinemas c ON f.cinema_id = c.cinema_id
-                    LEFT JOIN screens s ON f.screen_id = s.screen_id
-                    LEFT JOIN funding_stats fs ON fs.funding_id = f.funding_id
-                    LEFT JOIN user_favorites uf ON uf.funding_id = f.funding_id AND uf.user_id = ? AND ? IS NOT NULL
-                    WHERE f.funding_type = 'FUNDING' AND f.state = 'ON_PROGRESS'
+                           fc.created_at as timestamp
+                    FROM funding_cards fc
+                    LEFT JOIN user_favorites uf ON uf.funding_id = fc.funding_id AND uf.user_id = ? AND ? IS NOT NULL
+                    WHERE fc.state = 'ON_PROGRESS' AND fc.funding_type = 'FUNDING'
                       AND (
-                          f.ends_on <= DATE_ADD(CURRENT_DATE, INTERVAL 2 DAY)
+                          fc.ends_on <= DATE_ADD(CURRENT_DATE, INTERVAL 2 DAY)
                           OR
-                          fs.participant_count * 100 >= f.max_people * 95
+                          fc.participant_count * 100 >= fc.max_people * 95
                       )
                     ORDER BY
-                        CASE WHEN fs.participant_count * 100 >= f.max_people * 95 THEN 1 ELSE 2 END,
-                        f.ends_on ASC
+                        CASE WHEN fc.participant_count * 100 >= fc.max_people * 95 THEN 1 ELSE 2 END,
+                        fc.ends_on ASC
                     LIMIT 10
                     """);
 
@@ -0,0 +1,135 @@
+package io.ssafy.cinemoa.funding.repository;
+
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * funding_cards 읽기 모델 동기화를 위한 Repository
+ * <p>
+ * 카드 행은 항상 원본 테이블에서 다시 계산하여 덮어쓰므로, 같은 펀딩을 여러 번 동기화해도 결과가 같다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FundingCardRepository {
+
+    // 갱신 값은 행 별칭(new)으로 참조 (VALUES() 함수는 MySQL 8.0.20부터 폐기 예정)
+    // INSERT ... SELECT에서는 SELECT 뒤에 행 별칭을 붙일 수 없으므로 파생 테이블 이름을 new로 둠
+    private static final String UPSERT_SQL = """
+            INSERT INTO funding_cards (
+                funding_id, title, banner_url, ticket_banner, state, funding_type,
+                ends_on, screen_day, screen_min_date, screen_max_date, video_name, max_people,
+                category_id, leader_id, created_at, price,
+                cinema_id, cinema_name, city, district,
+                is_imax, is_screenx, is_4dx, is_dolby, is_recliner,
+                participant_count, favorite_count, view_count, recommend_score, synced_at
+            )
+            SELECT * FROM (
+                SELECT f.funding_id, f.title, f.banner_url, f.ticket_banner, f.state, f.funding_type,
+                       f.ends_on, f.screen_day, fed.min_date AS screen_min_date, fed.max_date AS screen_max_date,
+                       f.video_name, f.max_people, f.category_id, f.leader_id, f.created_at, s.price,
+                       c.cinema_id, c.cinema_name, c.city, c.district,
+                       s.is_imax, s.is_screenx, s.is_4dx, s.is_dolby, s.is_recliner,
+                       COALESCE(fs.participant_count, 0) AS participant_count,
+                       COALESCE(fs.favorite_count, 0) AS favorite_count,
+                       COALESCE(fs.view_count, 0) AS view_count,
+                       COALESCE(fs.recommend_score, 0) AS recommend_score,
+                       NOW() AS synced_at
+                FROM fundings f
+                JOIN cinemas c ON f.cinema_id = c.cinema_id
+                LEFT JOIN screens s ON f.screen_id = s.screen_id
+                LEFT JOIN funding_stats fs ON fs.funding_id = f.funding_id
+                LEFT JOIN funding_estimate_days fed ON fed.funding_id = f.funding_id
+                %s
+            ) AS new
+            ON DUPLICATE KEY UPDATE
+                title = new.title,
+                banner_url = new.banner_url,
+                ticket_banner = new.ticket_banner,
+                state = new.state,
+                funding_type = new.funding_type,
+                ends_on = new.ends_on,
+                screen_day = new.screen_day,
+                screen_min_date = new.screen_min_date,
+                screen_max_date = new.screen_max_date,
+                video_name = new.video_name,
+                max_people = new.max_people,
+                category_id = new.category_id,
+                leader_id = new.leader_id,
+                created_at = new.created_at,
+                price = new.price,
+                cinema_id = new.cinema_id,
+                cinema_name = new.cinema_name,
+                city = new.city,
+                district = new.district,
+                is_imax = new.is_imax,
+                is_screenx = new.is_screenx,
+                is_4dx = new.is_4dx,
+                is_dolby = new.is_dolby,
+                is_recliner = new.is_recliner,
+                participant_count = new.participant_count,
+                favorite_count = new.favorite_count,
+                view_count = new.view_count,
+                recommend_score = new.recommend_score,
+                synced_at = new.synced_at
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 주어진 펀딩들의 카드 행 전체를 원본 테이블 기준으로 생성/갱신
+     */
+    public int upsertCards(Collection<Long> fundingIds) {
+        SqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fundingIds", fundingIds);
+
+        return jdbcTemplate.update(UPSERT_SQL.formatted("WHERE f.funding_id IN (:fundingIds)"), params);
+    }
+
+    /**
+     * 펀딩 ID가 (afterId, untilId] 구간인 카드 행을 원본 테이블 기준으로 생성/갱신 (전체 재구성용)
+     * <p>
+     * 전체를 한 문장으로 돌리면 원본 테이블 전체에 공유 잠금이 오래 걸리므로 PK 구간으로 나누어 실행한다.
+     */
+    public int upsertCardsInRange(long afterId, long untilId) {
+        SqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("untilId", untilId);
+
+        return jdbcTemplate.update(
+                UPSERT_SQL.formatted("WHERE f.funding_id > :afterId AND f.funding_id <= :untilId"), params);
+    }
+
+    /**
+     * 전체 재구성 구간의 끝 (펀딩이 없으면 0)
+     */
+    public long findMaxFundingId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(funding_id) FROM fundings",
+                new MapSqlParameterSource(), Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    /**
+     * 통계 컬럼만 funding_stats 기준으로 갱신 (참여/좋아요/조회/추천 점수 변경 시)
+     */
+    public int refreshStats(Collection<Long> fundingIds) {
+        String sql = """
+                UPDATE funding_cards fc
+                JOIN funding_stats fs ON fs.funding_id = fc.funding_id
+                SET fc.participant_count = fs.participant_count,
+                    fc.favorite_count = fs.favorite_count,
+                    fc.view_count = fs.view_count,
+                    fc.recommend_score = fs.recommend_score,
+                    fc.synced_at = NOW()
+                WHERE fc.funding_id IN (:fundingIds)
+                """;
+
+        SqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fundingIds", fundingIds);
+
+        return jdbcTemplate.update(sql, params);
+    }
+}
@@ -0,0 +1,196 @@
+package io.ssafy.cinemoa.funding.repository;
+
+import io.ssafy.cinemoa.funding.dto.FundingDetailResponse;
+import io.ssafy.cinemoa.funding.dto.FundingDetailResponse.CategoryInfo;
+import io.ssafy.cinemoa.funding.dto.FundingDetailResponse.CinemaInfo;
+import io.ssafy.cinemoa.funding.dto.FundingDetailResponse.FundingInfo;
+import io.ssafy.cinemoa.funding.dto.FundingDetailResponse.FundingStatInfo;
+import io.ssafy.cinemoa.funding.dto.FundingDetailResponse.ProposerInfo;
+import io.ssafy.cinemoa.funding.dto.FundingDetailResponse.ScreenInfo;
+import io.ssafy.cinemoa.funding.dto.FundingDetailResponse.VideoInfo;
+import io.ssafy.cinemoa.funding.enums.FundingState;
+import io.ssafy.cinemoa.funding.enums.FundingType;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 펀딩 상세 조회를 위한 Repository
+ * <p>
+ * 상세 화면에 필요한 펀딩/상영관/영화관/제안자/카테고리 정보와 통계/참여 여부를 나누어 조회한다.
+ * <p>
+ * API 경로: GET /api/funding/{fundingId}
+ */
+@Repository
+@RequiredArgsConstructor
+public class FundingDetailRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 생성 이후 거의 바뀌지 않는 상세 정보 조회 (캐시 대상)
+     * <p>
+     * 참여자/좋아요/조회수, 좋아요 여부, 참여 여부, 달성률은 포함하지 않는다.
+     */
+    public Optional<FundingDetailResponse> findStaticDetailById(Long fundingId) {
+        String sql = """
+                SELECT
+                    f.funding_id, f.funding_type, f.title, f.banner_url, f.content, f.state,
+                    f.ends_on, f.screen_day, f.max_people,
+                    f.video_name, f.video_content, f.screen_starts_on, f.screen_ends_on,
+                    fed.min_date as screen_min_date,
+                    fed.max_date as screen_max_date,
+                    s.screen_id, s.screen_name, s.price,
+                    s.is_imax, s.is_screenx, s.is_4dx, s.is_dolby, s.is_recliner,
+                    c.cinema_id, c.cinema_name, c.city, c.district, c.address,
+                    u.user_id as proposer_id, u.nickname, u.profile_img_url,
+                    cat.category_id, cat.tag_name as category_name,
+                    pcat.category_id as parent_category_id, pcat.tag_name as parent_category_name
+                FROM fundings f
+                JOIN cinemas c ON f.cinema_id = c.cinema_id
+                JOIN users u ON f.leader_id = u.user_id
+                JOIN categories cat ON f.category_id = cat.category_id
+                LEFT JOIN categories pcat ON cat.parent_category_id = pcat.category_id
+                LEFT JOIN screens s ON f.screen_id = s.screen_id
+                LEFT JOIN funding_estimate_days fed ON fed.funding_id = f.funding_id
+                WHERE f.funding_id = :fundingId
+                """;
+
+        SqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fundingId", fundingId);
+
+        List<FundingDetailResponse> result = jdbcTemplate.query(sql, params, this::mapToFundingDetailResponse);
+
+        return result.stream().findFirst();
+    }
+
+    /**
+     * 자주 바뀌는 통계 정보와 참여 여부 조회
+     * <p>
+     * 좋아요 여부는 Redis 좋아요 집합에서 따로 채운다.
+     */
+    public FundingStatInfo findVolatileStatById(Long fundingId, Long userId) {
+        String sql = """
+                SELECT
+                    fs.participant_count, fs.favorite_count, fs.view_count,
+                    EXISTS (
+                        SELECT 1 FROM user_transactions ut
+                        WHERE ut.funding_id = fs.funding_id AND ut.user_id = :userId AND ut.state = 'SUCCESS'
+                    ) as is_participated
+                FROM funding_stats fs
+                WHERE fs.funding_id = :fundingId
+                """;
+
+        // userId가 없으면 -1로 처리하여 참여 여부가 항상 false가 되도록 함
+        SqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fundingId", fundingId)
+                .addValue("userId", userId != null ? userId : -1L);
+
+        List<FundingStatInfo> result = jdbcTemplate.query(sql, params, (rs, rowNum) -> FundingStatInfo.builder()
+                .participantCount(rs.getInt("participant_count"))
+                .likeCount(rs.getInt("favorite_count"))
+                .viewCount(rs.getInt("view_count"))
+                .isParticipated(rs.getBoolean("is_participated"))
+                .build());
+
+        return result.stream()
+                .findFirst()
+                .orElseGet(() -> FundingStatInfo.builder()
+                        .participantCount(0)
+                        .likeCount(0)
+                        .viewCount(0)
+                        .isParticipated(false)
+                        .build());
+    }
+
+    private FundingDetailResponse mapToFundingDetailResponse(ResultSet rs, int rowNum) throws SQLException {
+        int maxPeople = rs.getInt("max_people");
+
+        int price = 0;
+        if (maxPeople != 0) {
+            price = (int) Math.ceil((double) rs.getInt("price") / maxPeople / 10) * 10;
+        }
+
+        FundingInfo fundingInfo = FundingInfo.builder()
+                .fundingId(rs.getLong("funding_id"))
+                .title(rs.getString("title"))
+                .bannerUrl(rs.getString("banner_url"))
+                .content(rs.getString("content"))
+                .state(FundingState.valueOf(rs.getString("state")))
+                .screenDate(toLocalDate(rs.getDate("screen_day")))
+                .fundingEndsOn(toLocalDate(rs.getDate("ends_on")))
+                .screenMinDate(toLocalDate(rs.getDate("screen_min_date")))
+                .screenMaxDate(toLocalDate(rs.getDate("screen_max_date")))
+                .price(price)
+                .build();
+
+        CategoryInfo categoryInfo = CategoryInfo.builder()
+                .categoryId(rs.getLong("category_id"))
+                .categoryName(rs.getString("category_name"))
+                .parentCategoryId(rs.getObject("parent_category_id", Long.class))
+                .parentCategoryName(rs.getString("parent_category_name"))
+                .build();
+
+        ProposerInfo proposerInfo = ProposerInfo.builder()
+                .proposerId(rs.getLong("proposer_id"))
+                .nickname(rs.getString("nickname"))
+                .profileImgUrl(rs.getString("profile_img_url"))
+                .build();
+
+        VideoInfo videoInfo = VideoInfo.builder()
+                .videoName(rs.getString("video_name"))
+                .videoContent(rs.getString("video_content"))
+                .screenStartsOn(rs.getObject("screen_starts_on", Byte.class))
+                .screenEndsOn(rs.getObject("screen_ends_on", Byte.class))
+                .build();
+
+        FundingStatInfo statInfo = FundingStatInfo.builder()
+                .maxPeople(maxPeople)
+                .build();
+
+        ScreenInfo screenInfo = null;
+
+        if (rs.getObject("screen_id") != null) {
+            screenInfo = ScreenInfo.builder()
+                    .screenId(rs.getLong("screen_id"))
+                    .screenName(rs.getString("screen_name"))
+                    .is4dx(rs.getBoolean("is_4dx"))
+                    .isRecliner(rs.getBoolean("is_recliner"))
+                    .isScreenx(rs.getBoolean("is_screenx"))
+                    .isDolby(rs.getBoolean("is_dolby"))
+                    .isImax(rs.getBoolean("is_imax"))
+                    .build();
+        }
+
+        CinemaInfo cinemaInfo = CinemaInfo.builder()
+                .city(rs.getString("city"))
+                .cinemaId(rs.getLong("cinema_id"))
+                .cinemaName(rs.getString("cinema_name"))
+                .district(rs.getString("district"))
+                .address(rs.getString("address"))
+                .build();
+
+        return FundingDetailResponse.builder()
+                .type(FundingType.valueOf(rs.getString("funding_type")))
+                .funding(fundingInfo)
+                .screening(videoInfo)
+                .stat(statInfo)
+                .proposer(proposerInfo)
+                .screen(screenInfo)
+                .category(categoryInfo)
+                .cinema(cinemaInfo)
+                .build();
+    }
+
+    private LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+}
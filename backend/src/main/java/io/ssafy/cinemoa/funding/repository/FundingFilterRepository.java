@@ -1,39 +1,41 @@
 package io.ssafy.cinemoa.funding.repository;
 
-import io.ssafy.cinemoa.category.repository.CategoryRepository;
 import io.ssafy.cinemoa.cinema.enums.CinemaFeature;
 import io.ssafy.cinemoa.funding.dto.CardTypeFundingInfoDto;
+import io.ssafy.cinemoa.funding.dto.ScoreCursorInfo;
 import io.ssafy.cinemoa.funding.dto.SearchRequest;
 import io.ssafy.cinemoa.funding.dto.TimestampCursorInfo;
 import io.ssafy.cinemoa.funding.enums.FundingState;
 import io.ssafy.cinemoa.funding.enums.FundingType;
-import io.ssafy.cinemoa.global.enums.ResourceCode;
-import io.ssafy.cinemoa.global.exception.BadRequestException;
 import io.ssafy.cinemoa.global.response.CursorResponse;
-import java.nio.charset.StandardCharsets;
+import io.ssafy.cinemoa.global.util.CursorCodec;
 import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Base64;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class FundingFilterRepository {
 
+    private static final String RECOMMEND_SCORE_COLUMN = "recommend_score";
+    private static final String VIEW_COUNT_COLUMN = "view_count";
+
     private final JdbcTemplate jdbcTemplate;
-    private final CategoryRepository categoryRepository;
+    private final CursorCodec cursorCodec;
 
     public CursorResponse<CardTypeFundingInfoDto> findLatestWithFilters(SearchRequest request) {
         QueryBuilder queryBuilder = new QueryBuilder();
@@ -42,7 +44,7 @@ public class FundingFilterRepository {
 
         // 커서 조건 추가
         if (request.getNextCursor() != null) {
-            TimestampCursorInfo cursorInfo = parseCursor(request.getNextCursor());
+            TimestampCursorInfo cursorInfo = cursorCodec.decodeTimestamp(request.getNextCursor());
             queryBuilder.addCursorCondition(cursorInfo);
         }
 
@@ -63,7 +65,7 @@ public class FundingFilterRepository {
         if (hasNextPage) {
             results.remove(results.size() - 1); // 마지막 항목 제거
             CardTypeFundingInfoDto last = results.get(results.size() - 1);
-            nextCursor = createCursor(last.getTimestamp(), last.getFunding().getFundingId());
+            nextCursor = cursorCodec.encode(last.getTimestamp(), last.getFunding().getFundingId());
         }
 
         return CursorResponse.<CardTypeFundingInfoDto>builder()
@@ -73,11 +75,62 @@ public class FundingFilterRepository {
                 .build();
     }
 
+    // 추천순 - (recommend_score, created_at, funding_id) 커서 페이지네이션
     public CursorResponse<CardTypeFundingInfoDto> findRecommendedWithFilters(SearchRequest request) {
+        return findScoreOrderedWithFilters(request, RECOMMEND_SCORE_COLUMN);
+    }
+
+    // 인기순 - (view_count, created_at, funding_id) 커서 페이지네이션
+    public CursorResponse<CardTypeFundingInfoDto> findPopularWithFilters(SearchRequest request) {
+        return findScoreOrderedWithFilters(request, VIEW_COUNT_COLUMN);
+    }
+
+    private CursorResponse<CardTypeFundingInfoDto> findScoreOrderedWithFilters(SearchRequest request,
+                                                                              String scoreColumn) {
         QueryBuilder queryBuilder = new QueryBuilder();
         queryBuilder.buildBaseQuery(request.getUserId());
         addAllFiltersFromRequest(queryBuilder, request);
-        queryBuilder.addOrderRecommended();
+
+        // 커서 조건 추가
+        if (request.getNextCursor() != null) {
+            ScoreCursorInfo cursorInfo = cursorCodec.decodeScore(request.getNextCursor());
+            queryBuilder.addScoreCursorCondition(scoreColumn, cursorInfo);
+        }
+
+        int limit = 16;
+
+        queryBuilder.addOrderByScore(scoreColumn);
+        queryBuilder.addLimit(limit + 1);
+
+        List<ScoredCard> results = jdbcTemplate.query(
+                queryBuilder.getSql(),
+                (rs, rowNum) -> new ScoredCard(mapToSearchResultDto(rs, rowNum), rs.getDouble(scoreColumn)),
+                queryBuilder.getParams().toArray());
+
+        boolean hasNextPage = results.size() > limit;
+
+        String nextCursor = null;
+
+        if (hasNextPage) {
+            results.remove(results.size() - 1); // 마지막 항목 제거
+            ScoredCard last = results.get(results.size() - 1);
+            nextCursor = cursorCodec.encode(last.score(), last.card().getTimestamp(),
+                    last.card().getFunding().getFundingId());
+        }
+
+        return CursorResponse.<CardTypeFundingInfoDto>builder()
+                .content(results.stream().map(ScoredCard::card).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNextPage(hasNextPage)
+                .build();
+    }
+
+    // 관련도순 - Top 100 일괄 전송
+    public CursorResponse<CardTypeFundingInfoDto> findRelevantWithFilters(SearchRequest request) {
+        QueryBuilder queryBuilder = new QueryBuilder();
+        queryBuilder.buildBaseQuery(request.getUserId());
+        addAllFiltersFromRequest(queryBuilder, request);
+        queryBuilder.addOrderRelevance(request.getQ());
         queryBuilder.addLimit(100);
 
         List<CardTypeFundingInfoDto> results = jdbcTemplate.query(
@@ -87,17 +140,26 @@ public class FundingFilterRepository {
 
         return CursorResponse.<CardTypeFundingInfoDto>builder()
                 .content(results)
-                .nextCursor(null) // Top 100이므로 커서 없음
-                .hasNextPage(false) // 더 이상 데이터 없음
+                .nextCursor(null)
+                .hasNextPage(false)
                 .build();
     }
 
-    // 인기순 - Top 100 일괄 전송
-    public CursorResponse<CardTypeFundingInfoDto> findPopularWithFilters(SearchRequest request) {
+    // 극장 순서(거리순 등)대로 정렬 - Top 100 일괄 전송
+    public CursorResponse<CardTypeFundingInfoDto> findByCinemaOrderWithFilters(SearchRequest request,
+                                                                               List<Long> orderedCinemaIds) {
+        if (orderedCinemaIds.isEmpty()) {
+            return CursorResponse.<CardTypeFundingInfoDto>builder()
+                    .content(new ArrayList<>())
+                    .nextCursor(null)
+                    .hasNextPage(false)
+                    .build();
+        }
+
         QueryBuilder queryBuilder = new QueryBuilder();
         queryBuilder.buildBaseQuery(request.getUserId());
         addAllFiltersFromRequest(queryBuilder, request);
-        queryBuilder.addOrderPopular();
+        queryBuilder.addCinemaOrder(orderedCinemaIds);
         queryBuilder.addLimit(100);
 
         List<CardTypeFundingInfoDto> results = jdbcTemplate.query(
@@ -112,6 +174,24 @@ public class FundingFilterRepository {
                 .build();
     }
 
+    /**
+     * 관련도순 Top 100을 목록으로 모으지 않고 한 행씩 전달 (스트리밍 응답용)
+     * <p>
+     * 좋아요 여부는 조회 쿼리의 user_favorites 조인으로 함께 채운다.
+     */
+    public void streamRelevantWithFilters(SearchRequest request, Consumer<CardTypeFundingInfoDto> consumer) {
+        QueryBuilder queryBuilder = new QueryBuilder();
+        queryBuilder.buildBaseQuery(request.getUserId());
+        addAllFiltersFromRequest(queryBuilder, request);
+        queryBuilder.addOrderRelevance(request.getQ());
+        queryBuilder.addLimit(100);
+
+        jdbcTemplate.query(
+                queryBuilder.getSql(),
+                (RowCallbackHandler) rs -> consumer.accept(mapToSearchResultDto(rs, rs.getRow())),
+                queryBuilder.getParams().toArray());
+    }
+
     // 공통 필터 적용 메서드
     private void addAllFiltersFromRequest(QueryBuilder queryBuilder, SearchRequest request) {
         // 검색어
@@ -135,7 +215,7 @@ public class FundingFilterRepository {
         }
 
         if (request.getCategory() != null) {
-            queryBuilder.addCategoryFilter(request.getCategory(), categoryRepository);
+            queryBuilder.addCategoryFilter(request.getCategory());
         }
 
         if (request.getFundingType() != null) {
@@ -143,25 +223,6 @@ public class FundingFilterRepository {
         }
     }
 
-    private String createCursor(LocalDateTime createdAt, Long id) {
-        String cursorData = createdAt + "_" + id;
-        return Base64.getEncoder().encodeToString(cursorData.getBytes(StandardCharsets.UTF_8));
-    }
-
-    private TimestampCursorInfo parseCursor(String cursor) {
-        String decoded = new String(Base64.getDecoder().decode(cursor));
-        String[] parts = decoded.split("_");
-
-        if (parts.length < 2) {
-            throw new BadRequestException("커서가 잘못되었습니다.", ResourceCode.INPUT);
-        }
-
-        LocalDateTime timestamp = LocalDateTime.parse(parts[0]);
-        Long fundingId = Long.parseLong(parts[1]);
-
-        return new TimestampCursorInfo(timestamp, fundingId);
-    }
-
     private CardTypeFundingInfoDto mapToSearchResultDto(ResultSet rs, int rowNum) throws SQLException {
         int participantCount = rs.getInt("participant_count");
         int maxPeople = rs.getInt("max_people");
@@ -220,24 +281,24 @@ public class FundingFilterRepository {
 
     // === Inner Class: QueryBuilder ===
     private static class QueryBuilder {
+        // MySQL ngram 파서의 기본 토큰 길이
+        private static final int NGRAM_TOKEN_SIZE = 2;
+
         private final StringBuilder sql = new StringBuilder();
         @Getter
         private final List<Object> params = new ArrayList<>();
 
         public void buildBaseQuery(Long userId) {
             sql.append("""
-                    SELECT f.funding_id, f.title, f.banner_url, f.state, f.ends_on, f.screen_day,
-                           f.funding_type,f.max_people, f.video_name, s.price,
-                           c.cinema_id, c.cinema_name, c.city, c.district,
-                           COALESCE(fs.participant_count, 0) as participant_count,
-                           COALESCE(fs.favorite_count, 0) as favorite_count,
+                    SELECT fc.funding_id, fc.title, fc.banner_url, fc.state, fc.ends_on, fc.screen_day,
+                           fc.funding_type, fc.max_people, fc.video_name, fc.price,
+                           fc.cinema_id, fc.cinema_name, fc.city, fc.district,
+                           fc.participant_count, fc.favorite_count,
+                           fc.recommend_score, fc.view_count,
                            CASE WHEN uf.user_id IS NOT NULL THEN true ELSE false END as is_liked,
-                           f.created_at
-                    FROM fundings f
-                    LEFT JOIN cinemas c ON f.cinema_id = c.cinema_id
-                    LEFT JOIN screens s ON f.screen_id = s.screen_id
-                    LEFT JOIN funding_stats fs ON fs.funding_id = f.funding_id
-                    LEFT JOIN user_favorites uf ON uf.funding_id = f.funding_id AND uf.user_id = ?
+                           fc.created_at
+                    FROM funding_cards fc
+                    LEFT JOIN user_favorites uf ON uf.funding_id = fc.funding_id AND uf.user_id = ?
                     WHERE 1=1
                     """);
 
@@ -247,50 +308,80 @@ public class FundingFilterRepository {
 
         public void buildCountQuery(Long userId) {
             sql.append("""
-                    SELECT COUNT(DISTINCT f.funding_id)
-                    FROM fundings f
-                    LEFT JOIN cinemas c ON f.cinema_id = c.cinema_id
-                    LEFT JOIN screens s ON f.screen_id = s.screen_id
-                    LEFT JOIN funding_stats fs ON fs.funding_id = f.funding_id
-                    LEFT JOIN user_favorites uf ON uf.funding_id = f.funding_id AND uf.user_id = ?
-                    WHERE 1=1 AND f.state == 'ON_PROGRESS'
+                    SELECT COUNT(*)
+                    FROM funding_cards fc
+                    LEFT JOIN user_favorites uf ON uf.funding_id = fc.funding_id AND uf.user_id = ?
+                    WHERE 1=1 AND fc.state == 'ON_PROGRESS'
                     """);
 
             // userId를 첫 번째 파라미터로 추가
             params.add(userId != null ? userId : -1L);
         }
 
+        /**
+         * 검색어 조건: 두 글자 이상 단어는 FULLTEXT, ngram 토큰보다 짧은 한 글자 단어는 LIKE로 모두 포함해야 일치
+         * <p>
+         * 한 글자 단어는 ngram 인덱스에 토큰이 없어 버리지 않고 LIKE로 검사한다.
+         * 긴 단어가 함께 있으면 FULLTEXT로 좁힌 행에만 LIKE를 적용하고,
+         * 한 글자 단어만 있으면 인덱스를 쓸 수 없으므로 정렬 순서대로 읽다가 LIMIT만큼 찾으면 멈춘다.
+         */
         public void addSearchCondition(String query) {
-            sql.append(" AND (LOWER(f.title) LIKE LOWER(?) OR LOWER(f.video_name) LIKE LOWER(?))");
-            String searchPattern = "%" + query + "%";
-            params.add(searchPattern);
-            params.add(searchPattern);
+            List<String> terms = toTerms(query);
+            if (terms.isEmpty()) {
+                // 연산자 문자만 입력한 경우 입력 그대로 부분 일치
+                terms = List.of(query.strip());
+            }
+
+            String booleanQuery = toBooleanQuery(query);
+            if (!booleanQuery.isEmpty()) {
+                sql.append(" AND MATCH(fc.title, fc.video_name) AGAINST (? IN BOOLEAN MODE)");
+                params.add(booleanQuery);
+            }
+
+            for (String term : terms) {
+                if (booleanQuery.isEmpty() || term.length() < NGRAM_TOKEN_SIZE) {
+                    sql.append(" AND (LOWER(fc.title) LIKE LOWER(?) OR LOWER(fc.video_name) LIKE LOWER(?))");
+                    String searchPattern = "%" + term + "%";
+                    params.add(searchPattern);
+                    params.add(searchPattern);
+                }
+            }
+        }
+
+        // 두 글자 이상 단어를 필수 구문 검색으로 변환: 스파이더 맨 -> +"스파이더" (맨은 LIKE로 검사)
+        private static String toBooleanQuery(String query) {
+            return toTerms(query).stream()
+                    .filter(term -> term.length() >= NGRAM_TOKEN_SIZE)
+                    .map(term -> "+\"" + term + "\"")
+                    .collect(Collectors.joining(" "));
+        }
+
+        // 공백으로 나눈 단어에서 BOOLEAN MODE 연산자 제거
+        private static List<String> toTerms(String query) {
+            return Arrays.stream(query.strip().split("\\s+"))
+                    .map(term -> term.replaceAll("[\"+\\-<>()~*@]", ""))
+                    .filter(term -> !term.isEmpty())
+                    .toList();
         }
 
         public void addRegionFilter(List<String> regions) {
             String placeholders = regions.stream()
                     .map(r -> "?")
                     .collect(Collectors.joining(","));
-            sql.append(" AND c.district IN (").append(placeholders).append(")");
+            sql.append(" AND fc.district IN (").append(placeholders).append(")");
             params.addAll(regions);
         }
 
-        public void addCategoryFilter(Set<Long> categoryIds, CategoryRepository categoryRepository) {
+        // 하위 카테고리까지 확장된 ID 목록을 받음 (SearchService에서 확장)
+        public void addCategoryFilter(Set<Long> categoryIds) {
             if (categoryIds == null || categoryIds.isEmpty()) {
                 return;
             }
 
-            Set<Long> allCategoryIds = new HashSet<>(categoryIds.size() * 2);
-
-            List<Long> childIds = categoryRepository.findSubCategoryIdsByParentIds(categoryIds);
-
-            allCategoryIds.addAll(categoryIds);
-            allCategoryIds.addAll(childIds);
-
-            sql.append(" AND f.category_id IN (");
-            sql.append(String.join(",", Collections.nCopies(allCategoryIds.size(), "?")));
+            sql.append(" AND fc.category_id IN (");
+            sql.append(String.join(",", Collections.nCopies(categoryIds.size(), "?")));
             sql.append(")");
-            params.addAll(allCategoryIds);
+            params.addAll(categoryIds);
         }
 
         public void addTheaterTypeFilter(Set<CinemaFeature> theaterTypes) {
@@ -302,15 +393,15 @@ public class FundingFilterRepository {
 
             for (CinemaFeature type : theaterTypes) {
                 switch (type) {
-                    case IMAX -> conditions.add("s.is_imax = true");
-                    case FDX -> conditions.add("s.is_4dx = true");
-                    case SCREENX -> conditions.add("s.is_screenx = true");
-                    case DOLBY -> conditions.add("s.is_dolby = true");
-                    case RECLINER -> conditions.add("s.is_recliner = true");
+                    case IMAX -> conditions.add("fc.is_imax = true");
+                    case FDX -> conditions.add("fc.is_4dx = true");
+                    case SCREENX -> conditions.add("fc.is_screenx = true");
+                    case DOLBY -> conditions.add("fc.is_dolby = true");
+                    case RECLINER -> conditions.add("fc.is_recliner = true");
                     case NORMAL -> conditions.add("""
-                            (s.is_imax = false AND s.is_screenx = false
-                             AND s.is_4dx = false AND s.is_dolby = false
-                             AND s.is_recliner = false)
+                            (fc.is_imax = false AND fc.is_screenx = false
+                             AND fc.is_4dx = false AND fc.is_dolby = false
+                             AND fc.is_recliner = false)
                             """);
                 }
             }
@@ -324,14 +415,14 @@ public class FundingFilterRepository {
 
         public void addFundingTypeFilter(FundingType fundingType) {
             if (fundingType != null) {
-                sql.append(" AND f.funding_type = ?");
+                sql.append(" AND fc.funding_type = ?");
                 params.add(fundingType.name());
             }
         }
 
         public void addClosedFilter(Boolean isClosed) {
             if (isClosed) {
-                sql.append(" AND (f.state == 'FAILED' OR f.state != 'SUCCESS')");
+                sql.append(" AND (fc.state == 'FAILED' OR fc.state != 'SUCCESS')");
             }
         }
 
@@ -341,7 +432,7 @@ public class FundingFilterRepository {
             LocalDateTime cursorCreatedAt = cursorInfo.getCreatedAt();
 
             if (cursorId != null && cursorCreatedAt != null) {
-                sql.append(" AND (f.created_at < ? OR (f.created_at = ? AND f.funding_id < ?))");
+                sql.append(" AND (fc.created_at < ? OR (fc.created_at = ? AND fc.funding_id < ?))");
                 params.add(cursorCreatedAt);
                 params.add(cursorCreatedAt);
                 params.add(cursorId);
@@ -349,15 +440,45 @@ public class FundingFilterRepository {
         }
 
         public void addOrderLatest() {
-            sql.append(" ORDER BY f.created_at DESC, f.funding_id DESC");
+            sql.append(" ORDER BY fc.created_at DESC, fc.funding_id DESC");
+        }
+
+        public void addScoreCursorCondition(String scoreColumn, ScoreCursorInfo cursorInfo) {
+            sql.append(" AND (fc.").append(scoreColumn).append(" < ?")
+                    .append(" OR (fc.").append(scoreColumn).append(" = ?")
+                    .append(" AND (fc.created_at < ? OR (fc.created_at = ? AND fc.funding_id < ?))))");
+            params.add(cursorInfo.getScore());
+            params.add(cursorInfo.getScore());
+            params.add(cursorInfo.getCreatedAt());
+            params.add(cursorInfo.getCreatedAt());
+            params.add(cursorInfo.getFundingId());
+        }
+
+        public void addOrderByScore(String scoreColumn) {
+            sql.append(" ORDER BY fc.").append(scoreColumn).append(" DESC, fc.created_at DESC, fc.funding_id DESC");
         }
 
-        public void addOrderRecommended() {
-            sql.append(" ORDER BY COALESCE(fs.recommend_score, 0) DESC, f.created_at DESC");
+        public void addOrderRelevance(String query) {
+            if (query == null || toBooleanQuery(query).isEmpty()) {
+                addOrderLatest();
+                return;
+            }
+
+            sql.append(" ORDER BY MATCH(fc.title, fc.video_name) AGAINST (? IN NATURAL LANGUAGE MODE) DESC,"
+                    + " fc.created_at DESC, fc.funding_id DESC");
+            params.add(query.strip());
         }
 
-        public void addOrderPopular() {
-            sql.append(" ORDER BY COALESCE(fs.view_count, 0) DESC, f.created_at DESC");
+        // 주어진 극장만 남기고 목록 순서대로 정렬 (같은 극장 안에서는 최신순)
+        public void addCinemaOrder(List<Long> orderedCinemaIds) {
+            String placeholders = String.join(",", Collections.nCopies(orderedCinemaIds.size(), "?"));
+
+            sql.append(" AND fc.cinema_id IN (").append(placeholders).append(")");
+            params.addAll(orderedCinemaIds);
+
+            sql.append(" ORDER BY FIELD(fc.cinema_id, ").append(placeholders).append("),")
+                    .append(" fc.created_at DESC, fc.funding_id DESC");
+            params.addAll(orderedCinemaIds);
         }
 
         public String getSql() {
@@ -369,4 +490,7 @@ public class FundingFilterRepository {
             params.add(i);
         }
     }
+
+    private record ScoredCard(CardTypeFundingInfoDto card, double score) {
+    }
 }
@@ -27,30 +27,15 @@ public class FundingListRepository {
 
         String sql = """
                 SELECT
-                    f.funding_id as funding_id,
-                    f.title as title,
-                    f.banner_url as banner_url,
-                    f.state as state,
-                    f.ends_on as ends_on,
-                    f.screen_day as screen_day,
-                    f.video_name as video_name,
-                    s.price as price,
-                    f.max_people as max_people,
-                    c.cinema_id as cinema_id,
-                    c.cinema_name as cinema_name,
-                    c.city as city,
-                    c.district as district,
-                    fs.participant_count as participant_count,
-                    fs.favorite_count as favorite_count,
-                    fs.view_count as view_count,
+                    fc.funding_id, fc.title, fc.banner_url, fc.state, fc.ends_on, fc.screen_day,
+                    fc.video_name, fc.price, fc.max_people,
+                    fc.cinema_id, fc.cinema_name, fc.city, fc.district,
+                    fc.participant_count, fc.favorite_count, fc.view_count,
                     CASE WHEN lf.user_id IS NOT NULL THEN true ELSE false END as is_liked,
-                    f.funding_type as funding_type
-                FROM fundings f
-                JOIN cinemas c ON f.cinema_id = c.cinema_id
-                LEFT JOIN screens s ON f.screen_id = s.screen_id
-                LEFT JOIN funding_stats fs ON f.funding_id = fs.funding_id
-                LEFT JOIN user_favorites lf ON f.funding_id = lf.funding_id AND lf.user_id = :userId
-                WHERE f.funding_id IN (:fundingIds)
+                    fc.funding_type
+                FROM funding_cards fc
+                LEFT JOIN user_favorites lf ON fc.funding_id = lf.funding_id AND lf.user_id = :userId
+                WHERE fc.funding_id IN (:fundingIds)
                 """;
 
         SqlParameterSource params = new MapSqlParameterSource()
@@ -0,0 +1,75 @@
+package io.ssafy.cinemoa.funding.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 조회수 반영 및 추천 점수 일괄 재계산을 위한 Repository
+ */
+@Repository
+@RequiredArgsConstructor
+public class FundingScoreRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 누적된 조회수 증가분을 한 번의 배치로 반영
+     */
+    public void addViewCounts(Map<Long, Long> viewDeltas) {
+        String sql = """
+                UPDATE funding_stats
+                SET view_count = view_count + :delta
+                WHERE funding_id = :fundingId
+                """;
+
+        SqlParameterSource[] batchParams = viewDeltas.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("fundingId", entry.getKey())
+                        .addValue("delta", entry.getValue()))
+                .toArray(SqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(sql, batchParams);
+    }
+
+    /**
+     * 주어진 펀딩들의 추천 점수를 하나의 UPDATE로 재계산
+     * <p>
+     * score = (wilson(likes, views - likes) * 0.6 + likes / views * 0.4) * log1000(1 + views) * 100
+     * <p>
+     * wilson은 95% 신뢰구간(z = 1.96)의 하한이며, 조회수가 0이면 점수는 0이다.
+     */
+    public int recalculateRecommendScores(Collection<Long> fundingIds) {
+        String sql = """
+                UPDATE funding_stats fs
+                SET fs.recommend_score = CASE
+                    WHEN fs.view_count > 0 THEN
+                        (
+                            (
+                                (fs.favorite_count / fs.view_count)
+                                + :zSquared / (2 * fs.view_count)
+                                - :z * SQRT(GREATEST(0,
+                                    (fs.favorite_count / fs.view_count) * (1 - fs.favorite_count / fs.view_count)
+                                    + :zSquared / (4 * fs.view_count)) / fs.view_count)
+                            ) / (1 + :zSquared / fs.view_count) * 0.6
+                            + (fs.favorite_count / fs.view_count) * 0.4
+                        ) * LN(1 + fs.view_count) / LN(1000) * 100
+                    ELSE 0
+                END
+                WHERE fs.funding_id IN (:fundingIds)
+                """;
+
+        double z = 1.96; // 95% 신뢰구간
+
+        SqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fundingIds", fundingIds)
+                .addValue("z", z)
+                .addValue("zSquared", z * z);
+
+        return jdbcTemplate.update(sql, params);
+    }
+}
@@ -7,13 +7,11 @@ import io.ssafy.cinemoa.funding.enums.FundingState;
 import io.ssafy.cinemoa.global.enums.ResourceCode;
 import io.ssafy.cinemoa.global.exception.BadRequestException;
 import io.ssafy.cinemoa.global.response.CursorResponse;
-import java.nio.charset.StandardCharsets;
+import io.ssafy.cinemoa.global.util.CursorCodec;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +28,7 @@ import org.springframework.stereotype.Repository;
 public class ParticipatedFundingRepository {
 
     private final JdbcTemplate jdbcTemplate;
+    private final CursorCodec cursorCodec;
 
     /**
      * 내가 참여한 펀딩 목록을 조회합니다.
@@ -69,7 +68,7 @@ public class ParticipatedFundingRepository {
 
         if (hasNext && !result.isEmpty()) {
             ParticipatedFundingInfoDto last = result.get(result.size() - 1);
-            nextCursor = createCursor(last.getTimestamp(), last.getFunding().getFundingId());
+            nextCursor = cursorCodec.encode(last.getTimestamp(), last.getFunding().getFundingId());
         }
 
         return CursorResponse.<ParticipatedFundingInfoDto>builder()
@@ -79,7 +78,6 @@ public class ParticipatedFundingRepository {
                 .build();
     }
 
-
     /**
      * 커서 조건을 추가합니다.
      */
@@ -88,26 +86,7 @@ public class ParticipatedFundingRepository {
             return;
         }
         // 커서 조건 추가
-        queryBuilder.addCursorCondition(parseCursor(cursor));
-    }
-
-    private String createCursor(LocalDateTime createdAt, Long id) {
-        String cursorData = createdAt + "_" + id;
-        return Base64.getEncoder().encodeToString(cursorData.getBytes(StandardCharsets.UTF_8));
-    }
-
-    private TimestampCursorInfo parseCursor(String cursor) {
-        String decoded = new String(Base64.getDecoder().decode(cursor));
-        String[] parts = decoded.split("_");
-
-        if (parts.length < 2) {
-            throw new BadRequestException("커서가 잘못되었습니다.", ResourceCode.INPUT);
-        }
-
-        LocalDateTime timestamp = LocalDateTime.parse(parts[0]);
-        Long fundingId = Long.parseLong(parts[1]);
-
-        return new TimestampCursorInfo(timestamp, fundingId);
+        queryBuilder.addCursorCondition(cursorCodec.decodeTimestamp(cursor));
     }
 
     /**
@@ -177,25 +156,21 @@ public class ParticipatedFundingRepository {
 
         public void buildBaseQuery(Long userId, String state) {
             sql.append("""
-                    SELECT f.funding_id, f.title, f.summary, f.banner_url, f.ticket_banner, f.state, f.ends_on, f.screen_day,
-                              f.funding_type, f.max_people, f.video_name, s.price,
-                              c.cinema_id, c.cinema_name, c.city, c.district,
-                              COALESCE(fs.participant_count, 0) as participant_count,
-                              COALESCE(fs.favorite_count, 0) as favorite_count,
+                    SELECT fc.funding_id, fc.title, fc.banner_url, fc.ticket_banner, fc.state, fc.ends_on, fc.screen_day,
+                              fc.funding_type, fc.max_people, fc.video_name, fc.price,
+                              fc.cinema_id, fc.cinema_name, fc.city, fc.district,
+                              fc.participant_count, fc.favorite_count,
                               CASE WHEN uf.user_id IS NOT NULL THEN true ELSE false END as is_liked,
                               t.created_at as participated_at
-                       FROM fundings f
-                       LEFT JOIN cinemas c ON f.cinema_id = c.cinema_id
-                       LEFT JOIN screens s ON f.screen_id = s.screen_id
-                       LEFT JOIN funding_stats fs ON fs.funding_id = f.funding_id
-                       LEFT JOIN user_favorites uf ON uf.funding_id = f.funding_id AND uf.user_id = ?
+                       FROM funding_cards fc
+                       LEFT JOIN user_favorites uf ON uf.funding_id = fc.funding_id AND uf.user_id = ?
                        INNER JOIN (
                            SELECT funding_id, user_id, MAX(created_at) as created_at
                            FROM user_transactions
                            WHERE user_id = ? AND state = 'SUCCESS'
                            GROUP BY funding_id, user_id
-                       ) t ON t.funding_id = f.funding_id
-                       WHERE f.funding_type = 'FUNDING'
+                       ) t ON t.funding_id = fc.funding_id
+                       WHERE fc.funding_type = 'FUNDING'
                     """);
 
             // userId를 파라미터로 추가 (좋아요 조회용, 참여자 조회용)
@@ -207,19 +182,19 @@ public class ParticipatedFundingRepository {
                 switch (state) {
                     case "ON_PROGRESS":
                         // 진행 중인 펀딩 (ON_PROGRESS, WAITING)
-                        sql.append(" AND f.state IN (?, ?)");
+                        sql.append(" AND fc.state IN (?, ?)");
                         params.add("ON_PROGRESS");
                         params.add("WAITING");
                         break;
                     case "CLOSE":
                         // 완료된 펀딩 (FAILED, SUCCESS)
-                        sql.append(" AND f.state IN (?, ?)");
+                        sql.append(" AND fc.state IN (?, ?)");
                         params.add("FAILED");
                         params.add("SUCCESS");
                         break;
                     case "SUCCESS":
                         // 성공한 펀딩 (SUCCESS)
-                        sql.append(" AND f.state = ?");
+                        sql.append(" AND fc.state = ?");
                         params.add("SUCCESS");
                         break;
                     default:
@@ -230,10 +205,9 @@ public class ParticipatedFundingRepository {
             }
         }
 
-
         public void addCursorCondition(TimestampCursorInfo cursorInfo) {
             sql.append("""
-                    AND (t.created_at < ? OR (t.created_at = ? AND f.funding_id < ?))
+                    AND (t.created_at < ? OR (t.created_at = ? AND fc.funding_id < ?))
                     """);
             params.add(cursorInfo.getCreatedAt());
             params.add(cursorInfo.getCreatedAt());
@@ -242,7 +216,7 @@ public class ParticipatedFundingRepository {
 
         public void addOrderAndLimit(Integer limit) {
             // sql.append(" ORDER BY t.created_at DESC, f.funding_id DESC LIMIT ?");
-            sql.append(" ORDER BY f.ends_on DESC, f.funding_id DESC LIMIT ?");
+            sql.append(" ORDER BY fc.ends_on DESC, fc.funding_id DESC LIMIT ?");
             params.add(limit);
         }
 
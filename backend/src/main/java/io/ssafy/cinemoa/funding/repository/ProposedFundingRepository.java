@@ -5,16 +5,12 @@ import io.ssafy.cinemoa.funding.dto.CursorRequestDto;
 import io.ssafy.cinemoa.funding.dto.TimestampCursorInfo;
 import io.ssafy.cinemoa.funding.enums.FundingState;
 import io.ssafy.cinemoa.funding.enums.FundingType;
-import io.ssafy.cinemoa.global.enums.ResourceCode;
-import io.ssafy.cinemoa.global.exception.BadRequestException;
 import io.ssafy.cinemoa.global.response.CursorResponse;
-import java.nio.charset.StandardCharsets;
+import io.ssafy.cinemoa.global.util.CursorCodec;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +22,7 @@ import org.springframework.stereotype.Repository;
 public class ProposedFundingRepository {
 
     private final JdbcTemplate jdbcTemplate;
+    private final CursorCodec cursorCodec;
 
     /**
      * 내가 제안한 펀딩 목록을 조회합니다.
@@ -62,7 +59,7 @@ public class ProposedFundingRepository {
 
         if (hasNext && !result.isEmpty()) {
             CardTypeFundingInfoDto last = result.get(result.size() - 1);
-            nextCursor = createCursor(last.getTimestamp(), last.getFunding().getFundingId());
+            nextCursor = cursorCodec.encode(last.getTimestamp(), last.getFunding().getFundingId());
         }
 
         return CursorResponse.<CardTypeFundingInfoDto>builder()
@@ -80,26 +77,7 @@ public class ProposedFundingRepository {
             return;
         }
         // 커서 조건 추가
-        queryBuilder.addCursorCondition(parseCursor(cursor));
-    }
-
-    private String createCursor(LocalDateTime createdAt, Long id) {
-        String cursorData = createdAt + "_" + id;
-        return Base64.getEncoder().encodeToString(cursorData.getBytes(StandardCharsets.UTF_8));
-    }
-
-    private TimestampCursorInfo parseCursor(String cursor) {
-        String decoded = new String(Base64.getDecoder().decode(cursor));
-        String[] parts = decoded.split("_");
-
-        if (parts.length < 2) {
-            throw new BadRequestException("커서가 잘못되었습니다.", ResourceCode.INPUT);
-        }
-
-        LocalDateTime timestamp = LocalDateTime.parse(parts[0]);
-        Long fundingId = Long.parseLong(parts[1]);
-
-        return new TimestampCursorInfo(timestamp, fundingId);
+        queryBuilder.addCursorCondition(cursorCodec.decodeTimestamp(cursor));
     }
 
     /**
@@ -173,22 +151,16 @@ public class ProposedFundingRepository {
 
         public void buildBaseQuery(Long userId, FundingType fundingType) {
             sql.append("""
-                    SELECT f.funding_id, f.title, f.summary, f.banner_url, f.state, f.ends_on, f.screen_day,
-                           f.funding_type, f.max_people, f.video_name, s.price,
-                           c.cinema_id, c.cinema_name, c.city, c.district,
-                           COALESCE(fs.participant_count, 0) as participant_count,
-                           COALESCE(fs.favorite_count, 0) as favorite_count,
-                           fed.min_date as screen_min_date,
-                           fed.max_date as screen_max_date,
+                    SELECT fc.funding_id, fc.title, fc.banner_url, fc.state, fc.ends_on, fc.screen_day,
+                           fc.funding_type, fc.max_people, fc.video_name, fc.price,
+                           fc.cinema_id, fc.cinema_name, fc.city, fc.district,
+                           fc.participant_count, fc.favorite_count,
+                           fc.screen_min_date, fc.screen_max_date,
                            CASE WHEN uf.user_id IS NOT NULL THEN true ELSE false END as is_liked,
-                           f.created_at as timestamp
-                    FROM fundings f
-                    LEFT JOIN cinemas c ON f.cinema_id = c.cinema_id
-                    LEFT JOIN screens s ON f.screen_id = s.screen_id
-                    LEFT JOIN funding_stats fs ON fs.funding_id = f.funding_id
-                    LEFT JOIN funding_estimate_days fed ON fed.funding_id = f.funding_id
-                    LEFT JOIN user_favorites uf ON uf.funding_id = f.funding_id AND uf.user_id = ?
-                    WHERE f.leader_id = ?
+                           fc.created_at as timestamp
+                    FROM funding_cards fc
+                    LEFT JOIN user_favorites uf ON uf.funding_id = fc.funding_id AND uf.user_id = ?
+                    WHERE fc.leader_id = ?
                     """);
 
             // userId를 파라미터로 추가 (좋아요 조회용, 제안자 조회용)
@@ -197,14 +169,14 @@ public class ProposedFundingRepository {
 
             // type 필터링 추가
             if (fundingType != null) {
-                sql.append(" AND f.funding_type = ?");
+                sql.append(" AND fc.funding_type = ?");
                 params.add(fundingType.name());
             }
         }
 
         public void addCursorCondition(TimestampCursorInfo cursorInfo) {
             sql.append("""
-                    AND (f.created_at < ? OR (f.created_at = ? AND f.funding_id < ?))
+                    AND (fc.created_at < ? OR (fc.created_at = ? AND fc.funding_id < ?))
                     """);
             params.add(cursorInfo.getCreatedAt());
             params.add(cursorInfo.getCreatedAt());
@@ -212,7 +184,7 @@ public class ProposedFundingRepository {
         }
 
         public void addOrderAndLimit(Integer limit) {
-            sql.append(" ORDER BY f.created_at DESC, f.funding_id DESC LIMIT ?");
+            sql.append(" ORDER BY fc.created_at DESC, fc.funding_id DESC LIMIT ?");
             params.add(limit);
         }
 
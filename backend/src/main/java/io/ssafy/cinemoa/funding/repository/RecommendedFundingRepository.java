@@ -103,44 +103,34 @@ public class RecommendedFundingRepository {
         public void buildUserSpecificBaseQuery(Long userId) {
             sql.append("""
                     WITH user_preferred AS (
-                        SELECT f.funding_id, f.title, f.summary, f.banner_url, f.state, f.ends_on, f.screen_day,
-                               f.funding_type, f.max_people, f.category_id, f.video_name, s.price,
-                               c.cinema_id, c.cinema_name, c.city, c.district,
-                               COALESCE(fs.participant_count, 0) as participant_count,
-                               COALESCE(fs.favorite_count, 0) as favorite_count,
-                               COALESCE(fs.view_count, 0) as view_count,
+                        SELECT fc.funding_id, fc.title, fc.banner_url, fc.state, fc.ends_on, fc.screen_day,
+                               fc.funding_type, fc.max_people, fc.category_id, fc.video_name, fc.price,
+                               fc.cinema_id, fc.cinema_name, fc.city, fc.district,
+                               fc.participant_count, fc.favorite_count, fc.view_count,
                                CASE WHEN uf.user_id IS NOT NULL THEN true ELSE false END as is_liked,
-                               COALESCE(fs.recommend_score, 0) as recommend_score,
+                               fc.recommend_score,
                                1 as priority
-                        FROM fundings f
-                        INNER JOIN user_categories uc ON uc.category_id = f.category_id AND uc.user_id = ?
-                        LEFT JOIN cinemas c ON f.cinema_id = c.cinema_id
-                        LEFT JOIN screens s ON f.screen_id = s.screen_id
-                        LEFT JOIN funding_stats fs ON fs.funding_id = f.funding_id
-                        LEFT JOIN user_favorites uf ON uf.funding_id = f.funding_id AND uf.user_id = ?
-                        WHERE f.leader_id != ?
-                          AND f.funding_type = 'FUNDING'
-                          AND f.state = 'ON_PROGRESS'
+                        FROM funding_cards fc
+                        INNER JOIN user_categories uc ON uc.category_id = fc.category_id AND uc.user_id = ?
+                        LEFT JOIN user_favorites uf ON uf.funding_id = fc.funding_id AND uf.user_id = ?
+                        WHERE fc.leader_id != ?
+                          AND fc.funding_type = 'FUNDING'
+                          AND fc.state = 'ON_PROGRESS'
                         LIMIT 10
                     ),
                     fallback_fundings AS (
-                        SELECT f.funding_id, f.title, f.summary, f.banner_url, f.state, f.ends_on, f.screen_day,
-                               f.funding_type, f.max_people, f.category_id, f.video_name, s.price,
-                               c.cinema_id, c.cinema_name, c.city, c.district,
-                               COALESCE(fs.participant_count, 0) as participant_count,
-                               COALESCE(fs.favorite_count, 0) as favorite_count,
-                               COALESCE(fs.view_count, 0) as view_count,
+                        SELECT fc.funding_id, fc.title, fc.banner_url, fc.state, fc.ends_on, fc.screen_day,
+                               fc.funding_type, fc.max_people, fc.category_id, fc.video_name, fc.price,
+                               fc.cinema_id, fc.cinema_name, fc.city, fc.district,
+                               fc.participant_count, fc.favorite_count, fc.view_count,
                                CASE WHEN uf.user_id IS NOT NULL THEN true ELSE false END as is_liked,
-                               COALESCE(fs.recommend_score, 0) as recommend_score,
+                               fc.recommend_score,
                                2 as priority
-                        FROM fundings f
-                        LEFT JOIN cinemas c ON f.cinema_id = c.cinema_id
-                        LEFT JOIN screens s ON f.screen_id = s.screen_id
-                        LEFT JOIN funding_stats fs ON fs.funding_id = f.funding_id
-                        LEFT JOIN user_favorites uf ON uf.funding_id = f.funding_id AND uf.user_id = ?
-                        WHERE f.state = 'ON_PROGRESS'
-                          AND f.funding_type = 'FUNDING'
-                          AND f.funding_id NOT IN (SELECT funding_id FROM user_preferred)
+                        FROM funding_cards fc
+                        LEFT JOIN user_favorites uf ON uf.funding_id = fc.funding_id AND uf.user_id = ?
+                        WHERE fc.state = 'ON_PROGRESS'
+                          AND fc.funding_type = 'FUNDING'
+                          AND fc.funding_id NOT IN (SELECT funding_id FROM user_preferred)
                         LIMIT 10
                     )
                     SELECT * FROM (
@@ -160,19 +150,14 @@ public class RecommendedFundingRepository {
 
         public void buildBaseQuery() {
             sql.append("""
-                    SELECT f.funding_id, f.title, f.summary, f.banner_url, f.state, f.ends_on, f.screen_day,
-                               f.funding_type, f.max_people, f.category_id, f.video_name, s.price,
-                               c.cinema_id, c.cinema_name, c.city, c.district,
-                               COALESCE(fs.participant_count, 0) as participant_count,
-                               COALESCE(fs.favorite_count, 0) as favorite_count,
-                               COALESCE(fs.view_count, 0) as view_count,
+                    SELECT fc.funding_id, fc.title, fc.banner_url, fc.state, fc.ends_on, fc.screen_day,
+                               fc.funding_type, fc.max_people, fc.category_id, fc.video_name, fc.price,
+                               fc.cinema_id, fc.cinema_name, fc.city, fc.district,
+                               fc.participant_count, fc.favorite_count, fc.view_count,
                                false as is_liked
-                        FROM fundings f
-                        LEFT JOIN cinemas c ON f.cinema_id = c.cinema_id
-                        LEFT JOIN screens s ON f.screen_id = s.screen_id
-                        LEFT JOIN funding_stats fs ON fs.funding_id = f.funding_id
-                        WHERE f.state = 'ON_PROGRESS' AND f.funding_type = 'FUNDING'
-                        ORDER BY COALESCE(fs.recommend_score, 0) DESC
+                        FROM funding_cards fc
+                        WHERE fc.state = 'ON_PROGRESS' AND fc.funding_type = 'FUNDING'
+                        ORDER BY fc.recommend_score DESC
                         LIMIT 10
                     """);
         }
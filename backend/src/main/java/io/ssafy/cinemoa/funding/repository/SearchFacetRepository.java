@@ -0,0 +1,74 @@
+package io.ssafy.cinemoa.funding.repository;
+
+import io.ssafy.cinemoa.cinema.enums.CinemaFeature;
+import io.ssafy.cinemoa.funding.dto.FacetSourceDto;
+import io.ssafy.cinemoa.funding.enums.FundingType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 검색 필터 facet 인덱스 구성을 위한 Repository
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchFacetRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 진행 중인 펀딩의 facet 대상 속성 조회
+     */
+    public List<FacetSourceDto> findActiveFundingFacets() {
+        String sql = """
+                SELECT fc.funding_id, fc.funding_type, fc.category_id, fc.district,
+                       fc.is_imax, fc.is_screenx, fc.is_4dx, fc.is_dolby, fc.is_recliner
+                FROM funding_cards fc
+                WHERE fc.state = 'ON_PROGRESS'
+                """;
+
+        return jdbcTemplate.query(sql, this::mapToFacetSourceDto);
+    }
+
+    private FacetSourceDto mapToFacetSourceDto(ResultSet rs, int rowNum) throws SQLException {
+        return new FacetSourceDto(
+                rs.getLong("funding_id"),
+                FundingType.valueOf(rs.getString("funding_type")),
+                rs.getLong("category_id"),
+                rs.getString("district"),
+                toTheaterTypes(rs));
+    }
+
+    // FundingFilterRepository.addTheaterTypeFilter와 같은 기준 (상영관이 없으면 어떤 타입에도 속하지 않음)
+    private Set<CinemaFeature> toTheaterTypes(ResultSet rs) throws SQLException {
+        Set<CinemaFeature> types = EnumSet.noneOf(CinemaFeature.class);
+        if (rs.getObject("is_imax") == null) {
+            return types;
+        }
+
+        if (rs.getBoolean("is_imax")) {
+            types.add(CinemaFeature.IMAX);
+        }
+        if (rs.getBoolean("is_4dx")) {
+            types.add(CinemaFeature.FDX);
+        }
+        if (rs.getBoolean("is_screenx")) {
+            types.add(CinemaFeature.SCREENX);
+        }
+        if (rs.getBoolean("is_dolby")) {
+            types.add(CinemaFeature.DOLBY);
+        }
+        if (rs.getBoolean("is_recliner")) {
+            types.add(CinemaFeature.RECLINER);
+        }
+        if (types.isEmpty()) {
+            types.add(CinemaFeature.NORMAL);
+        }
+        return types;
+    }
+}
@@ -0,0 +1,70 @@
+package io.ssafy.cinemoa.funding.repository;
+
+import io.ssafy.cinemoa.funding.dto.SearchSuggestionDto;
+import io.ssafy.cinemoa.funding.enums.SuggestionType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 검색어 자동완성 인덱스 구성을 위한 Repository
+ */
+@Repository
+@RequiredArgsConstructor
+public class SearchSuggestionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 전체 펀딩의 제목/상영물 이름 조회 (fundingId별)
+     */
+    public Map<Long, List<SearchSuggestionDto>> findAllFundingSuggestions() {
+        Map<Long, List<SearchSuggestionDto>> result = new HashMap<>();
+
+        jdbcTemplate.query("SELECT f.funding_id, f.title, f.video_name FROM fundings f",
+                rs -> {
+                    long fundingId = rs.getLong("funding_id");
+                    result.put(fundingId, toFundingSuggestions(fundingId, rs.getString("title"),
+                            rs.getString("video_name")));
+                });
+
+        return result;
+    }
+
+    /**
+     * 단일 펀딩의 제목/상영물 이름 조회
+     */
+    public List<SearchSuggestionDto> findFundingSuggestions(Long fundingId) {
+        List<List<SearchSuggestionDto>> result = jdbcTemplate.query(
+                "SELECT f.title, f.video_name FROM fundings f WHERE f.funding_id = ?",
+                (rs, rowNum) -> toFundingSuggestions(fundingId, rs.getString("title"), rs.getString("video_name")),
+                fundingId);
+
+        return result.isEmpty() ? List.of() : result.get(0);
+    }
+
+    /**
+     * 전체 영화관 이름 조회
+     */
+    public List<SearchSuggestionDto> findAllCinemaSuggestions() {
+        return jdbcTemplate.query("SELECT c.cinema_id, c.cinema_name FROM cinemas c",
+                (rs, rowNum) -> new SearchSuggestionDto(rs.getString("cinema_name"), SuggestionType.CINEMA_NAME,
+                        rs.getLong("cinema_id")));
+    }
+
+    private List<SearchSuggestionDto> toFundingSuggestions(Long fundingId, String title, String videoName) {
+        List<SearchSuggestionDto> suggestions = new ArrayList<>(2);
+        if (title != null && !title.isBlank()) {
+            suggestions.add(new SearchSuggestionDto(title, SuggestionType.FUNDING_TITLE, fundingId));
+        }
+        if (videoName != null && !videoName.isBlank()) {
+            // 같은 상영물 이름은 하나의 추천어로 묶이도록 id를 두지 않음
+            suggestions.add(new SearchSuggestionDto(videoName, SuggestionType.VIDEO_NAME, null));
+        }
+        return suggestions;
+    }
+}
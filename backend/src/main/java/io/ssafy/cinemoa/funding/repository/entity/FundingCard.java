@@ -0,0 +1,137 @@
+package io.ssafy.cinemoa.funding.repository.entity;
+
+import io.ssafy.cinemoa.funding.enums.FundingState;
+import io.ssafy.cinemoa.funding.enums.FundingType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카드형 펀딩 목록 조회용 비정규화 테이블
+ * <p>
+ * fundings, cinemas, screens, funding_stats, funding_estimate_days를 펀딩당 한 행으로 펼쳐 둔 읽기 전용 모델이다.
+ * 쓰기는 FundingCardService가 원본 테이블에서 INSERT ... SELECT로만 수행하며, 애플리케이션에서 직접 수정하지 않는다.
+ */
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "funding_cards", indexes = {
+        // 최신순/추천순/인기순 커서 페이지네이션용
+        @Index(name = "idx_funding_cards_latest", columnList = "created_at, funding_id"),
+        @Index(name = "idx_funding_cards_recommend", columnList = "recommend_score, created_at, funding_id"),
+        @Index(name = "idx_funding_cards_popular", columnList = "view_count, created_at, funding_id"),
+        // 마감 임박/추천 목록 (진행 중인 펀딩만 조회)
+        @Index(name = "idx_funding_cards_state_type", columnList = "state, funding_type, ends_on"),
+        // 내가 제안한 목록
+        @Index(name = "idx_funding_cards_leader", columnList = "leader_id, created_at, funding_id"),
+        @Index(name = "idx_funding_cards_category", columnList = "category_id"),
+        @Index(name = "idx_funding_cards_district", columnList = "district")
+})
+public class FundingCard {
+    @Id
+    @Column(name = "funding_id", nullable = false)
+    private Long fundingId;
+
+    @Column(columnDefinition = "varchar(50)")
+    private String title;
+
+    @Column(name = "banner_url")
+    private String bannerUrl;
+
+    @Column(name = "ticket_banner")
+    private String ticketBanner;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FundingState state;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "funding_type", nullable = false)
+    private FundingType fundingType;
+
+    @Column(name = "ends_on")
+    private LocalDate endsOn;
+
+    @Column(name = "screen_day")
+    private LocalDate screenDay;
+
+    @Column(name = "screen_min_date")
+    private LocalDate screenMinDate;
+
+    @Column(name = "screen_max_date")
+    private LocalDate screenMaxDate;
+
+    @Column(columnDefinition = "varchar(100)", name = "video_name")
+    private String videoName;
+
+    @Column(name = "max_people", nullable = false)
+    private Integer maxPeople;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "leader_id", nullable = false)
+    private Long leaderId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // 상영관 대관료 총액 (1인당 가격은 목록마다 계산 방식이 달라 조회 시 계산)
+    @Column(name = "price")
+    private Integer price;
+
+    @Column(name = "cinema_id", nullable = false)
+    private Long cinemaId;
+
+    @Column(name = "cinema_name")
+    private String cinemaName;
+
+    @Column(columnDefinition = "varchar(10)")
+    private String city;
+
+    @Column(columnDefinition = "varchar(10)")
+    private String district;
+
+    // 상영관이 정해지지 않은 펀딩은 NULL (상영관 타입 필터에서 제외)
+    @Column(name = "is_imax")
+    private Boolean isImax;
+
+    @Column(name = "is_screenx")
+    private Boolean isScreenx;
+
+    @Column(name = "is_4dx")
+    private Boolean is4dx;
+
+    @Column(name = "is_dolby")
+    private Boolean isDolby;
+
+    @Column(name = "is_recliner")
+    private Boolean isRecliner;
+
+    @Column(name = "participant_count", nullable = false)
+    private Integer participantCount;
+
+    @Column(name = "favorite_count", nullable = false)
+    private Integer favoriteCount;
+
+    @Column(name = "view_count", nullable = false)
+    private Integer viewCount;
+
+    @Column(name = "recommend_score", nullable = false)
+    private Double recommendScore;
+
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt;
+}
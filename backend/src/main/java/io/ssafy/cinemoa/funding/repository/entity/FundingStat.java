@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -24,7 +25,11 @@ import org.hibernate.proxy.HibernateProxy;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "funding_stats")
+@Table(name = "funding_stats", indexes = {
+        // 추천순/인기순 커서 페이지네이션용
+        @Index(name = "idx_funding_stats_recommend_score", columnList = "recommend_score, funding_id"),
+        @Index(name = "idx_funding_stats_view_count", columnList = "view_count, funding_id")
+})
 public class FundingStat {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
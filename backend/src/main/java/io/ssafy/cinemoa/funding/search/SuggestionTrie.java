@@ -0,0 +1,98 @@
+package io.ssafy.cinemoa.funding.search;
+
+import io.ssafy.cinemoa.funding.dto.SearchSuggestionDto;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색어 자동완성용 접두사 트리
+ * <p>
+ * 같은 키에 같은 항목이 여러 번 추가될 수 있으므로(예: 같은 상영물 이름의 펀딩 여러 개) 참조 횟수로 관리한다.
+ * 동시성 제어는 호출하는 쪽에서 담당한다.
+ */
+public class SuggestionTrie {
+
+    // 짧은 접두사로 넓은 서브트리를 탐색할 때 응답 시간 상한을 두기 위한 방문 노드 수 제한
+    private static final int MAX_VISITED_NODES = 5_000;
+
+    private final Node root = new Node();
+
+    public void add(String key, SearchSuggestionDto suggestion) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        node.entries.merge(suggestion, 1, Integer::sum);
+    }
+
+    public void remove(String key, SearchSuggestionDto suggestion) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.get(key.charAt(i));
+            if (node == null) {
+                return;
+            }
+            path.add(node);
+        }
+
+        node.entries.computeIfPresent(suggestion, (s, count) -> count > 1 ? count - 1 : null);
+
+        // 비어있는 노드 정리
+        for (int i = key.length(); i > 0; i--) {
+            Node current = path.get(i);
+            if (!current.entries.isEmpty() || !current.children.isEmpty()) {
+                break;
+            }
+            path.get(i - 1).children.remove(key.charAt(i - 1));
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 항목을 짧은 키부터 최대 limit개 조회
+     */
+    public Set<SearchSuggestionDto> findByPrefix(String prefix, int limit) {
+        Set<SearchSuggestionDto> result = new LinkedHashSet<>();
+
+        Node node = root;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = node.children.get(prefix.charAt(i));
+            if (node == null) {
+                return result;
+            }
+        }
+
+        // 너비 우선 탐색으로 짧은(= 더 정확히 일치하는) 항목부터 수집
+        Deque<Node> queue = new ArrayDeque<>();
+        queue.add(node);
+        int visited = 0;
+
+        while (!queue.isEmpty() && visited < MAX_VISITED_NODES) {
+            Node current = queue.poll();
+            visited++;
+
+            for (SearchSuggestionDto suggestion : current.entries.keySet()) {
+                result.add(suggestion);
+                if (result.size() >= limit) {
+                    return result;
+                }
+            }
+            queue.addAll(current.children.values());
+        }
+
+        return result;
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Map<SearchSuggestionDto, Integer> entries = new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,142 @@
+package io.ssafy.cinemoa.funding.service;
+
+import io.ssafy.cinemoa.funding.event.FundingDetailChangedEvent;
+import io.ssafy.cinemoa.funding.event.FundingScoreUpdateEvent;
+import io.ssafy.cinemoa.funding.event.FundingStatChangedEvent;
+import io.ssafy.cinemoa.funding.repository.FundingCardRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * funding_cards 읽기 모델 동기화 서비스
+ * <p>
+ * 펀딩 생성/전환/상태 변경 시에는 커밋 직후 해당 카드 행을 바로 다시 만들어 목록에 곧바로 보이게 하고,
+ * 참여/좋아요/조회/추천 점수처럼 자주 바뀌는 통계는 변경된 펀딩 ID만 모아 몇 초마다 일괄 반영한다.
+ * <p>
+ * 이벤트 누락에 대비해 기동 시와 1시간마다 전체 카드를 원본 기준으로 다시 맞춘다.
+ * 카드 테이블은 DB에 남아 있고 평소에는 이벤트로 최신 상태를 유지하므로, 기동 시 재구성은 보정 작업일 뿐
+ * 끝날 때까지 조회를 막지 않는다. 재구성은 펀딩 ID 구간별로 나누어 실행해 한 번에 오래 잠그지 않는다.
+ * (카드 테이블이 빈 첫 배포에서는 재구성이 진행되는 동안 목록이 구간 단위로 채워진다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FundingCardService {
+
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    // 전체 재구성 시 한 문장에서 다루는 펀딩 ID 구간 크기
+    private static final int REBUILD_ID_RANGE = 1_000;
+
+    private final FundingCardRepository fundingCardRepository;
+
+    // 카드 전체를 다시 만들어야 하는 펀딩 ID (즉시 반영 실패분)
+    private final Set<Long> dirtyCardIds = ConcurrentHashMap.newKeySet();
+
+    // 통계 컬럼만 다시 맞추면 되는 펀딩 ID
+    private final Set<Long> dirtyStatIds = ConcurrentHashMap.newKeySet();
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFundingDetailChanged(FundingDetailChangedEvent event) {
+        try {
+            fundingCardRepository.upsertCards(List.of(event.getFundingId()));
+        } catch (Exception e) {
+            log.warn("펀딩 카드 즉시 갱신 실패, 다음 주기에 재시도 - 펀딩ID: {}, 오류: {}",
+                    event.getFundingId(), e.getMessage());
+            dirtyCardIds.add(event.getFundingId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFundingStatChanged(FundingStatChangedEvent event) {
+        dirtyStatIds.add(event.getFundingId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFundingScoreEvent(FundingScoreUpdateEvent event) {
+        dirtyStatIds.add(event.getFundingId());
+    }
+
+    /**
+     * 조회수/추천 점수 일괄 반영 후 카드 통계 갱신 예약
+     */
+    public void markStatsDirty(Collection<Long> fundingIds) {
+        dirtyStatIds.addAll(fundingIds);
+    }
+
+    @Scheduled(fixedDelay = 3000, initialDelay = 3000)
+    public void flush() {
+        flushDirty(dirtyCardIds, fundingCardRepository::upsertCards, "카드");
+        flushDirty(dirtyStatIds, fundingCardRepository::refreshStats, "카드 통계");
+    }
+
+    /**
+     * 기동 직후 및 1시간마다 전체 카드 재구성 (누락된 카드 생성 및 어긋난 값 보정)
+     * <p>
+     * ApplicationReadyEvent는 서버가 요청을 받기 시작한 뒤 발생하므로 재구성 중에도 조회는 기존 카드 행으로 응답한다.
+     * 한 구간이 실패해도 나머지 구간은 계속 진행하고, 실패한 구간은 다음 주기에 다시 맞춘다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 3_600_000)
+    public void rebuildAll() {
+        long maxId;
+        try {
+            maxId = fundingCardRepository.findMaxFundingId();
+        } catch (Exception e) {
+            log.error("펀딩 카드 전체 재구성 실패: {}", e.getMessage(), e);
+            return;
+        }
+
+        int affected = 0;
+        int failedRanges = 0;
+        for (long afterId = 0; afterId < maxId; afterId += REBUILD_ID_RANGE) {
+            long untilId = Math.min(afterId + REBUILD_ID_RANGE, maxId);
+            try {
+                affected += fundingCardRepository.upsertCardsInRange(afterId, untilId);
+            } catch (Exception e) {
+                failedRanges++;
+                log.error("펀딩 카드 구간 재구성 실패 - 펀딩ID ({}, {}], 오류: {}", afterId, untilId, e.getMessage(), e);
+            }
+        }
+        log.info("펀딩 카드 전체 재구성 완료 - 최대 펀딩ID: {}, 영향 행 수: {}, 실패 구간: {}", maxId, affected, failedRanges);
+    }
+
+    private void flushDirty(Set<Long> dirtyIds, ToIntFunction<List<Long>> writer, String target) {
+        if (dirtyIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> fundingIds = new ArrayList<>();
+        for (Long fundingId : dirtyIds) {
+            if (dirtyIds.remove(fundingId)) {
+                fundingIds.add(fundingId);
+            }
+        }
+
+        for (int from = 0; from < fundingIds.size(); from += FLUSH_CHUNK_SIZE) {
+            List<Long> chunk = fundingIds.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, fundingIds.size()));
+            try {
+                int updated = writer.applyAsInt(chunk);
+                log.debug("펀딩 {} 일괄 갱신 - 대상: {}건, 갱신: {}건", target, chunk.size(), updated);
+            } catch (Exception e) {
+                log.error("펀딩 {} 일괄 갱신 실패 - 대상 {}건, 오류: {}", target, chunk.size(), e.getMessage(), e);
+                dirtyIds.addAll(chunk);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package io.ssafy.cinemoa.funding.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.ssafy.cinemoa.favorite.service.FundingFavoriteService;
+import io.ssafy.cinemoa.funding.dto.FundingDetailResponse;
+import io.ssafy.cinemoa.funding.dto.FundingDetailResponse.FundingInfo;
+import io.ssafy.cinemoa.funding.dto.FundingDetailResponse.FundingStatInfo;
+import io.ssafy.cinemoa.funding.event.FundingDetailChangedEvent;
+import io.ssafy.cinemoa.funding.repository.FundingDetailRepository;
+import io.ssafy.cinemoa.global.redis.service.RedisService;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 펀딩 상세 캐시 서비스
+ * <p>
+ * 생성 이후 거의 바뀌지 않는 상세 정보는 로컬(Caffeine) → Redis → DB 순으로 조회하고,
+ * 통계/좋아요 여부/참여 여부는 매 요청마다 따로 조회하여 합친다.
+ * <p>
+ * 상세 정보가 바뀌면 Redis 캐시를 지우고 pub/sub으로 모든 서버의 로컬 캐시를 무효화한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FundingDetailCacheService {
+
+    public static final String FUNDING_DETAIL_INVALIDATE_CHANNEL = "funding:detail:invalidate";
+
+    private static final String FUNDING_DETAIL_CACHE_PREFIX = "funding:detail:";
+    private static final Duration REDIS_CACHE_TTL = Duration.ofHours(1);
+
+    private final Cache<Long, FundingDetailResponse> localCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    private final FundingDetailRepository fundingDetailRepository;
+    private final FundingFavoriteService fundingFavoriteService;
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 캐시된 상세 정보에 통계/좋아요 여부/참여 여부를 합쳐 반환
+     */
+    public Optional<FundingDetailResponse> getFundingDetail(Long fundingId, Long userId) {
+        FundingDetailResponse staticDetail = localCache.get(fundingId, this::loadStaticDetail);
+        if (staticDetail == null) {
+            return Optional.empty();
+        }
+
+        FundingStatInfo volatileStat = fundingDetailRepository.findVolatileStatById(fundingId, userId);
+        boolean isLiked = userId != null
+                && fundingFavoriteService.findLikedFundingIds(userId, List.of(fundingId)).contains(fundingId);
+
+        int maxPeople = staticDetail.getStat().getMaxPeople();
+        int progressRate = maxPeople != 0 ? volatileStat.getParticipantCount() * 100 / maxPeople : 0;
+
+        // 로컬 캐시 객체는 공유되므로 복사본에 값을 채운다
+        FundingInfo fundingInfo = staticDetail.getFunding().toBuilder()
+                .progressRate(progressRate)
+                .build();
+
+        FundingStatInfo statInfo = staticDetail.getStat().toBuilder()
+                .participantCount(volatileStat.getParticipantCount())
+                .likeCount(volatileStat.getLikeCount())
+                .viewCount(volatileStat.getViewCount())
+                .isParticipated(volatileStat.getIsParticipated())
+                .isLiked(isLiked)
+                .build();
+
+        return Optional.of(staticDetail.toBuilder()
+                .funding(fundingInfo)
+                .stat(statInfo)
+                .build());
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 상세 캐시 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFundingDetailChanged(FundingDetailChangedEvent event) {
+        evict(event.getFundingId());
+    }
+
+    /**
+     * Redis 캐시 삭제 후 모든 서버에 로컬 캐시 무효화 전파
+     */
+    public void evict(Long fundingId) {
+        localCache.invalidate(fundingId);
+        try {
+            redisService.removeKey(getCacheKey(fundingId));
+            redisService.publish(FUNDING_DETAIL_INVALIDATE_CHANNEL, fundingId.toString());
+        } catch (Exception e) {
+            log.warn("펀딩 상세 캐시 무효화 실패 - 펀딩ID: {}, 오류: {}", fundingId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 서버에서 전파된 무효화 메시지 처리
+     */
+    public void evictLocal(Long fundingId) {
+        localCache.invalidate(fundingId);
+    }
+
+    private FundingDetailResponse loadStaticDetail(Long fundingId) {
+        FundingDetailResponse cached = readFromRedis(fundingId);
+        if (cached != null) {
+            return cached;
+        }
+
+        FundingDetailResponse detail = fundingDetailRepository.findStaticDetailById(fundingId).orElse(null);
+        if (detail != null) {
+            writeToRedis(fundingId, detail);
+        }
+        return detail;
+    }
+
+    private FundingDetailResponse readFromRedis(Long fundingId) {
+        try {
+            Object cached = redisService.getValue(getCacheKey(fundingId));
+            if (cached == null) {
+                return null;
+            }
+            return objectMapper.readValue(cached.toString(), FundingDetailResponse.class);
+        } catch (JsonProcessingException e) {
+            log.error("펀딩 상세 캐시 역직렬화 실패 - 펀딩ID: {}", fundingId, e);
+        } catch (Exception e) {
+            log.warn("펀딩 상세 캐시 조회 실패 - 펀딩ID: {}, 오류: {}", fundingId, e.getMessage());
+        }
+        return null;
+    }
+
+    private void writeToRedis(Long fundingId, FundingDetailResponse detail) {
+        try {
+            String jsonString = objectMapper.writeValueAsString(detail);
+            redisService.setValue(getCacheKey(fundingId), jsonString, REDIS_CACHE_TTL);
+        } catch (JsonProcessingException e) {
+            log.error("펀딩 상세 캐시 직렬화 실패 - 펀딩ID: {}", fundingId, e);
+        } catch (Exception e) {
+            log.warn("펀딩 상세 캐시 저장 실패 - 펀딩ID: {}, 오류: {}", fundingId, e.getMessage());
+        }
+    }
+
+    private String getCacheKey(Long fundingId) {
+        return FUNDING_DETAIL_CACHE_PREFIX + fundingId;
+    }
+}
@@ -1,21 +1,112 @@
 package io.ssafy.cinemoa.funding.service;
 
 import io.ssafy.cinemoa.funding.event.FundingScoreUpdateEvent;
+import io.ssafy.cinemoa.funding.repository.FundingScoreRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 펀딩 추천 점수 갱신 서비스
+ * <p>
+ * 조회/좋아요 시점에는 변경된 펀딩 ID와 조회수 증가분만 메모리에 모아두고,
+ * 몇 초마다 한 번씩 조회수 반영과 추천 점수 재계산을 일괄 처리한다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class FundingScoreService {
 
-    private final FundingService fundingService;
+    private static final int FLUSH_CHUNK_SIZE = 500;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    private final FundingScoreRepository fundingScoreRepository;
+    private final FundingCardService fundingCardService;
+
+    // 점수 재계산이 필요한 펀딩 ID
+    private final Set<Long> dirtyFundingIds = ConcurrentHashMap.newKeySet();
+
+    // 아직 DB에 반영되지 않은 조회수 증가분
+    private final ConcurrentHashMap<Long, Long> pendingViewCounts = new ConcurrentHashMap<>();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
     public void handleFundingScoreEvent(FundingScoreUpdateEvent event) {
-        fundingService.recalculateScore(event.getFundingId());
+        dirtyFundingIds.add(event.getFundingId());
+    }
+
+    /**
+     * 조회수 1 증가 기록 (DB 반영은 다음 flush에서)
+     */
+    public void recordView(Long fundingId) {
+        pendingViewCounts.merge(fundingId, 1L, Long::sum);
+        dirtyFundingIds.add(fundingId);
+    }
+
+    @Scheduled(fixedDelay = 5000, initialDelay = 5000)
+    public void flush() {
+        flushViewCounts();
+        flushScores();
     }
 
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
 
+    private void flushViewCounts() {
+        if (pendingViewCounts.isEmpty()) {
+            return;
+        }
+
+        // remove로 꺼내야 꺼내는 도중 들어온 증가분이 유실되지 않음
+        Map<Long, Long> viewDeltas = new HashMap<>();
+        for (Long fundingId : pendingViewCounts.keySet()) {
+            Long delta = pendingViewCounts.remove(fundingId);
+            if (delta != null) {
+                viewDeltas.put(fundingId, delta);
+            }
+        }
+
+        try {
+            fundingScoreRepository.addViewCounts(viewDeltas);
+        } catch (Exception e) {
+            log.error("조회수 일괄 반영 실패 - 대상 {}건, 오류: {}", viewDeltas.size(), e.getMessage(), e);
+            viewDeltas.forEach((fundingId, delta) -> pendingViewCounts.merge(fundingId, delta, Long::sum));
+        }
+    }
+
+    private void flushScores() {
+        if (dirtyFundingIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> fundingIds = new ArrayList<>();
+        for (Long fundingId : dirtyFundingIds) {
+            if (dirtyFundingIds.remove(fundingId)) {
+                fundingIds.add(fundingId);
+            }
+        }
+
+        for (int from = 0; from < fundingIds.size(); from += FLUSH_CHUNK_SIZE) {
+            List<Long> chunk = fundingIds.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, fundingIds.size()));
+            try {
+                int updated = fundingScoreRepository.recalculateRecommendScores(chunk);
+                log.debug("추천 점수 일괄 재계산 - 대상: {}건, 갱신: {}건", chunk.size(), updated);
+                // 바뀐 조회수/추천 점수를 카드 읽기 모델에도 반영
+                fundingCardService.markStatsDirty(chunk);
+            } catch (Exception e) {
+                log.error("추천 점수 일괄 재계산 실패 - 대상 {}건, 오류: {}", chunk.size(), e.getMessage(), e);
+                dirtyFundingIds.addAll(chunk);
+            }
+        }
+    }
 }
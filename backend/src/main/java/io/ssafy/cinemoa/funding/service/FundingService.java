@@ -2,31 +2,27 @@ package io.ssafy.cinemoa.funding.service;
 
 import io.ssafy.cinemoa.category.repository.CategoryRepository;
 import io.ssafy.cinemoa.category.repository.entity.Category;
+import io.ssafy.cinemoa.cinema.event.ScreenScheduleChangedEvent;
 import io.ssafy.cinemoa.cinema.repository.CinemaRepository;
 import io.ssafy.cinemoa.cinema.repository.ScreenRepository;
-import io.ssafy.cinemoa.cinema.repository.ScreenUnavailableTImeBatchRepository;
+import io.ssafy.cinemoa.cinema.repository.ScreenScheduleRepository;
 import io.ssafy.cinemoa.cinema.repository.entity.Cinema;
 import io.ssafy.cinemoa.cinema.repository.entity.Screen;
+import io.ssafy.cinemoa.cinema.service.CinemaCatalog;
+import io.ssafy.cinemoa.cinema.service.CinemaCatalog.ScreenEntry;
+import io.ssafy.cinemoa.cinema.service.ScreenHoldService;
 import io.ssafy.cinemoa.external.text.client.GPTApiClient;
-import io.ssafy.cinemoa.favorite.repository.UserFavoriteRepository;
 import io.ssafy.cinemoa.funding.dto.CardTypeFundingInfoDto;
 import io.ssafy.cinemoa.funding.dto.FundingCreateRequest;
 import io.ssafy.cinemoa.funding.dto.FundingCreationResult;
 import io.ssafy.cinemoa.funding.dto.FundingDetailResponse;
-import io.ssafy.cinemoa.funding.dto.FundingDetailResponse.CategoryInfo;
-import io.ssafy.cinemoa.funding.dto.FundingDetailResponse.CinemaInfo;
-import io.ssafy.cinemoa.funding.dto.FundingDetailResponse.FundingInfo;
-import io.ssafy.cinemoa.funding.dto.FundingDetailResponse.FundingStatInfo;
-import io.ssafy.cinemoa.funding.dto.FundingDetailResponse.ProposerInfo;
-import io.ssafy.cinemoa.funding.dto.FundingDetailResponse.ScreenInfo;
-import io.ssafy.cinemoa.funding.dto.FundingDetailResponse.VideoInfo;
 import io.ssafy.cinemoa.funding.dto.VideoContentRequest;
 import io.ssafy.cinemoa.funding.dto.VideoContentResult;
 import io.ssafy.cinemoa.funding.dto.VoteCreateRequest;
 import io.ssafy.cinemoa.funding.enums.FundingState;
 import io.ssafy.cinemoa.funding.enums.FundingType;
 import io.ssafy.cinemoa.funding.event.AccountCreationRequestEvent;
-import io.ssafy.cinemoa.funding.event.FundingScoreUpdateEvent;
+import io.ssafy.cinemoa.funding.event.FundingDetailChangedEvent;
 import io.ssafy.cinemoa.funding.exception.SeatLockException;
 import io.ssafy.cinemoa.funding.repository.FundingEstimatedDayRepository;
 import io.ssafy.cinemoa.funding.repository.FundingListRepository;
@@ -45,8 +41,6 @@ import io.ssafy.cinemoa.image.enums.ImageCategory;
 import io.ssafy.cinemoa.image.event.AnimateDoneEvent;
 import io.ssafy.cinemoa.image.service.ImageService;
 import io.ssafy.cinemoa.notification.service.FundingNotificationService;
-import io.ssafy.cinemoa.payment.enums.UserTransactionState;
-import io.ssafy.cinemoa.payment.repository.UserTransactionRepository;
 import io.ssafy.cinemoa.user.repository.UserRepository;
 import io.ssafy.cinemoa.user.repository.entity.User;
 import java.time.LocalDate;
@@ -119,12 +113,14 @@ public class FundingService {
     private final FundingListRepository fundingListRepository;
     private final ScreenRepository screenRepository;
     private final CinemaRepository cinemaRepository;
+    private final CinemaCatalog cinemaCatalog;
     private final UserRepository userRepository;
-    private final UserFavoriteRepository userFavoriteRepository;
-    private final UserTransactionRepository userTransactionRepository;
-    private final ScreenUnavailableTImeBatchRepository unavailableTImeBatchRepository;
+    private final ScreenScheduleRepository screenScheduleRepository;
+    private final ScreenHoldService screenHoldService;
 
     private final ImageService imageService;
+    private final FundingDetailCacheService fundingDetailCacheService;
+    private final FundingScoreService fundingScoreService;
     private final RedisService redisService;
     private final RedisRankingService redisRankingService;
     private final FundingNotificationService fundingNotificationService;
@@ -134,23 +130,22 @@ public class FundingService {
     private final GPTApiClient openAiApiClient;
 
     @Transactional
-    public FundingCreationResult createFunding(MultipartFile image, FundingCreateRequest request) {
-        User user = userRepository.findById(request.getUserId())
+    public FundingCreationResult createFunding(Long userId, MultipartFile image, FundingCreateRequest request) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(ResourceNotFoundException::ofUser);
 
         Category category = categoryRepository.findById(request.getCategoryId())
                 .orElseThrow(ResourceNotFoundException::ofCategory);
 
-        Cinema cinema = cinemaRepository.findById(request.getCinemaId())
-                .orElseThrow(ResourceNotFoundException::ofCinema);
+        Cinema cinema = getCinemaReference(request.getCinemaId());
 
-        Screen screen = screenRepository.findById(request.getScreenId())
+        ScreenEntry screenEntry = cinemaCatalog.findScreen(request.getScreenId())
                 .orElseThrow(ResourceNotFoundException::ofScreen);
+        Screen screen = screenRepository.getReferenceById(screenEntry.screen().getScreenId());
 
-        if (!unavailableTImeBatchRepository.insertRangeIfAvailable(screen.getScreenId(), request.getScreenDay(),
-                request.getScreenStartsOn(), request.getScreenEndsOn())) {
-            throw BadRequestException.ofFunding("사용 불가능한 예약 시간대 입니다.");
-        }
+        // 이미지 업로드 전에 시간대 선점 확인 (화면에서 잡아 둔 선점을 연장, 다른 사용자와 겹치면 바로 실패)
+        screenHoldService.hold(user.getId(), screen.getScreenId(), request.getScreenDay(),
+                request.getScreenStartsOn(), request.getScreenEndsOn());
 
         log.info("받은 이미지가 존재하는지? : {} 사이즈 : {}", image != null, image != null ? image.getSize() : 0);
         if (image != null) {
@@ -178,6 +173,9 @@ public class FundingService {
                 .screen(screen)
                 .build();
 
+        // 예약 마스크 행 잠금은 커밋까지 유지되므로 저장 직전에 예약
+        reserveScreenTime(screenEntry, user.getId(), request);
+
         fundingRepository.save(funding);
 
         FundingStat fundingStat = FundingStat.builder()
@@ -185,25 +183,26 @@ public class FundingService {
                 .build();
         statRepository.save(fundingStat);
         eventPublisher.publishEvent(new AccountCreationRequestEvent(funding.getFundingId()));
+        eventPublisher.publishEvent(new FundingDetailChangedEvent(funding.getFundingId()));
 
         return new FundingCreationResult(funding.getFundingId());
     }
 
     @Transactional
-    public FundingCreationResult convertToFunding(Long fundingId, FundingCreateRequest request) {
+    public FundingCreationResult convertToFunding(Long userId, Long fundingId, FundingCreateRequest request) {
 
         // 입력값 검증
-        userRepository.findById(request.getUserId())
+        userRepository.findById(userId)
                 .orElseThrow(ResourceNotFoundException::ofUser);
 
         Category category = categoryRepository.findById(request.getCategoryId())
                 .orElseThrow(ResourceNotFoundException::ofCategory);
 
-        Cinema cinema = cinemaRepository.findById(request.getCinemaId())
-                .orElseThrow(ResourceNotFoundException::ofCinema);
+        Cinema cinema = getCinemaReference(request.getCinemaId());
 
-        Screen screen = screenRepository.findById(request.getScreenId())
+        ScreenEntry screenEntry = cinemaCatalog.findScreen(request.getScreenId())
                 .orElseThrow(ResourceNotFoundException::ofScreen);
+        Screen screen = screenRepository.getReferenceById(screenEntry.screen().getScreenId());
 
         // 기존 Funding 조회
         Funding existingFunding = fundingRepository.findById(fundingId)
@@ -215,11 +214,10 @@ public class FundingService {
             fundingEstimatedDayRepository.delete(existingEstimatedDay);
         }
 
-        // 상영관 예약시간 저장
-        if (!unavailableTImeBatchRepository.insertRangeIfAvailable(screen.getScreenId(), request.getScreenDay(),
-                request.getScreenStartsOn(), request.getScreenEndsOn())) {
-            throw BadRequestException.ofFunding("사용 불가능한 예약 시간대 입니다.");
-        }
+        // 상영관 예약시간 저장 (다른 사용자가 선점 중이면 바로 실패)
+        screenHoldService.hold(userId, screen.getScreenId(), request.getScreenDay(),
+                request.getScreenStartsOn(), request.getScreenEndsOn());
+        reserveScreenTime(screenEntry, userId, request);
 
         // 기존 Funding의 필요한 컬럼들만 수정
         existingFunding.setTitle(request.getTitle());
@@ -239,6 +237,7 @@ public class FundingService {
         fundingRepository.save(existingFunding);
 
         eventPublisher.publishEvent(new AccountCreationRequestEvent(existingFunding.getFundingId()));
+        eventPublisher.publishEvent(new FundingDetailChangedEvent(existingFunding.getFundingId()));
 
         // 투표 → 펀딩 전환 알림 전송
         fundingNotificationService.notifyVoteToFunding(existingFunding);
@@ -246,6 +245,16 @@ public class FundingService {
         return new FundingCreationResult(existingFunding.getFundingId());
     }
 
+    private void reserveScreenTime(ScreenEntry screenEntry, Long userId, FundingCreateRequest request) {
+        Long screenId = screenEntry.screen().getScreenId();
+        if (!screenScheduleRepository.reserveIfAvailable(screenId, request.getScreenDay(),
+                request.getScreenStartsOn(), request.getScreenEndsOn())) {
+            throw BadRequestException.ofFunding("사용 불가능한 예약 시간대 입니다.");
+        }
+        eventPublisher.publishEvent(new ScreenScheduleChangedEvent(screenEntry.cinemaId(), screenId,
+                request.getScreenDay(), userId));
+    }
+
     @Transactional
     public void holdSeatOf(Long userId, Long fundingId) {
         // put seat info on redis, then reduce remaining seats.
@@ -300,8 +309,7 @@ public class FundingService {
         Category category = categoryRepository.findById(request.getCategoryId())
                 .orElseThrow(ResourceNotFoundException::ofCategory);
 
-        Cinema cinema = cinemaRepository.findById(request.getCinemaId())
-                .orElseThrow(ResourceNotFoundException::ofCinema);
+        Cinema cinema = getCinemaReference(request.getCinemaId());
 
         log.info("받은 이미지가 존재하는지? : {} 사이즈 : {}", image != null, image != null ? image.getSize() : 0);
 
@@ -336,120 +344,19 @@ public class FundingService {
                 .build();
         fundingEstimatedDayRepository.save(estimatedDay);
         statRepository.save(fundingStat);
+        eventPublisher.publishEvent(new FundingDetailChangedEvent(vote.getFundingId()));
     }
 
-    @Transactional
-    public FundingDetailResponse getFundingDetail(Long fundingId, Long userId) {
-        Funding funding = fundingRepository.findById(fundingId)
+    @Transactional(readOnly = true)
+    public FundingDetailResponse getFundingDetail(Long fundingId, Long userId, String viewerKey) {
+        // 상세 정보는 캐시에서, 통계/좋아요/참여 여부는 매번 조회하여 합침
+        FundingDetailResponse response = fundingDetailCacheService.getFundingDetail(fundingId, userId)
                 .orElseThrow(ResourceNotFoundException::ofFunding);
 
-        FundingStat stat = statRepository.findByFunding_FundingId(fundingId)
-                .orElseThrow(InternalServerException::ofUnknown);
-
-        Boolean isLiked = userId != null
-                && userFavoriteRepository.existsByUser_IdAndFunding_FundingId(userId, fundingId);
-
-        Boolean isParticipated = userId != null
-                && userTransactionRepository.existsByFunding_FundingIdAndUser_IdAndState(fundingId, userId,
-                UserTransactionState.SUCCESS);
-
-        Screen screen = funding.getScreen();
-        Cinema cinema = funding.getCinema();
-        User proposer = funding.getLeader();
-
-        Category category = funding.getCategory();
-        Category parentCategory = category.getParentCategory();
-        int price = 0;
-        int progressRate = 0;
-        if (funding.getMaxPeople() != 0) {
-            price = (int) Math.ceil((double) screen.getPrice() / funding.getMaxPeople() / 10) * 10;
-            progressRate = stat.getParticipantCount() * 100 / funding.getMaxPeople();
-        }
-
-        FundingEstimatedDay estimatedDay = fundingEstimatedDayRepository.findByFunding_FundingId(fundingId);
-
-        FundingInfo fundingInfo = FundingInfo.builder()
-                .fundingId(funding.getFundingId())
-                .progressRate(progressRate)
-                .title(funding.getTitle())
-                .bannerUrl(funding.getBannerUrl())
-                .content(funding.getContent())
-                .state(funding.getState())
-                .screenDate(funding.getScreenDay())
-                .fundingEndsOn(funding.getEndsOn())
-                .price(price)
-                .build();
-
-        if (estimatedDay != null) {
-            fundingInfo.setScreenMinDate(estimatedDay.getMinDate());
-            fundingInfo.setScreenMaxDate(estimatedDay.getMaxDate());
-        }
-
-        CategoryInfo categoryInfo = CategoryInfo.builder()
-                .categoryId(category.getCategoryId())
-                .categoryName(category.getTagName())
-                .parentCategoryId(parentCategory.getCategoryId())
-                .parentCategoryName(parentCategory.getTagName())
-                .build();
-
-        ProposerInfo proposerInfo = ProposerInfo.builder()
-                .proposerId(proposer.getId())
-                .nickname(proposer.getNickname())
-                .profileImgUrl(proposer.getProfileImgUrl())
-                .build();
-
-        VideoInfo videoInfo = VideoInfo.builder()
-                .videoName(funding.getVideoName())
-                .videoContent(funding.getVideoContent())
-                .screenStartsOn(funding.getScreenStartsOn())
-                .screenEndsOn(funding.getScreenEndsOn())
-                .build();
-
-        FundingStatInfo statInfo = FundingStatInfo.builder()
-                .maxPeople(funding.getMaxPeople())
-                .isLiked(isLiked)
-                .isParticipated(isParticipated)
-                .participantCount(stat.getParticipantCount())
-                .likeCount(stat.getFavoriteCount())
-                .viewCount(stat.getViewCount())
-                .build();
-
-        ScreenInfo screenInfo = null;
-
-        if (screen != null) {
-            screenInfo = ScreenInfo.builder()
-                    .screenId(screen.getScreenId())
-                    .screenName(screen.getScreenName())
-                    .is4dx(screen.getIs4dx())
-                    .isRecliner(screen.getIsRecliner())
-                    .isScreenx(screen.getIsScreenX())
-                    .isDolby(screen.getIsDolby())
-                    .isImax(screen.getIsImax())
-                    .build();
+        // 같은 버킷 내 재조회(새로고침, 봇 등)는 조회수/점수에 반영하지 않음
+        if (isFirstViewInBucket(fundingId, viewerKey)) {
+            updateViewCount(fundingId, response.getType());
         }
-
-        CinemaInfo cinemaInfo = CinemaInfo.builder()
-                .city(cinema.getCity())
-                .cinemaId(cinema.getCinemaId())
-                .cinemaName(cinema.getCinemaName())
-                .district(cinema.getDistrict())
-                .address(cinema.getAddress())
-                .build();
-
-        FundingDetailResponse response = FundingDetailResponse.builder()
-                .type(funding.getFundingType())
-                .funding(fundingInfo)
-                .screening(videoInfo)
-                .stat(statInfo)
-                .proposer(proposerInfo)
-                .screen(screenInfo)
-                .category(categoryInfo)
-                .cinema(cinemaInfo)
-                .build();
-
-        updateViewCount(fundingId, funding.getFundingType());
-
-        eventPublisher.publishEvent(new FundingScoreUpdateEvent(fundingId));
         return response;
     }
 
@@ -473,10 +380,22 @@ public class FundingService {
         return fundingListRepository.findByFundingIdIn(uniqueIds, userId);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    private boolean isFirstViewInBucket(Long fundingId, String viewerKey) {
+        if (viewerKey == null) {
+            return true;
+        }
+
+        try {
+            return redisRankingService.markUniqueView(fundingId, viewerKey);
+        } catch (Exception e) {
+            log.warn("Redis 조회자 중복 확인 실패: fundingId={}, error={}", fundingId, e.getMessage());
+            return true;
+        }
+    }
+
     protected void updateViewCount(Long fundingId, FundingType fundingType) {
-        // DB 전체 조회수 증가
-        statRepository.incrementViewCount(fundingId);
+        // DB 전체 조회수 증가 및 점수 재계산은 FundingScoreService가 모아서 일괄 반영
+        fundingScoreService.recordView(fundingId);
 
         // FUNDING 타입인 경우에만 -> Redis 버킷에 조회수 카운트 증가
         if (fundingType == FundingType.FUNDING) {
@@ -496,39 +415,7 @@ public class FundingService {
                 .orElseThrow(ResourceNotFoundException::ofFunding);
         funding.setFundingAccount(accountNo);
         fundingRepository.saveAndFlush(funding);
-    }
-
-    // wilson-score 기반 점수 계산
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void recalculateScore(Long fundingId) {
-        FundingStat fundingStat = statRepository.findByFunding_FundingId(fundingId)
-                .orElseThrow(InternalServerException::ofUnknown);
-
-        int views = fundingStat.getViewCount();
-        int likes = fundingStat.getFavoriteCount();
-
-        double engagementRate = views > 0 ? (double) likes / views : 0;
-
-        double confidence = calculateWilsonScore(likes, views - likes);
-
-        double viewScore = Math.log(1 + views) / Math.log(1000);
-
-        double finalScore = (confidence * 0.6 + engagementRate * 0.4) * viewScore * 100;
-
-        fundingStat.setRecommendScore(finalScore);
-    }
-
-    private double calculateWilsonScore(int positive, int negative) {
-        int total = positive + negative;
-        if (total == 0) {
-            return 0;
-        }
-
-        double p = (double) positive / total;
-        double z = 1.96; // 95% 신뢰구간
-
-        return (p + z * z / (2 * total) - z * Math.sqrt((p * (1 - p) + z * z / (4 * total)) / total))
-                / (1 + z * z / total);
+        eventPublisher.publishEvent(new FundingDetailChangedEvent(fundingId));
     }
 
     public List<AnimateTask> getAnimatedRequired() {
@@ -545,6 +432,7 @@ public class FundingService {
         }
         String url = imageService.translatePath(event.getAnimationUrl());
         funding.setTicketBanner(url);
+        eventPublisher.publishEvent(new FundingDetailChangedEvent(funding.getFundingId()));
     }
 
     @Transactional
@@ -564,5 +452,13 @@ public class FundingService {
         }
     }
 
-
+    /**
+     * 극장 존재 여부는 메모리 카탈로그로 확인하고, 연관관계에는 조회 없이 참조만 사용
+     */
+    private Cinema getCinemaReference(Long cinemaId) {
+        if (cinemaCatalog.findCinema(cinemaId).isEmpty()) {
+            throw ResourceNotFoundException.ofCinema();
+        }
+        return cinemaRepository.getReferenceById(cinemaId);
+    }
 }
@@ -4,12 +4,9 @@ import io.ssafy.cinemoa.funding.dto.CardTypeFundingInfoDto;
 import io.ssafy.cinemoa.funding.dto.CursorRequestDto;
 import io.ssafy.cinemoa.funding.enums.FundingType;
 import io.ssafy.cinemoa.funding.repository.LikedFundingRepository;
-import io.ssafy.cinemoa.global.enums.ResourceCode;
-import io.ssafy.cinemoa.global.exception.BadRequestException;
 import io.ssafy.cinemoa.global.exception.ResourceNotFoundException;
 import io.ssafy.cinemoa.global.response.CursorResponse;
 import io.ssafy.cinemoa.user.repository.UserRepository;
-import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -48,11 +45,7 @@ public class LikedFundingService {
         // 2. type 파라미터 검증 및 변환
         FundingType fundingType = validateAndConvertType(type);
 
-        // 3. 파라미터 검증 및 기본값 설정
-        if (!validateCursor(cursor)) {
-            throw new BadRequestException("커서 값이 잘못되었습니다.", ResourceCode.INPUT);
-        }
-
+        // 3. 파라미터 검증 및 기본값 설정 (커서는 조회 시 CursorCodec에서 한 번만 검증)
         limit = validateAndSetDefaults(limit);
 
         // 4. 요청 DTO 생성 (hasNext 판단을 위해 limit + 1개 조회)
@@ -93,30 +86,4 @@ public class LikedFundingService {
 
         return limit;
     }
-
-    /**
-     * 파라미터 검증 및 기본값 설정
-     *
-     * @param cursor 커서 값
-     */
-    private boolean validateCursor(String cursor) {
-        if (cursor == null) {
-            return true;
-        }
-
-        try {
-            // Base64 디코딩
-            String decoded = new String(java.util.Base64.getDecoder().decode(cursor));
-            String[] parts = decoded.split("_");
-            if (parts.length != 2) {
-                return false;
-            }
-
-            LocalDateTime.parse(parts[0]);  // 시간 파싱 검증
-            Long.parseLong(parts[1]);       // ID 파싱 검증
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
-    }
 }
@@ -1,10 +1,19 @@
 package io.ssafy.cinemoa.funding.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ssafy.cinemoa.favorite.service.FundingFavoriteService;
 import io.ssafy.cinemoa.funding.dto.CardTypeFundingInfoDto;
 import io.ssafy.cinemoa.funding.repository.FundingListRepository;
 import io.ssafy.cinemoa.global.redis.service.RedisRankingService;
+import io.ssafy.cinemoa.global.redis.service.RedisService;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -15,24 +24,33 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class PopularFundingService {
 
+    private static final String FUNDING_TOP10_CARDS_CACHE_KEY = "funding:top10:cards:24h";
+
+    // 다른 노드의 배치 갱신 결과를 따라가기 위한 로컬 캐시 유지 시간
+    private static final long LOCAL_CACHE_TTL_MILLIS = 30_000L;
+
+    private final RedisService redisService;
     private final RedisRankingService redisRankingService;
     private final FundingListRepository fundingListRepository;
+    private final FundingFavoriteService fundingFavoriteService;
+    private final ObjectMapper objectMapper;
+
+    private volatile CachedCards localTopCards;
 
     /**
      * 상위 10개 인기 상영회 조회 (캐시 우선)
+     * <p>
+     * 사용자 무관한 카드 목록은 로컬 → Redis 순으로 캐시에서 꺼내고, 좋아요 여부만 사용자별로 덧씌운다.
      */
     public List<CardTypeFundingInfoDto> getTopPopularFundings(Long userId) {
         try {
-            // 캐시에서 상위 10개 ID 조회
-            List<Long> cachedFundingIds = redisRankingService.getCachedTop10FundingIds();
+            List<CardTypeFundingInfoDto> cards = getTopCards();
 
-            if (!cachedFundingIds.isEmpty()) {
-                log.debug("캐시에서 상위 10개 조회: {} 건", cachedFundingIds.size());
-                return fundingListRepository.findByFundingIdIn(cachedFundingIds, userId);
+            if (userId == null || cards.isEmpty()) {
+                return cards;
             }
 
-            // 캐시가 없으면 실시간 계산
-            return getTopPopularFundingsFromRanking(userId);
+            return fundingFavoriteService.applyLikedOverlay(userId, cards);
 
         } catch (Exception e) {
             log.error("인기 상영회 조회 중 오류 발생", e);
@@ -41,18 +59,78 @@ public class PopularFundingService {
     }
 
     /**
-     * 랭킹 ZSET(:rank)에서 실시간 상위 10개 조회
+     * 사용자 무관한 상위 10개 카드 목록 조회 (로컬 캐시 → Redis 캐시 → DB)
      */
-    private List<CardTypeFundingInfoDto> getTopPopularFundingsFromRanking(Long userId) {
-        try {
-            List<Long> topFundingIds = redisRankingService.getTop10FundingIds();
+    private List<CardTypeFundingInfoDto> getTopCards() {
+        CachedCards local = localTopCards;
+        if (local != null && local.isFresh()) {
+            return local.cards();
+        }
 
-            return fundingListRepository.findByFundingIdIn(topFundingIds, userId);
+        List<CardTypeFundingInfoDto> cached = getCachedTopCards();
+        if (cached != null) {
+            log.debug("Redis 캐시에서 상위 10개 카드 조회: {} 건", cached.size());
+            localTopCards = new CachedCards(cached, System.currentTimeMillis() + LOCAL_CACHE_TTL_MILLIS);
+            return cached;
+        }
 
-        } catch (Exception e) {
-            log.error("랭킹에서 상위 10개 조회 중 오류 발생", e);
-            return new ArrayList<>();
+        // 카드 캐시가 없으면 ID 캐시 → 랭킹 ZSET 순으로 조회 후 카드 캐시 재구성
+        List<Long> topFundingIds = redisRankingService.getCachedTop10FundingIds();
+        if (topFundingIds.isEmpty()) {
+            topFundingIds = redisRankingService.getTop10FundingIds();
         }
+
+        return refreshTopCards(topFundingIds);
+    }
+
+    /**
+     * 상위 10개 카드 목록을 DB에서 다시 읽어 로컬/Redis 캐시에 저장
+     */
+    private List<CardTypeFundingInfoDto> refreshTopCards(List<Long> topFundingIds) {
+        List<CardTypeFundingInfoDto> cards = sortByRank(
+                fundingListRepository.findByFundingIdIn(topFundingIds, null), topFundingIds);
+
+        if (!cards.isEmpty()) {
+            try {
+                String jsonString = objectMapper.writeValueAsString(cards);
+                redisService.setValue(FUNDING_TOP10_CARDS_CACHE_KEY, jsonString, Duration.ofMinutes(35));
+            } catch (JsonProcessingException e) {
+                log.error("상위 10개 카드 직렬화 실패: {}", topFundingIds, e);
+            }
+        }
+
+        localTopCards = new CachedCards(cards, System.currentTimeMillis() + LOCAL_CACHE_TTL_MILLIS);
+        return cards;
+    }
+
+    private List<CardTypeFundingInfoDto> getCachedTopCards() {
+        Object cached = redisService.getValue(FUNDING_TOP10_CARDS_CACHE_KEY);
+        if (cached == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(cached.toString(), new TypeReference<List<CardTypeFundingInfoDto>>() {
+            });
+        } catch (JsonProcessingException e) {
+            log.error("상위 10개 카드 역직렬화 실패", e);
+            return null;
+        }
+    }
+
+    /**
+     * IN 절 조회 결과를 랭킹 순서대로 정렬
+     */
+    private List<CardTypeFundingInfoDto> sortByRank(List<CardTypeFundingInfoDto> cards, List<Long> rankedIds) {
+        Map<Long, Integer> rankOf = new HashMap<>();
+        for (int i = 0; i < rankedIds.size(); i++) {
+            rankOf.put(rankedIds.get(i), i);
+        }
+
+        return cards.stream()
+                .sorted(Comparator.comparingInt(card -> rankOf.getOrDefault(card.getFunding().getFundingId(),
+                        Integer.MAX_VALUE)))
+                .toList();
     }
 
     /**
@@ -117,6 +195,9 @@ public class PopularFundingService {
                 // 상위 10개 캐시 저장
                 redisRankingService.cacheTop10FundingIds(top10FundingIds);
 
+                // 랭킹이 바뀌었으므로 카드 캐시도 갱신
+                refreshTopCards(top10FundingIds);
+
                 log.info("■■■■■■■■ 인기 상영회 랭킹 배치 갱신 완료 ■■■■■■■■");
                 log.info("처리된 펀딩: {} 개, 상위 10개 캐시 저장 완료", processedCount);
 
@@ -153,4 +234,9 @@ public class PopularFundingService {
                 / (1 + z * z / total);
     }
 
+    private record CachedCards(List<CardTypeFundingInfoDto> cards, long expiresAt) {
+        boolean isFresh() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+    }
 }
@@ -0,0 +1,203 @@
+package io.ssafy.cinemoa.funding.service;
+
+import io.ssafy.cinemoa.category.service.CategoryService;
+import io.ssafy.cinemoa.cinema.enums.CinemaFeature;
+import io.ssafy.cinemoa.funding.dto.FacetSourceDto;
+import io.ssafy.cinemoa.funding.dto.SearchFacetResponse;
+import io.ssafy.cinemoa.funding.dto.SearchRequest;
+import io.ssafy.cinemoa.funding.enums.FundingType;
+import io.ssafy.cinemoa.funding.event.FundingDetailChangedEvent;
+import io.ssafy.cinemoa.funding.repository.SearchFacetRepository;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 검색 필터 facet 집계 서비스
+ * <p>
+ * 진행 중인 펀딩마다 0부터 순번을 매기고, facet 값(구, 상영관 타입, 카테고리, 펀딩 타입)별 BitSet을 만들어 둔다.
+ * 요청마다 선택된 필터의 BitSet을 교집합하여 DB 조회 없이 facet별 개수를 계산한다.
+ * <p>
+ * 각 facet의 개수는 자기 자신을 제외한 나머지 필터만 적용하여 계산하므로,
+ * 구를 하나 선택해도 다른 구의 개수가 함께 보인다.
+ * 검색어(q)는 facet 인덱스에 포함되지 않으므로 반영하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchFacetService {
+
+    private final SearchFacetRepository facetRepository;
+    private final CategoryService categoryService;
+
+    private volatile FacetIndex index = FacetIndex.empty();
+
+    private volatile boolean dirty = false;
+
+    public SearchFacetResponse getFacetCounts(SearchRequest request) {
+        FacetIndex current = index;
+
+        BitSet typeFilter = current.selectFundingType(request.getFundingType());
+        BitSet regionFilter = current.selectAny(current.byRegion, request.getRegion());
+        BitSet theaterFilter = current.selectAny(current.byTheaterType, request.getTheaterType());
+        BitSet categoryFilter = current.selectAny(current.byCategory, request.getCategory());
+
+        BitSet all = intersect(typeFilter, regionFilter, theaterFilter, categoryFilter);
+
+        return SearchFacetResponse.builder()
+                .totalCount(all.cardinality())
+                .regions(countEach(current.byRegion, intersect(typeFilter, theaterFilter, categoryFilter)))
+                .theaterTypes(countEach(current.byTheaterType, intersect(typeFilter, regionFilter, categoryFilter)))
+                .categories(countEach(current.byCategory, intersect(typeFilter, regionFilter, theaterFilter)))
+                .build();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFundingDetailChanged(FundingDetailChangedEvent event) {
+        markDirty();
+    }
+
+    /**
+     * 다음 주기에 인덱스를 재구성하도록 표시 (변경이 몰려도 재구성은 한 번만 수행)
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * 변경이 있었으면 5초 내에 인덱스 재구성
+     */
+    @Scheduled(fixedDelay = 5_000, initialDelay = 5_000)
+    public void rebuildIfDirty() {
+        if (dirty) {
+            dirty = false;
+            rebuild();
+        }
+    }
+
+    /**
+     * 기동 직후 및 5분마다 전체 인덱스 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 300_000, initialDelay = 300_000)
+    public void rebuild() {
+        try {
+            List<FacetSourceDto> sources = facetRepository.findActiveFundingFacets();
+            index = FacetIndex.build(sources, categoryService::getParentCategoryId);
+            log.debug("검색 facet 인덱스 재구성 완료 - 진행 중 펀딩 {}개", sources.size());
+        } catch (Exception e) {
+            dirty = true;
+            log.error("검색 facet 인덱스 재구성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private BitSet intersect(BitSet... filters) {
+        BitSet result = (BitSet) filters[0].clone();
+        for (int i = 1; i < filters.length; i++) {
+            result.and(filters[i]);
+        }
+        return result;
+    }
+
+    private <K> Map<K, Integer> countEach(Map<K, BitSet> facet, BitSet base) {
+        Map<K, Integer> counts = new HashMap<>(facet.size() * 2);
+        facet.forEach((value, bitSet) -> {
+            BitSet matched = (BitSet) bitSet.clone();
+            matched.and(base);
+            counts.put(value, matched.cardinality());
+        });
+        return counts;
+    }
+
+    /**
+     * 불변 facet 인덱스 (재구성 시 통째로 교체)
+     */
+    private static final class FacetIndex {
+        private final int size;
+        private final BitSet everything;
+        private final Map<FundingType, BitSet> byFundingType;
+        private final Map<String, BitSet> byRegion;
+        private final Map<CinemaFeature, BitSet> byTheaterType;
+        private final Map<Long, BitSet> byCategory;
+
+        private FacetIndex(int size, Map<FundingType, BitSet> byFundingType, Map<String, BitSet> byRegion,
+                           Map<CinemaFeature, BitSet> byTheaterType, Map<Long, BitSet> byCategory) {
+            this.size = size;
+            this.everything = new BitSet(size);
+            this.everything.set(0, size);
+            this.byFundingType = byFundingType;
+            this.byRegion = byRegion;
+            this.byTheaterType = byTheaterType;
+            this.byCategory = byCategory;
+        }
+
+        private static FacetIndex empty() {
+            return new FacetIndex(0, Map.of(), Map.of(), Map.of(), Map.of());
+        }
+
+        private static FacetIndex build(List<FacetSourceDto> sources, Function<Long, Long> parentCategoryOf) {
+            Map<FundingType, BitSet> byFundingType = new EnumMap<>(FundingType.class);
+            Map<String, BitSet> byRegion = new HashMap<>();
+            Map<CinemaFeature, BitSet> byTheaterType = new EnumMap<>(CinemaFeature.class);
+            Map<Long, BitSet> byCategory = new HashMap<>();
+
+            for (int position = 0; position < sources.size(); position++) {
+                FacetSourceDto source = sources.get(position);
+
+                byFundingType.computeIfAbsent(source.getFundingType(), k -> new BitSet()).set(position);
+
+                if (source.getDistrict() != null) {
+                    byRegion.computeIfAbsent(source.getDistrict(), k -> new BitSet()).set(position);
+                }
+
+                for (CinemaFeature theaterType : source.getTheaterTypes()) {
+                    byTheaterType.computeIfAbsent(theaterType, k -> new BitSet()).set(position);
+                }
+
+                // 상위 카테고리 선택 시 하위 카테고리까지 포함하는 검색과 맞추기 위해 상위 카테고리에도 표시
+                byCategory.computeIfAbsent(source.getCategoryId(), k -> new BitSet()).set(position);
+                Long parentId = parentCategoryOf.apply(source.getCategoryId());
+                if (parentId != null) {
+                    byCategory.computeIfAbsent(parentId, k -> new BitSet()).set(position);
+                }
+            }
+
+            return new FacetIndex(sources.size(), byFundingType, byRegion, byTheaterType, byCategory);
+        }
+
+        private BitSet selectFundingType(FundingType fundingType) {
+            if (fundingType == null) {
+                return everything;
+            }
+            return byFundingType.getOrDefault(fundingType, new BitSet(size));
+        }
+
+        // 같은 facet 안에서 여러 값을 고르면 합집합 (검색 쿼리의 IN / OR 조건과 동일)
+        private <K> BitSet selectAny(Map<K, BitSet> facet, Collection<K> values) {
+            if (values == null || values.isEmpty()) {
+                return everything;
+            }
+
+            BitSet result = new BitSet(size);
+            for (K value : values) {
+                BitSet bitSet = facet.get(value);
+                if (bitSet != null) {
+                    result.or(bitSet);
+                }
+            }
+            return result;
+        }
+    }
+}
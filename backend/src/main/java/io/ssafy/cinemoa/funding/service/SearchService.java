@@ -1,27 +1,184 @@
 package io.ssafy.cinemoa.funding.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.ssafy.cinemoa.category.service.CategoryService;
+import io.ssafy.cinemoa.cinema.service.CinemaGeoIndex;
+import io.ssafy.cinemoa.favorite.service.FundingFavoriteService;
 import io.ssafy.cinemoa.funding.dto.CardTypeFundingInfoDto;
 import io.ssafy.cinemoa.funding.dto.SearchRequest;
+import io.ssafy.cinemoa.funding.enums.FundingSortOrder;
+import io.ssafy.cinemoa.funding.event.FundingDetailChangedEvent;
 import io.ssafy.cinemoa.funding.repository.FundingFilterRepository;
+import io.ssafy.cinemoa.global.exception.BadRequestException;
 import io.ssafy.cinemoa.global.response.CursorResponse;
+import io.ssafy.cinemoa.global.response.JsonStreamWriter;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Service
 @RequiredArgsConstructor
 public class SearchService {
 
+    // 거리순 좌표는 소수 둘째 자리(약 1km)로 맞춰 근처 요청끼리 같은 캐시 키와 결과를 쓰게 함
+    private static final double COORDINATE_SCALE = 100.0;
+
     private final FundingFilterRepository filterRepository;
+    private final FundingFavoriteService fundingFavoriteService;
+    private final CategoryService categoryService;
+    private final JsonStreamWriter jsonStreamWriter;
+    private final CinemaGeoIndex cinemaGeoIndex;
+
+    // 사용자 무관한 검색 결과 페이지 캐시 (좋아요 여부는 요청마다 덧씌움)
+    private final Cache<String, CursorResponse<CardTypeFundingInfoDto>> resultCache = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
 
     public CursorResponse<CardTypeFundingInfoDto> search(SearchRequest request) {
-        if (request.getSortBy() == null) {
-            return filterRepository.findLatestWithFilters(request);
+        CursorResponse<CardTypeFundingInfoDto> page = resultCache.get(toCacheKey(request),
+                key -> searchWithoutUser(request));
+
+        return CursorResponse.<CardTypeFundingInfoDto>builder()
+                .content(fundingFavoriteService.applyLikedOverlay(request.getUserId(), page.getContent()))
+                .nextCursor(page.getNextCursor())
+                .hasNextPage(page.isHasNextPage())
+                .build();
+    }
+
+    /**
+     * 스트리밍 응답용 검색
+     * <p>
+     * 관련도순(Top 100)은 캐시된 결과가 없으면 조회 행을 바로 응답에 쓰고, 좋아요 여부는 쿼리 조인으로 채운다.
+     * 그 외 정렬은 페이지가 작아 기존 검색 결과를 그대로 스트림 형태로 내보낸다.
+     */
+    public StreamingResponseBody searchStreaming(SearchRequest request) {
+        CursorResponse<CardTypeFundingInfoDto> cached = isRelevanceOrder(request)
+                ? resultCache.getIfPresent(toCacheKey(request))
+                : search(request);
+
+        if (cached != null) {
+            List<CardTypeFundingInfoDto> content = isRelevanceOrder(request)
+                    ? fundingFavoriteService.applyLikedOverlay(request.getUserId(), cached.getContent())
+                    : cached.getContent();
+            return jsonStreamWriter.ofCursorPage(content::forEach, cached.getNextCursor(), cached.isHasNextPage());
+        }
+
+        SearchRequest expanded = withExpandedCategories(request, request.getUserId());
+        return jsonStreamWriter.<CardTypeFundingInfoDto>ofCursorPage(
+                sink -> filterRepository.streamRelevantWithFilters(expanded, sink), null, false);
+    }
+
+    /**
+     * 펀딩 생성/전환/상태 변경 시 검색 결과 캐시 비우기
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFundingDetailChanged(FundingDetailChangedEvent event) {
+        invalidateCache();
+    }
+
+    public void invalidateCache() {
+        resultCache.invalidateAll();
+    }
+
+    private CursorResponse<CardTypeFundingInfoDto> searchWithoutUser(SearchRequest request) {
+        SearchRequest anonymous = withExpandedCategories(request, null);
+
+        if (anonymous.getSortBy() == null) {
+            // 검색어가 있으면 관련도순, 없으면 최신순
+            if (isRelevanceOrder(anonymous)) {
+                return filterRepository.findRelevantWithFilters(anonymous);
+            }
+            return filterRepository.findLatestWithFilters(anonymous);
         }
 
-        return switch (request.getSortBy()) {
-            case RECOMMENDED -> filterRepository.findRecommendedWithFilters(request);
-            case POPULAR -> filterRepository.findPopularWithFilters(request);
-            default -> filterRepository.findLatestWithFilters(request);
+        return switch (anonymous.getSortBy()) {
+            case RECOMMENDED -> filterRepository.findRecommendedWithFilters(anonymous);
+            case POPULAR -> filterRepository.findPopularWithFilters(anonymous);
+            case RELEVANCE -> filterRepository.findRelevantWithFilters(anonymous);
+            case DISTANCE -> findByDistance(anonymous);
+            default -> filterRepository.findLatestWithFilters(anonymous);
         };
     }
+
+    /**
+     * 거리순: 위치 인덱스에서 가까운 극장 순서를 구하고, 그 순서대로 펀딩을 정렬 (Top 100)
+     */
+    private CursorResponse<CardTypeFundingInfoDto> findByDistance(SearchRequest request) {
+        if (request.getLat() == null || request.getLng() == null) {
+            throw BadRequestException.ofInput("거리순 정렬에는 좌표(lat, lng)가 필요합니다.");
+        }
+        if (request.getLat() < -90 || request.getLat() > 90 || request.getLng() < -180 || request.getLng() > 180) {
+            throw BadRequestException.ofInput("좌표가 잘못되었습니다.");
+        }
+
+        List<Long> cinemaIds = cinemaGeoIndex.findCinemaIdsByDistance(request.getLat(), request.getLng());
+        return filterRepository.findByCinemaOrderWithFilters(request, cinemaIds);
+    }
+
+    /**
+     * 상위 카테고리는 메모리 카테고리 트리로 하위 카테고리까지 확장
+     */
+    private SearchRequest withExpandedCategories(SearchRequest request, Long userId) {
+        Set<Long> categoryIds = request.getCategory() == null || request.getCategory().isEmpty()
+                ? request.getCategory()
+                : categoryService.expandWithChildren(request.getCategory());
+
+        return new SearchRequest(request.getQ(), userId, request.getSortBy(),
+                request.getFundingType(), categoryIds, request.getRegion(), request.getTheaterType(),
+                request.getIsClosed(), request.getNextCursor(), roundCoordinate(request.getLat()),
+                roundCoordinate(request.getLng()));
+    }
+
+    // 정렬 미지정 시 검색어가 있으면 관련도순
+    private boolean isRelevanceOrder(SearchRequest request) {
+        if (request.getSortBy() == null) {
+            return request.getQ() != null && !request.getQ().isBlank();
+        }
+        return request.getSortBy() == FundingSortOrder.RELEVANCE;
+    }
+
+    /**
+     * 같은 조건이면 순서와 관계없이 같은 키가 되도록 정규화 (userId 제외)
+     */
+    private String toCacheKey(SearchRequest request) {
+        String q = request.getQ() == null ? "" : request.getQ().strip().toLowerCase();
+
+        return String.join("|",
+                "q=" + q,
+                "sort=" + request.getSortBy(),
+                "type=" + request.getFundingType(),
+                "category=" + sortedJoin(request.getCategory()),
+                "region=" + sortedJoin(request.getRegion()),
+                "theater=" + sortedJoin(request.getTheaterType()),
+                "closed=" + request.getIsClosed(),
+                "geo=" + (request.getSortBy() == FundingSortOrder.DISTANCE
+                        ? roundCoordinate(request.getLat()) + "," + roundCoordinate(request.getLng())
+                        : ""),
+                "cursor=" + Objects.toString(request.getNextCursor(), ""));
+    }
+
+    private static Double roundCoordinate(Double degrees) {
+        return degrees == null ? null : Math.round(degrees * COORDINATE_SCALE) / COORDINATE_SCALE;
+    }
+
+    private String sortedJoin(Collection<?> values) {
+        if (values == null || values.isEmpty()) {
+            return "";
+        }
+        return values.stream()
+                .map(String::valueOf)
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
 }
@@ -0,0 +1,161 @@
+package io.ssafy.cinemoa.funding.service;
+
+import io.ssafy.cinemoa.funding.dto.SearchSuggestionDto;
+import io.ssafy.cinemoa.funding.event.FundingDetailChangedEvent;
+import io.ssafy.cinemoa.funding.repository.SearchSuggestionRepository;
+import io.ssafy.cinemoa.funding.search.SuggestionTrie;
+import io.ssafy.cinemoa.global.util.HangulUtils;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 검색어 자동완성 서비스
+ * <p>
+ * 펀딩 제목, 상영물 이름, 영화관 이름을 메모리 접두사 트리에 올려두고 DB 조회 없이 추천어를 반환한다.
+ * 단어 시작 위치마다 자모 분해 키와 초성 키를 함께 색인하여 "스ㅍ", "ㅅㅍㅇㄷ", "맨" 같은 입력도 찾는다.
+ * <p>
+ * 펀딩이 생성/수정되면 해당 펀딩만 다시 색인하고, 서버 간 누락에 대비해 주기적으로 전체를 재구성한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchSuggestionService {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 20;
+
+    private final SearchSuggestionRepository suggestionRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private SuggestionIndex index = new SuggestionIndex();
+
+    public List<SearchSuggestionDto> suggest(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+
+        int size = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        String normalized = query.strip();
+
+        lock.readLock().lock();
+        try {
+            Set<SearchSuggestionDto> result;
+            if (HangulUtils.isChosungOnly(normalized)) {
+                result = index.chosungTrie.findByPrefix(HangulUtils.toChosung(normalized), size);
+            } else {
+                result = index.jamoTrie.findByPrefix(HangulUtils.decompose(normalized), size);
+            }
+            return new ArrayList<>(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기동 직후 및 10분마다 전체 인덱스 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void rebuild() {
+        try {
+            SuggestionIndex newIndex = new SuggestionIndex();
+
+            suggestionRepository.findAllFundingSuggestions().forEach(newIndex::putFunding);
+            suggestionRepository.findAllCinemaSuggestions().forEach(newIndex::add);
+
+            lock.writeLock().lock();
+            try {
+                index = newIndex;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info("검색어 자동완성 인덱스 재구성 완료 - 펀딩 {}개", newIndex.fundingSuggestions.size());
+        } catch (Exception e) {
+            log.error("검색어 자동완성 인덱스 재구성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleFundingDetailChanged(FundingDetailChangedEvent event) {
+        reindexFunding(event.getFundingId());
+    }
+
+    /**
+     * 단일 펀딩의 추천어 재색인
+     */
+    public void reindexFunding(Long fundingId) {
+        try {
+            List<SearchSuggestionDto> suggestions = suggestionRepository.findFundingSuggestions(fundingId);
+
+            lock.writeLock().lock();
+            try {
+                index.putFunding(fundingId, suggestions);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            log.warn("검색어 자동완성 재색인 실패 - 펀딩ID: {}, 오류: {}", fundingId, e.getMessage());
+        }
+    }
+
+    private static class SuggestionIndex {
+        private final SuggestionTrie jamoTrie = new SuggestionTrie();
+        private final SuggestionTrie chosungTrie = new SuggestionTrie();
+        private final Map<Long, List<SearchSuggestionDto>> fundingSuggestions = new HashMap<>();
+
+        private void putFunding(Long fundingId, List<SearchSuggestionDto> suggestions) {
+            List<SearchSuggestionDto> previous = fundingSuggestions.remove(fundingId);
+            if (previous != null) {
+                previous.forEach(this::remove);
+            }
+
+            if (!suggestions.isEmpty()) {
+                suggestions.forEach(this::add);
+                fundingSuggestions.put(fundingId, suggestions);
+            }
+        }
+
+        private void add(SearchSuggestionDto suggestion) {
+            for (String key : wordSuffixes(suggestion.getText())) {
+                jamoTrie.add(HangulUtils.decompose(key), suggestion);
+                chosungTrie.add(HangulUtils.toChosung(key), suggestion);
+            }
+        }
+
+        private void remove(SearchSuggestionDto suggestion) {
+            for (String key : wordSuffixes(suggestion.getText())) {
+                jamoTrie.remove(HangulUtils.decompose(key), suggestion);
+                chosungTrie.remove(HangulUtils.toChosung(key), suggestion);
+            }
+        }
+
+        // 단어 시작 위치마다의 접미사: "스파이더 맨" -> ["스파이더 맨", "맨"]
+        private static Set<String> wordSuffixes(String text) {
+            Set<String> suffixes = new LinkedHashSet<>();
+            String normalized = text.strip();
+            for (int i = 0; i < normalized.length(); i++) {
+                if (i == 0 || (Character.isWhitespace(normalized.charAt(i - 1))
+                        && !Character.isWhitespace(normalized.charAt(i)))) {
+                    suffixes.add(normalized.substring(i));
+                }
+            }
+            return suffixes;
+        }
+    }
+}
@@ -38,6 +38,30 @@ public class AsyncConfig {
         return executor;
     }
 
+    /**
+     * SSE 하트비트 전송용 실행기
+     * <p>
+     * 연결마다 작업을 하나씩 넣으므로 느린 쓰기는 스레드 하나만 잡고 나머지 연결은 다른 스레드가 계속 처리한다.
+     * 큐가 가득 차면 호출자(스케줄러) 스레드에서 실행하지 않고 거절하며, 거절된 연결은 다음 주기에 다시 보낸다.
+     */
+    @Bean(name = "sseHeartbeatExecutor")
+    public Executor sseHeartbeatExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(20000);
+        executor.setThreadNamePrefix("SSE-Heartbeat-");
+        executor.setKeepAliveSeconds(60);
+        executor.setAllowCoreThreadTimeOut(true);
+
+        executor.initialize();
+
+        log.info("SSE 하트비트 실행기 초기화 완료 - Pool: {}, QueueCapacity: {}",
+                executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
     /**
      * 일반 비동기 작업용 실행기
      */
@@ -0,0 +1,179 @@
+package io.ssafy.cinemoa.global.config;
+
+import io.ssafy.cinemoa.notification.repository.NotificationHistoryBackfill;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 버전별 스키마/데이터 마이그레이션 (조회 성능용 인덱스 추가, 테이블 구조 변경에 따른 데이터 이전)
+ * <p>
+ * 데이터 이전은 앞뒤 스키마 변경과 순서가 묶여 있으므로(예: V8에서 옮긴 뒤 V9에서 기존 테이블 삭제) 같은 버전 목록에서 적용한다.
+ * 데이터 이전 단계는 대상 행을 한 번에 메모리에 올리지 않도록 PK 구간 단위로 나누어 처리한다.
+ * <p>
+ * 테이블은 JPA(Hibernate)가 생성하므로, 모든 빈이 만들어진 뒤(테이블 준비 완료)
+ * 웹 서버가 요청을 받기 전에 순서대로 적용한다. 그래서 마이그레이션이 끝나기 전에 들어온 요청이 옛 구조를 보지 않는다.
+ * 적용된 버전은 schema_index_history에 기록하여 다시 실행하지 않고 (이미 배포된 이력 테이블이므로 이름은 유지),
+ * 수동으로 이미 만들어 둔 인덱스가 있으면 생성 없이 기록만 한다.
+ * <p>
+ * 실패 정책: 한 버전이라도 실패하면 예외를 던져 기동을 중단한다.
+ * 뒤 버전이 앞 버전을 전제로 할 수 있으므로 실패한 버전을 건너뛰지 않으며,
+ * 원인을 해결하고 다시 기동하면 실패한 버전부터 이어서 적용한다.
+ * (예: V4는 funding_stats에 같은 funding_id 행이 둘 이상 있으면 실패하므로 중복 행을 먼저 정리해야 한다)
+ * <p>
+ * 새 마이그레이션은 목록 끝에 다음 버전으로 추가하고, 이미 배포된 항목은 수정하지 않는다.
+ * 인덱스를 추가하거나 쿼리를 바꾸면 QueryPlanRegressionTest로 전체 스캔이 생기지 않았는지 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaMigrationRunner implements SmartInitializingSingleton {
+
+    private static final List<Migration> MIGRATIONS = List.of(
+            // 검색: 제목/상영물 이름 한글 부분 일치 (ngram_token_size = 2)
+            index(1, "funding_cards", "ft_funding_cards_title_video_name",
+                    "ALTER TABLE funding_cards ADD FULLTEXT INDEX ft_funding_cards_title_video_name"
+                            + " (title, video_name) WITH PARSER ngram"),
+            // 상태/타입별 최신순 조회
+            index(2, "fundings", "idx_fundings_state_type_created",
+                    "CREATE INDEX idx_fundings_state_type_created"
+                            + " ON fundings (state, funding_type, created_at, funding_id)"),
+            // 마감 스케줄러: ends_on = ? AND state = ?
+            index(3, "fundings", "idx_fundings_ends_on_state",
+                    "CREATE INDEX idx_fundings_ends_on_state ON fundings (ends_on, state)"),
+            // 펀딩당 통계 행은 하나 (funding_id로만 조회/갱신)
+            index(4, "funding_stats", "uk_funding_stats_funding_id",
+                    "CREATE UNIQUE INDEX uk_funding_stats_funding_id ON funding_stats (funding_id)"),
+            // 보고싶어요 목록: user_id = ? ORDER BY created_at DESC, funding_id DESC
+            index(5, "user_favorites", "idx_user_favorites_user_created",
+                    "CREATE INDEX idx_user_favorites_user_created"
+                            + " ON user_favorites (user_id, created_at, funding_id)"),
+            // 펀딩별 결제 내역 (참여 여부, 환불 대상 조회)
+            index(6, "user_transactions", "idx_user_transactions_funding_state",
+                    "CREATE INDEX idx_user_transactions_funding_state"
+                            + " ON user_transactions (funding_id, state)"),
+            // 참여 목록: user_id = ? AND state = 'SUCCESS' GROUP BY funding_id
+            index(7, "user_transactions", "idx_user_transactions_user_state",
+                    "CREATE INDEX idx_user_transactions_user_state"
+                            + " ON user_transactions (user_id, state, funding_id, created_at)"),
+            // 기존 시간 블럭 행(screen_unavailable_time)을 상영관 날짜별 예약 마스크로 합침
+            new Migration(8, "merge_screen_unavailable_time", SchemaMigrationRunner::mergeLegacyHourBlocks),
+            // 합친 뒤에는 더 이상 읽거나 쓰지 않으므로 기존 테이블 삭제
+            new Migration(9, "drop_screen_unavailable_time",
+                    jdbcTemplate -> jdbcTemplate.execute("DROP TABLE IF EXISTS screen_unavailable_time")),
+            // 알림함 도입 전 결제/펀딩 이력을 읽은 알림으로 옮김
+            new Migration(10, "backfill_notifications", NotificationHistoryBackfill::backfill)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    public void migrate() {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS schema_index_history (
+                    version INT NOT NULL PRIMARY KEY,
+                    index_name VARCHAR(100) NOT NULL,
+                    applied_at DATETIME(6) NOT NULL
+                )
+                """);
+
+        Set<Integer> appliedVersions = jdbcTemplate.queryForList(
+                        "SELECT version FROM schema_index_history", Integer.class)
+                .stream()
+                .collect(Collectors.toSet());
+
+        for (Migration migration : MIGRATIONS) {
+            if (!appliedVersions.contains(migration.version())) {
+                apply(migration);
+            }
+        }
+    }
+
+    private void apply(Migration migration) {
+        log.info("스키마 마이그레이션 V{} 시작: {}", migration.version(), migration.name());
+        try {
+            migration.step().apply(jdbcTemplate);
+        } catch (Exception e) {
+            throw new IllegalStateException("스키마 마이그레이션 V" + migration.version() + " (" + migration.name()
+                    + ") 실패 - 원인을 해결하기 전까지 이후 버전은 적용되지 않습니다: " + e.getMessage(), e);
+        }
+
+        jdbcTemplate.update("""
+                INSERT INTO schema_index_history (version, index_name, applied_at)
+                VALUES (?, ?, NOW(6))
+                """, migration.version(), migration.name());
+        log.info("스키마 마이그레이션 V{} 완료: {}", migration.version(), migration.name());
+    }
+
+    /**
+     * 인덱스 추가 (같은 이름의 인덱스가 이미 있으면 생성 없이 기록만 함)
+     */
+    private static Migration index(int version, String table, String indexName, String ddl) {
+        return new Migration(version, indexName, jdbcTemplate -> {
+            if (indexExists(jdbcTemplate, table, indexName)) {
+                log.info("스키마 마이그레이션 V{} - 이미 존재하는 인덱스 기록: {}", version, indexName);
+                return;
+            }
+            jdbcTemplate.execute(ddl);
+        });
+    }
+
+    /**
+     * 기존 시간 블럭 행을 (상영관, 날짜)별 마스크로 OR 하여 반영 (테이블이 없으면 건너뜀)
+     * <p>
+     * 기존 마스크와 OR 하므로 여러 번 실행해도 결과가 같다.
+     */
+    private static void mergeLegacyHourBlocks(JdbcTemplate jdbcTemplate) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM information_schema.tables
+                WHERE table_schema = DATABASE()
+                  AND table_name = 'screen_unavailable_time'
+                """, Integer.class);
+        if (count == null || count == 0) {
+            return;
+        }
+
+        int affected = jdbcTemplate.update("""
+                INSERT INTO screen_schedules (screen_id, target_date, booked_mask)
+                SELECT legacy.screen_id, legacy.target_date, legacy.mask
+                FROM (
+                    SELECT screen_id, target_date, BIT_OR(1 << hour_block) AS mask
+                    FROM screen_unavailable_time
+                    WHERE screen_id IS NOT NULL
+                    GROUP BY screen_id, target_date
+                ) legacy
+                ON DUPLICATE KEY UPDATE booked_mask = screen_schedules.booked_mask | legacy.mask
+                """);
+        log.info("기존 상영관 시간 블럭을 예약 마스크로 병합 - 영향 행 수: {}", affected);
+    }
+
+    private static boolean indexExists(JdbcTemplate jdbcTemplate, String table, String indexName) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM information_schema.statistics
+                WHERE table_schema = DATABASE()
+                  AND table_name = ?
+                  AND index_name = ?
+                """, Integer.class, table, indexName);
+
+        return count != null && count > 0;
+    }
+
+    private record Migration(int version, String name, MigrationStep step) {
+    }
+
+    @FunctionalInterface
+    private interface MigrationStep {
+        void apply(JdbcTemplate jdbcTemplate);
+    }
+}
@@ -9,7 +9,7 @@ public enum ResourceCode {
 
     USER(1), CINEMA(2), SCREEN(3), FUNDING(4), CARD(5), ACCOUNT(6), QUERY(7), INPUT(8), LIKE(9), PAYMENT(10), REFUND(
             11),
-    SEAT(12), CATEGORY(13), WONAUTH(14), TRANSFER(15), SUMMARIZE(16), ERROR(127), IMAGE(16);
+    SEAT(12), CATEGORY(13), WONAUTH(14), TRANSFER(15), SUMMARIZE(16), ERROR(127), IMAGE(16), NOTIFICATION(17);
 
     private final int number;
 }
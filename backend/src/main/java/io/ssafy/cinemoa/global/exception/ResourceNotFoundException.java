@@ -43,4 +43,8 @@ public class ResourceNotFoundException extends BaseException {
     public static ResourceNotFoundException ofImage() {
         return new ResourceNotFoundException("존재하지 않는 이미지입니다.", ResourceCode.IMAGE);
     }
+
+    public static ResourceNotFoundException ofNotification() {
+        return new ResourceNotFoundException("존재하지 않는 알림입니다.", ResourceCode.NOTIFICATION);
+    }
 }
@@ -1,9 +1,17 @@
 package io.ssafy.cinemoa.global.redis.config;
 
+import io.ssafy.cinemoa.cinema.service.ScreenService;
+import io.ssafy.cinemoa.funding.service.FundingDetailCacheService;
+import io.ssafy.cinemoa.global.redis.listener.CinemaCalendarInvalidationListener;
+import io.ssafy.cinemoa.global.redis.listener.FundingDetailInvalidationListener;
+import io.ssafy.cinemoa.global.redis.listener.NotificationMessageListener;
 import io.ssafy.cinemoa.global.redis.listener.SeatExpirationListener;
+import io.ssafy.cinemoa.notification.service.NotificationService;
+import java.util.List;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
@@ -12,10 +20,20 @@ public class RedisListenerConfig {
 
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
-                                                                       SeatExpirationListener seatExpirationListener) {
+                                                                       SeatExpirationListener seatExpirationListener,
+                                                                       FundingDetailInvalidationListener fundingDetailInvalidationListener,
+                                                                       CinemaCalendarInvalidationListener cinemaCalendarInvalidationListener,
+                                                                       NotificationMessageListener notificationMessageListener) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
         container.addMessageListener(seatExpirationListener, new PatternTopic("__keyevent@0__:expired"));
+        container.addMessageListener(fundingDetailInvalidationListener,
+                new ChannelTopic(FundingDetailCacheService.FUNDING_DETAIL_INVALIDATE_CHANNEL));
+        container.addMessageListener(cinemaCalendarInvalidationListener,
+                new ChannelTopic(ScreenService.CALENDAR_INVALIDATE_CHANNEL));
+        container.addMessageListener(notificationMessageListener,
+                List.of(new PatternTopic(NotificationService.USER_CHANNEL_PATTERN),
+                        new ChannelTopic(NotificationService.BROADCAST_CHANNEL)));
         return container;
     }
 }
@@ -0,0 +1,27 @@
+package io.ssafy.cinemoa.global.redis.listener;
+
+import io.ssafy.cinemoa.cinema.service.ScreenService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CinemaCalendarInvalidationListener implements MessageListener {
+    private final ScreenService screenService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody());
+
+        // 다른 서버에서 예약된 극장의 로컬 달력 캐시 무효화
+        try {
+            screenService.evictLocal(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 극장 달력 캐시 무효화 메시지: {}", body);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.ssafy.cinemoa.global.redis.listener;
+
+import io.ssafy.cinemoa.funding.service.FundingDetailCacheService;
+import io.ssafy.cinemoa.funding.service.SearchFacetService;
+import io.ssafy.cinemoa.funding.service.SearchService;
+import io.ssafy.cinemoa.funding.service.SearchSuggestionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FundingDetailInvalidationListener implements MessageListener {
+    private final FundingDetailCacheService fundingDetailCacheService;
+    private final SearchSuggestionService searchSuggestionService;
+    private final SearchService searchService;
+    private final SearchFacetService searchFacetService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody());
+
+        // 다른 서버에서 변경된 펀딩의 로컬 상세/검색 캐시 무효화 및 자동완성 재색인
+        try {
+            Long fundingId = Long.parseLong(body);
+            fundingDetailCacheService.evictLocal(fundingId);
+            searchService.invalidateCache();
+            searchFacetService.markDirty();
+            searchSuggestionService.reindexFunding(fundingId);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 펀딩 상세 캐시 무효화 메시지: {}", body);
+        }
+    }
+}
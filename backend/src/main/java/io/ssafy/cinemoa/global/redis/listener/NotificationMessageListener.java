@@ -0,0 +1,38 @@
+package io.ssafy.cinemoa.global.redis.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ssafy.cinemoa.notification.dto.NotificationEventDto;
+import io.ssafy.cinemoa.notification.service.NotificationService;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationMessageListener implements MessageListener {
+    private final NotificationService notificationService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+
+        // 발행은 모든 서버가 받지만, 실제 전달은 이 서버에 연결된 사용자에게만 함
+        try {
+            NotificationEventDto event = objectMapper.readValue(message.getBody(), NotificationEventDto.class);
+
+            if (NotificationService.BROADCAST_CHANNEL.equals(channel)) {
+                notificationService.deliverToLocalUsers(event);
+            } else if (channel.startsWith(NotificationService.USER_CHANNEL_PREFIX)) {
+                Long userId = Long.parseLong(channel.substring(NotificationService.USER_CHANNEL_PREFIX.length()));
+                notificationService.deliverToLocalUser(userId, event);
+            }
+        } catch (Exception e) {
+            log.warn("잘못된 알림 메시지 - 채널: {}, 오류: {}", channel, e.getMessage());
+        }
+    }
+}
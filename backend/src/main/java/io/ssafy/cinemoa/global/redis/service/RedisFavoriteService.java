@@ -0,0 +1,139 @@
+package io.ssafy.cinemoa.global.redis.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class RedisFavoriteService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // Redis 키 prefix
+    private static final String USER_LIKED_SET_PREFIX = "user:liked:";
+    private static final String USER_LIKED_VERSION_PREFIX = "user:liked:version:";
+
+    // 좋아요가 하나도 없는 사용자도 "적재됨" 상태를 표현하기 위한 센티넬 멤버
+    private static final String LOADED_MARKER = "-1";
+
+    private static final Duration LIKED_SET_TTL = Duration.ofHours(1);
+
+    /**
+     * KEYS[1] = 좋아요 집합 키, KEYS[2] = 좋아요 변경 버전 키, ARGV[1] = DB 조회 전에 읽은 버전 (없으면 빈 문자열),
+     * ARGV[2] = TTL(초), ARGV[3..] = 멤버
+     * 집합이 없고 DB 조회 이후 좋아요 변경이 커밋되지 않았을 때만 적재 (조회~적재 사이의 변경을 덮어쓰지 않게 함)
+     * 반환: 1 = 적재, 0 = 이미 적재됨, -1 = 그 사이 변경되어 적재하지 않음
+     */
+    private static final RedisScript<Long> LOAD_IF_UNCHANGED_SCRIPT = RedisScript.of("""
+            if redis.call("exists", KEYS[1]) == 1 then
+                return 0
+            end
+            local version = redis.call("get", KEYS[2]) or ""
+            if version ~= ARGV[1] then
+                return -1
+            end
+            for i = 3, #ARGV, 5000 do
+                redis.call("sadd", KEYS[1], unpack(ARGV, i, math.min(i + 4999, #ARGV)))
+            end
+            redis.call("expire", KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS[1] = 좋아요 집합 키, KEYS[2] = 좋아요 변경 버전 키, ARGV[1] = TTL(초)
+     * 집합을 지우고 버전을 올려, 변경 전에 DB를 읽은 적재 요청이 이전 목록을 다시 올리지 못하게 함
+     */
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = RedisScript.of("""
+            redis.call("del", KEYS[1])
+            local version = redis.call("incr", KEYS[2])
+            redis.call("expire", KEYS[2], ARGV[1])
+            return version
+            """, Long.class);
+
+    private String getLikedSetKey(Long userId) {
+        return USER_LIKED_SET_PREFIX + userId;
+    }
+
+    private String getLikedVersionKey(Long userId) {
+        return USER_LIKED_VERSION_PREFIX + userId;
+    }
+
+    /**
+     * 사용자의 좋아요 집합이 Redis에 적재되어 있는지 확인
+     */
+    public boolean hasLikedSet(Long userId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(getLikedSetKey(userId)));
+    }
+
+    /**
+     * 사용자의 좋아요 변경 버전 (DB 조회 전에 읽어 두었다가 적재 시 전달, 없으면 빈 문자열)
+     */
+    public String getLikedSetVersion(Long userId) {
+        String version = stringRedisTemplate.opsForValue().get(getLikedVersionKey(userId));
+        return version != null ? version : "";
+    }
+
+    /**
+     * DB에서 읽어온 좋아요 목록으로 사용자의 좋아요 집합 적재 (그 사이 좋아요 변경이 없었을 때만)
+     *
+     * @param version DB 조회 전에 읽은 {@link #getLikedSetVersion} 값
+     * @return 집합이 적재되어 있으면 true, 그 사이 변경되어 적재하지 않았으면 false
+     */
+    public boolean loadLikedSetIfUnchanged(Long userId, String version, Collection<Long> fundingIds) {
+        String[] args = new String[fundingIds.size() + 3];
+        args[0] = version;
+        args[1] = String.valueOf(LIKED_SET_TTL.toSeconds());
+        args[2] = LOADED_MARKER;
+        int i = 3;
+        for (Long fundingId : fundingIds) {
+            args[i++] = fundingId.toString();
+        }
+
+        Long result = stringRedisTemplate.execute(LOAD_IF_UNCHANGED_SCRIPT,
+                List.of(getLikedSetKey(userId), getLikedVersionKey(userId)), (Object[]) args);
+        return result != null && result >= 0;
+    }
+
+    /**
+     * 주어진 펀딩 중 사용자가 좋아요한 펀딩 ID 조회 (SMISMEMBER 한 번)
+     */
+    public Set<Long> filterLiked(Long userId, List<Long> fundingIds) {
+        Set<Long> liked = new HashSet<>();
+        if (fundingIds.isEmpty()) {
+            return liked;
+        }
+
+        Object[] members = fundingIds.stream()
+                .map(String::valueOf)
+                .toArray();
+
+        Map<Object, Boolean> result = stringRedisTemplate.opsForSet().isMember(getLikedSetKey(userId), members);
+        if (result == null) {
+            return liked;
+        }
+
+        result.forEach((member, isMember) -> {
+            if (Boolean.TRUE.equals(isMember)) {
+                liked.add(Long.valueOf(member.toString()));
+            }
+        });
+
+        return liked;
+    }
+
+    /**
+     * 좋아요 변경 커밋 후 사용자의 좋아요 집합 무효화 (다음 조회에서 DB 기준으로 다시 적재)
+     */
+    public void invalidateLikedSet(Long userId) {
+        stringRedisTemplate.execute(INVALIDATE_SCRIPT, List.of(getLikedSetKey(userId), getLikedVersionKey(userId)),
+                String.valueOf(LIKED_SET_TTL.toSeconds()));
+    }
+}
@@ -29,6 +29,7 @@ public class RedisRankingService {
     private static final String FUNDING_LIKES_BUCKET_PREFIX = "funding:likes:bucket:";
     private static final String FUNDING_RANK_KEY = "funding:rank:24h";
     private static final String FUNDING_TOP10_CACHE_KEY = "funding:top10:24h";
+    private static final String FUNDING_VIEWERS_BUCKET_PREFIX = "funding:viewers:bucket:";
 
     // ===== 24시간 윈도우 30분 단위 버킷 시스템 =====
 
@@ -51,6 +52,22 @@ public class RedisRankingService {
         redisTemplate.expire(bucketKey, Duration.ofHours(25)); // 24시간 + 1시간 여유분
     }
 
+    /**
+     * 현재 버킷에서 처음 본 조회자인지 확인하고 기록
+     * <p>
+     * 조회자마다 SET NX 키를 두어 정확히 판단한다. (HyperLogLog의 PFADD는 새 조회자여도 0을 반환할 수 있어
+     * 조회자가 많은 펀딩일수록 조회수가 적게 집계됨) 키는 버킷이 끝나면 만료된다.
+     *
+     * @param viewerKey 사용자 ID 또는 비로그인 사용자 지문
+     * @return 현재 버킷에서 처음 조회한 경우 true
+     */
+    public boolean markUniqueView(Long fundingId, String viewerKey) {
+        String viewerMarkKey = getCurrentBucketKey(FUNDING_VIEWERS_BUCKET_PREFIX) + ":" + fundingId + ":" + viewerKey;
+        Boolean added = redisTemplate.opsForValue()
+                .setIfAbsent(viewerMarkKey, 1, Duration.ofMinutes(31)); // 버킷 길이 + 1분 여유분
+        return Boolean.TRUE.equals(added);
+    }
+
     /**
      * 좋아요 버킷에 카운트 증가
      */
@@ -3,6 +3,9 @@ package io.ssafy.cinemoa.global.redis.service;
 import java.time.Duration;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
@@ -39,6 +42,11 @@ public class RedisService {
         return redisTemplate.delete(key);
     }
 
+    public boolean removeHashField(String key, String field) {
+        Long removed = stringRedisTemplate.opsForHash().delete(key, field);
+        return removed != null && removed > 0;
+    }
+
     public void decreaseValue(String string) {
         redisTemplate.opsForValue().decrement(string);
     }
@@ -47,6 +55,25 @@ public class RedisService {
         return stringRedisTemplate.execute(script, keys, args);
     }
 
+    /**
+     * 스트림을 fromId(포함)부터 오래된 순으로 최대 count개 조회
+     */
+    public List<MapRecord<String, Object, Object>> rangeOfStream(String key, String fromId, int count) {
+        return stringRedisTemplate.opsForStream().range(key,
+                Range.rightUnbounded(Range.Bound.inclusive(fromId)), Limit.limit().count(count));
+    }
+
+    /**
+     * 스트림을 최신 순으로 최대 count개 조회
+     */
+    public List<MapRecord<String, Object, Object>> reverseRangeOfStream(String key, int count) {
+        return stringRedisTemplate.opsForStream().reverseRange(key, Range.unbounded(), Limit.limit().count(count));
+    }
+
+    public void publish(String channel, String message) {
+        stringRedisTemplate.convertAndSend(channel, message);
+    }
+
     public boolean exists(String seatKey) {
         return redisTemplate.hasKey(seatKey);
     }
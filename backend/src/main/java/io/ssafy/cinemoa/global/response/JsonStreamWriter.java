@@ -0,0 +1,139 @@
+package io.ssafy.cinemoa.global.response;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 큰 목록 응답을 한 번에 만들지 않고 행 단위로 바로 쓰는 JSON 스트리밍 작성기
+ * <p>
+ * 응답 형태는 {@code ApiResponse<CursorResponse<T>>}를 직렬화한 것과 같으며(nextCursor가 없으면 null),
+ * 행은 전역 ObjectMapper 설정으로 직렬화한다.
+ * <p>
+ * 행 조회 중 오류가 나면, 아직 클라이언트로 보낸 바이트가 없을 때는 예외를 그대로 던져 일반 오류 응답(5xx)이 나가게 하고,
+ * 이미 응답이 나가기 시작했으면 상태 코드를 바꿀 수 없으므로 JSON을 닫으면서 state를 ERROR로 적어 잘린 목록임을 알린다.
+ */
+@Slf4j
+@Component
+public class JsonStreamWriter {
+
+    private static final String SUCCESS_MESSAGE = "요청 성공";
+    private static final String STREAM_ERROR_MESSAGE = "목록을 끝까지 불러오지 못했습니다.";
+
+    private final ObjectMapper objectMapper;
+
+    // 행마다 flush하면 작은 패킷이 쏟아지므로 버퍼가 찰 때만 내보냄
+    private final ObjectWriter rowWriter;
+
+    public JsonStreamWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 커서 페이지 응답 스트리밍
+     *
+     * @param rows        행을 하나씩 넘겨주는 생산자 (예: JdbcTemplate RowCallbackHandler)
+     * @param nextCursor  다음 커서 (없으면 null)
+     * @param hasNextPage 다음 페이지 여부
+     */
+    public <T> StreamingResponseBody ofCursorPage(Consumer<Consumer<T>> rows, String nextCursor,
+                                                  boolean hasNextPage) {
+        return outputStream -> {
+            CommitTrackingOutputStream trackingStream = new CommitTrackingOutputStream(outputStream);
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(trackingStream, JsonEncoding.UTF8);
+            // 닫을 때 열린 배열/객체를 자동으로 채워 넣으면 잘린 응답이 정상 응답처럼 보이므로 끔
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+
+            generator.writeStartObject();
+            generator.writeObjectFieldStart("data");
+            generator.writeArrayFieldStart("content");
+            try {
+                rows.accept(row -> writeRow(generator, row));
+            } catch (UncheckedIOException e) {
+                // 클라이언트 연결 끊김: 더 보낼 곳이 없으므로 중단
+                throw e.getCause();
+            } catch (RuntimeException e) {
+                if (!trackingStream.isCommitted()) {
+                    // 버퍼에 쌓인 행은 버리고 예외를 넘겨 일반 오류 응답으로 처리
+                    throw e;
+                }
+                log.error("[JsonStreamWriter] 스트리밍 도중 행 조회 실패, 응답을 ERROR로 마감", e);
+                writeTrailer(generator, null, false, STREAM_ERROR_MESSAGE, ResponseState.ERROR);
+                return;
+            }
+            writeTrailer(generator, nextCursor, hasNextPage, SUCCESS_MESSAGE, ResponseState.SUCCESS);
+        };
+    }
+
+    private void writeTrailer(JsonGenerator generator, String nextCursor, boolean hasNextPage, String message,
+                              ResponseState state) throws IOException {
+        generator.writeEndArray();
+        if (nextCursor != null) {
+            generator.writeStringField("nextCursor", nextCursor);
+        } else {
+            generator.writeNullField("nextCursor");
+        }
+        generator.writeBooleanField("hasNextPage", hasNextPage);
+        generator.writeEndObject();
+
+        generator.writeNumberField("code", 0);
+        generator.writeStringField("message", message);
+        generator.writeStringField("state", state.name());
+        generator.writeEndObject();
+        generator.close();
+    }
+
+    private void writeRow(JsonGenerator generator, Object row) {
+        try {
+            rowWriter.writeValue(generator, row);
+        } catch (IOException e) {
+            // 클라이언트 연결 끊김 등: 행 조회를 중단하도록 비검사 예외로 전달
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 응답 스트림으로 바이트를 내보냈는지(또는 flush로 응답이 확정됐는지) 기록
+     */
+    private static final class CommitTrackingOutputStream extends FilterOutputStream {
+
+        private boolean committed;
+
+        private CommitTrackingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            committed = true;
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            committed = true;
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            committed = true;
+            out.flush();
+        }
+
+        private boolean isCommitted() {
+            return committed;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package io.ssafy.cinemoa.global.util;
+
+import io.ssafy.cinemoa.funding.dto.ScoreCursorInfo;
+import io.ssafy.cinemoa.funding.dto.TimestampCursorInfo;
+import io.ssafy.cinemoa.global.exception.BadRequestException;
+import io.ssafy.cinemoa.notification.dto.NotificationCursorInfo;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커서 페이지네이션용 커서 인코더/디코더
+ * <p>
+ * 고정 길이 바이너리 레이아웃을 URL-safe Base64(패딩 없음)로 인코딩한다.
+ * <pre>
+ * [version 1B][kind 1B][score 8B (SCORE만)][epoch micros 8B][id 8B][HMAC-SHA256 앞 8B]
+ * </pre>
+ * 알림함 커서(NOTIFICATION)는 TIMESTAMP와 레이아웃이 같지만 종류를 나눠 펀딩 목록 커서와 섞어 쓸 수 없게 한다.
+ * 시간은 LocalDateTime을 UTC로 간주한 epoch 마이크로초로 저장하며(MySQL DATETIME(6) 정밀도),
+ * 서명이 맞지 않거나 길이/버전/종류가 다르면 모두 잘못된 커서로 처리한다.
+ */
+@Component
+public class CursorCodec {
+
+    private static final byte VERSION = 1;
+    private static final byte KIND_TIMESTAMP = 1;
+    private static final byte KIND_SCORE = 2;
+    private static final byte KIND_NOTIFICATION = 3;
+
+    private static final int HEADER_LENGTH = 2;
+    private static final int TAG_LENGTH = 8;
+    private static final int TIMESTAMP_LENGTH = HEADER_LENGTH + Long.BYTES * 2 + TAG_LENGTH;
+    private static final int SCORE_LENGTH = HEADER_LENGTH + Double.BYTES + Long.BYTES * 2 + TAG_LENGTH;
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String INVALID_CURSOR_MESSAGE = "커서가 잘못되었습니다.";
+
+    private static final LocalDateTime EPOCH = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    // Mac은 스레드 안전하지 않으므로 스레드마다 하나씩 사용
+    private final ThreadLocal<Mac> mac;
+
+    // 여러 서버/재기동 사이에서 같은 커서를 검증해야 하므로 모든 서버가 같은 값을 설정해야 하며, 없으면 기동 실패
+    public CursorCodec(@Value("${cursor.secret}") String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("cursor.secret 설정이 비어 있습니다. 모든 서버에 같은 값을 설정해야 합니다.");
+        }
+        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+
+        this.key = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public String encode(LocalDateTime createdAt, Long id) {
+        return encodeTimestamp(KIND_TIMESTAMP, createdAt, id);
+    }
+
+    public String encodeNotification(LocalDateTime createdAt, Long notificationId) {
+        return encodeTimestamp(KIND_NOTIFICATION, createdAt, notificationId);
+    }
+
+    public String encode(double score, LocalDateTime createdAt, Long id) {
+        ByteBuffer buffer = ByteBuffer.allocate(SCORE_LENGTH)
+                .put(VERSION)
+                .put(KIND_SCORE)
+                .putDouble(score)
+                .putLong(toEpochMicros(createdAt))
+                .putLong(id);
+        return sign(buffer);
+    }
+
+    public TimestampCursorInfo decodeTimestamp(String cursor) {
+        ByteBuffer buffer = verify(cursor, KIND_TIMESTAMP, TIMESTAMP_LENGTH);
+        LocalDateTime createdAt = fromEpochMicros(buffer.getLong());
+        return new TimestampCursorInfo(createdAt, buffer.getLong());
+    }
+
+    public NotificationCursorInfo decodeNotification(String cursor) {
+        ByteBuffer buffer = verify(cursor, KIND_NOTIFICATION, TIMESTAMP_LENGTH);
+        LocalDateTime createdAt = fromEpochMicros(buffer.getLong());
+        return new NotificationCursorInfo(createdAt, buffer.getLong());
+    }
+
+    public ScoreCursorInfo decodeScore(String cursor) {
+        ByteBuffer buffer = verify(cursor, KIND_SCORE, SCORE_LENGTH);
+        double score = buffer.getDouble();
+        LocalDateTime createdAt = fromEpochMicros(buffer.getLong());
+        return new ScoreCursorInfo(score, createdAt, buffer.getLong());
+    }
+
+    private String encodeTimestamp(byte kind, LocalDateTime createdAt, Long id) {
+        ByteBuffer buffer = ByteBuffer.allocate(TIMESTAMP_LENGTH)
+                .put(VERSION)
+                .put(kind)
+                .putLong(toEpochMicros(createdAt))
+                .putLong(id);
+        return sign(buffer);
+    }
+
+    private String sign(ByteBuffer buffer) {
+        byte[] bytes = buffer.array();
+        byte[] tag = tag(bytes, bytes.length - TAG_LENGTH);
+        System.arraycopy(tag, 0, bytes, bytes.length - TAG_LENGTH, TAG_LENGTH);
+        return ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * 길이/버전/종류/서명을 검증하고 본문 시작 위치로 이동한 버퍼 반환
+     */
+    private ByteBuffer verify(String cursor, byte kind, int length) {
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw BadRequestException.ofInput(INVALID_CURSOR_MESSAGE);
+        }
+
+        if (bytes.length != length || bytes[0] != VERSION || bytes[1] != kind) {
+            throw BadRequestException.ofInput(INVALID_CURSOR_MESSAGE);
+        }
+
+        byte[] expected = tag(bytes, length - TAG_LENGTH);
+        byte[] actual = Arrays.copyOfRange(bytes, length - TAG_LENGTH, length);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            throw BadRequestException.ofInput(INVALID_CURSOR_MESSAGE);
+        }
+
+        return ByteBuffer.wrap(bytes, HEADER_LENGTH, length - HEADER_LENGTH - TAG_LENGTH);
+    }
+
+    private byte[] tag(byte[] bytes, int payloadLength) {
+        Mac current = mac.get();
+        current.update(bytes, 0, payloadLength);
+        return Arrays.copyOf(current.doFinal(), TAG_LENGTH);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(HMAC_ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("커서 서명용 HMAC 초기화 실패", e);
+        }
+    }
+
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(EPOCH, dateTime);
+    }
+
+    private static LocalDateTime fromEpochMicros(long epochMicros) {
+        return EPOCH.plus(epochMicros, ChronoUnit.MICROS);
+    }
+}
@@ -1,12 +1,21 @@
 package io.ssafy.cinemoa.notification.controller;
 
+import io.ssafy.cinemoa.global.response.ApiResponse;
+import io.ssafy.cinemoa.global.response.CursorResponse;
+import io.ssafy.cinemoa.notification.dto.NotificationEventDto;
+import io.ssafy.cinemoa.notification.service.NotificationInboxService;
 import io.ssafy.cinemoa.notification.service.NotificationService;
 import io.ssafy.cinemoa.security.helper.SecurityContextHelper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -17,22 +26,57 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationInboxService notificationInboxService;
     private final SecurityContextHelper securityContextHelper;
 
     /**
      * SSE 연결 생성 (알림 구독)
      */
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe() {
+    public SseEmitter subscribe(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         Long userId = securityContextHelper.getCurrentUserId();
 
-        log.info("=== SSE 연결 요청 - 사용자 ID: {} ===", userId);
+        log.info("=== SSE 연결 요청 - 사용자 ID: {}, Last-Event-ID: {} ===", userId, lastEventId);
 
-        SseEmitter emitter = notificationService.createConnection(userId);
+        SseEmitter emitter = notificationService.createConnection(userId, lastEventId);
 
         log.info("SSE 연결 생성 완료 - 사용자 ID: {}", userId);
 
         return emitter;
     }
 
+    /**
+     * 알림함 조회 (최신순, 커서 기반 페이지네이션)
+     *
+     * @param cursor 다음 페이지 조회를 위한 커서 - 선택적 파라미터
+     * @param limit  한 번에 조회할 개수 - 선택적 파라미터 (기본값: 20, 최대 50)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<CursorResponse<NotificationEventDto>>> getInbox(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        Long userId = securityContextHelper.getCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.ofSuccess(notificationInboxService.getInbox(userId, cursor, limit)));
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponse<Long>> getUnreadCount() {
+        Long userId = securityContextHelper.getCurrentUserId();
+        return ResponseEntity.ok(ApiResponse.ofSuccess(notificationInboxService.countUnread(userId)));
+    }
+
+    @PatchMapping("/{notificationId}/read")
+    public ResponseEntity<ApiResponse<?>> markRead(@PathVariable("notificationId") Long notificationId) {
+        Long userId = securityContextHelper.getCurrentUserId();
+        notificationInboxService.markRead(userId, notificationId);
+        return ResponseEntity.ok(ApiResponse.ofSuccess(null, "읽음 처리 완료"));
+    }
+
+    @PatchMapping("/read-all")
+    public ResponseEntity<ApiResponse<?>> markAllRead() {
+        Long userId = securityContextHelper.getCurrentUserId();
+        notificationInboxService.markAllRead(userId);
+        return ResponseEntity.ok(ApiResponse.ofSuccess(null, "전체 읽음 처리 완료"));
+    }
+
 }
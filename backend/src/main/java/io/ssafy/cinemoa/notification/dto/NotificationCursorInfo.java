@@ -0,0 +1,14 @@
+package io.ssafy.cinemoa.notification.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationCursorInfo {
+    private LocalDateTime createdAt;
+    private Long notificationId;
+}
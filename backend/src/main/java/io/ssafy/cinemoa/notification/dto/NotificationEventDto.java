@@ -12,12 +12,18 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class NotificationEventDto {
+    // 알림 식별자 (알림함에 저장된 알림은 "notification_{알림 ID}", 클라이언트 중복 제거 기준)
     private String eventId;
+    // 사용자 알림 스트림(Redis Stream) ID, SSE 이벤트 ID(Last-Event-ID)로만 사용 (스트림에 기록되지 않았으면 null)
+    private String streamId;
+    // 알림함에 저장된 알림 ID (저장되지 않은 브로드캐스트 이벤트는 null)
+    private Long notificationId;
     private NotificationEventType eventType;
     private Long userId;
     private String message;
     private Object data;
     private LocalDateTime timestamp;
+    private Boolean isRead;
 
     @Data
     @Builder
@@ -33,6 +39,11 @@ public class NotificationEventDto {
         return "event_" + System.currentTimeMillis() + "_" + (int) (Math.random() * 1000);
     }
 
+    // 알림함에 저장된 이벤트의 ID (재전송 시에도 같은 값)
+    public static String eventIdOf(Long notificationId) {
+        return "notification_" + notificationId;
+    }
+
     // 결제 성공 이벤트 생성 헬퍼 메서드
     public static NotificationEventDto createPaymentSuccessEvent(Long userId, Long fundingId,
                                                                  String fundingTitle, Long amount) {
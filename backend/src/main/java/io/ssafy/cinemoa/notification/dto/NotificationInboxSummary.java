@@ -0,0 +1,23 @@
+package io.ssafy.cinemoa.notification.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * SSE 연결 직후 보내는 알림함 요약 (최근 알림 + 안 읽은 알림 수)
+ * <p>
+ * 나머지 알림은 nextCursor로 알림함 API를 이어서 조회한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationInboxSummary {
+    private List<NotificationEventDto> notifications;
+    private long unreadCount;
+    private String nextCursor;
+    private boolean hasNextPage;
+}
@@ -0,0 +1,174 @@
+package io.ssafy.cinemoa.notification.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ssafy.cinemoa.notification.dto.NotificationEventDto;
+import io.ssafy.cinemoa.notification.enums.NotificationEventType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 알림함 도입 전 결제/펀딩 이력을 알림함으로 옮기는 일회성 작업 (SchemaMigrationRunner에서 한 번 실행)
+ * <p>
+ * 알림함이 생기기 전에는 SSE 연결 시 거래 내역에서 알림을 만들어 보냈으므로, 같은 기준으로 알림 행을 만든다.
+ * 메시지는 실시간 알림과 같은 NotificationEventDto 생성 메서드로 만들고, 시각은 거래 처리 시각을 쓴다.
+ * 이미 지난 알림이므로 읽음으로 저장하며, 같은 사용자/종류/펀딩의 알림이 이미 있으면 건너뛴다.
+ * <p>
+ * 거래를 user_transactions의 PK 구간 단위로 읽고 구간마다 저장하여 전체 이력을 메모리에 올리지 않는다.
+ * 앞 구간에서 저장한 알림은 다음 구간의 중복 확인(NOT EXISTS)에 그대로 보인다.
+ */
+@Slf4j
+public final class NotificationHistoryBackfill {
+
+    // 한 번에 읽고 저장하는 거래 ID 구간 크기
+    private static final int TRANSACTION_ID_RANGE = 1_000;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notifications (user_id, event_type, message, payload, is_read, created_at)
+            VALUES (?, ?, ?, ?, true, ?)
+            """;
+
+    // 같은 사용자/종류/펀딩의 알림이 이미 있는 거래 제외 (파라미터: 알림 종류)
+    private static final String NOT_NOTIFIED = """
+            NOT EXISTS (
+                SELECT 1
+                FROM notifications n
+                WHERE n.user_id = ut.user_id
+                  AND n.event_type = ?
+                  AND CAST(JSON_EXTRACT(n.payload, '$.fundingId') AS UNSIGNED) = f.funding_id
+            )
+            """;
+
+    // 결제 성공
+    private static final String PAYMENTS_SQL = """
+            SELECT ut.user_id, f.funding_id, f.title, ut.balance AS amount, f.max_people,
+                   COALESCE(ut.processed_at, ut.created_at) AS occurred_at
+            FROM user_transactions ut
+            JOIN fundings f ON f.funding_id = ut.funding_id
+            WHERE ut.transaction_id > ? AND ut.transaction_id <= ?
+              AND ut.state = 'SUCCESS'
+              AND
+            """ + NOT_NOTIFIED;
+
+    // 펀딩 성공 (성공한 펀딩에 결제한 참여자)
+    private static final String SUCCESSES_SQL = """
+            SELECT DISTINCT ut.user_id, f.funding_id, f.title, ft.balance AS amount, f.max_people,
+                   COALESCE(ft.processed_at, ft.created_at) AS occurred_at
+            FROM user_transactions ut
+            JOIN fundings f ON f.funding_id = ut.funding_id
+            JOIN funding_transactions ft ON ft.funding_id = ut.funding_id AND ft.state = 'SUCCESS'
+            WHERE ut.transaction_id > ? AND ut.transaction_id <= ?
+              AND ut.state = 'SUCCESS'
+              AND
+            """ + NOT_NOTIFIED;
+
+    // 목표 달성 실패 환불
+    private static final String REFUNDS_SQL = """
+            SELECT ut.user_id, f.funding_id, f.title, ut.balance AS amount, f.max_people,
+                   COALESCE(ut.processed_at, ut.created_at) AS occurred_at
+            FROM user_transactions ut
+            JOIN fundings f ON f.funding_id = ut.funding_id
+            WHERE ut.transaction_id > ? AND ut.transaction_id <= ?
+              AND ut.state = 'REFUNDED'
+              AND
+            """ + NOT_NOTIFIED;
+
+    private NotificationHistoryBackfill() {
+    }
+
+    public static int backfill(JdbcTemplate jdbcTemplate) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(transaction_id) FROM user_transactions", Long.class);
+        if (maxId == null) {
+            log.info("알림함 이력 이전 - 거래 내역 없음");
+            return 0;
+        }
+
+        int inserted = 0;
+        for (long afterId = 0; afterId < maxId; afterId += TRANSACTION_ID_RANGE) {
+            inserted += backfillRange(jdbcTemplate, afterId, Math.min(afterId + TRANSACTION_ID_RANGE, maxId));
+        }
+        log.info("알림함 이력 이전 완료 - 최대 거래ID: {}, 저장: {}", maxId, inserted);
+        return inserted;
+    }
+
+    /**
+     * 거래 ID가 (afterId, untilId] 구간인 이력을 알림으로 저장
+     */
+    private static int backfillRange(JdbcTemplate jdbcTemplate, long afterId, long untilId) {
+        // 같은 구간 안의 중복 (같은 펀딩에 여러 번 결제 등)
+        Set<String> keys = new HashSet<>();
+        List<Object[]> rows = new ArrayList<>();
+
+        for (HistoryRow row : query(jdbcTemplate, PAYMENTS_SQL, NotificationEventType.PAYMENT_SUCCESS, afterId,
+                untilId)) {
+            addRow(rows, keys, row, NotificationEventDto.createPaymentSuccessEvent(row.userId(), row.fundingId(),
+                    row.title(), (long) row.amount()));
+        }
+        for (HistoryRow row : query(jdbcTemplate, SUCCESSES_SQL, NotificationEventType.FUNDING_SUCCESS, afterId,
+                untilId)) {
+            addRow(rows, keys, row, NotificationEventDto.createFundingSuccessEvent(row.userId(), row.fundingId(),
+                    row.title(), row.amount(), row.maxPeople()));
+        }
+        for (HistoryRow row : query(jdbcTemplate, REFUNDS_SQL, NotificationEventType.FUNDING_FAILED_REFUNDED,
+                afterId, untilId)) {
+            addRow(rows, keys, row, NotificationEventDto.createFundingFailedEvent(row.userId(), row.fundingId(),
+                    row.title(), row.amount()));
+        }
+
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+        return rows.size();
+    }
+
+    private static List<HistoryRow> query(JdbcTemplate jdbcTemplate, String sql, NotificationEventType eventType,
+                                          long afterId, long untilId) {
+        return jdbcTemplate.query(sql, NotificationHistoryBackfill::mapToHistoryRow, afterId, untilId,
+                eventType.name());
+    }
+
+    private static void addRow(List<Object[]> rows, Set<String> keys, HistoryRow row, NotificationEventDto event) {
+        if (row.occurredAt() == null
+                || !keys.add(keyOf(row.userId(), event.getEventType().name(), row.fundingId()))) {
+            return;
+        }
+
+        rows.add(new Object[]{row.userId(), event.getEventType().name(), event.getMessage(), toJson(event.getData()),
+                row.occurredAt()});
+    }
+
+    private static String keyOf(long userId, String eventType, long fundingId) {
+        return userId + ":" + eventType + ":" + fundingId;
+    }
+
+    private static String toJson(Object data) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 데이터 직렬화 실패", e);
+        }
+    }
+
+    private static HistoryRow mapToHistoryRow(ResultSet rs, int rowNum) throws SQLException {
+        return new HistoryRow(
+                rs.getLong("user_id"),
+                rs.getLong("funding_id"),
+                rs.getString("title"),
+                rs.getInt("amount"),
+                rs.getInt("max_people"),
+                rs.getTimestamp("occurred_at"));
+    }
+
+    private record HistoryRow(long userId, long fundingId, String title, int amount, int maxPeople,
+                              Timestamp occurredAt) {
+    }
+}
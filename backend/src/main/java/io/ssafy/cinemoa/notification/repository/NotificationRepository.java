@@ -0,0 +1,172 @@
+package io.ssafy.cinemoa.notification.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ssafy.cinemoa.global.response.CursorResponse;
+import io.ssafy.cinemoa.global.util.CursorCodec;
+import io.ssafy.cinemoa.notification.dto.NotificationCursorInfo;
+import io.ssafy.cinemoa.notification.dto.NotificationEventDto;
+import io.ssafy.cinemoa.notification.enums.NotificationEventType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class NotificationRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CursorCodec cursorCodec;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 알림 한 건 저장
+     *
+     * @return 생성된 알림 ID
+     */
+    public Long insert(NotificationEventDto event) {
+        String payload = toJson(event.getData());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement("""
+                    INSERT INTO notifications (user_id, event_type, message, payload, is_read, created_at)
+                    VALUES (?, ?, ?, ?, false, ?)
+                    """, Statement.RETURN_GENERATED_KEYS);
+            ps.setLong(1, event.getUserId());
+            ps.setString(2, event.getEventType().name());
+            ps.setString(3, event.getMessage());
+            ps.setString(4, payload);
+            ps.setTimestamp(5, Timestamp.valueOf(event.getTimestamp()));
+            return ps;
+        }, keyHolder);
+
+        return keyHolder.getKey().longValue();
+    }
+
+    /**
+     * 사용자 알림함 최신순 커서 페이지 조회
+     */
+    public CursorResponse<NotificationEventDto> findInbox(Long userId, String cursor, int limit) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT notification_id, user_id, event_type, message, payload, is_read, created_at
+                FROM notifications
+                WHERE user_id = ?
+                """);
+        List<Object> params = new ArrayList<>();
+        params.add(userId);
+
+        if (cursor != null) {
+            NotificationCursorInfo cursorInfo = cursorCodec.decodeNotification(cursor);
+            sql.append("""
+                    AND (created_at < ? OR (created_at = ? AND notification_id < ?))
+                    """);
+            params.add(cursorInfo.getCreatedAt());
+            params.add(cursorInfo.getCreatedAt());
+            params.add(cursorInfo.getNotificationId());
+        }
+
+        sql.append(" ORDER BY created_at DESC, notification_id DESC LIMIT ?");
+        params.add(limit + 1);
+
+        List<NotificationEventDto> result = jdbcTemplate.query(sql.toString(), this::mapToNotificationEventDto,
+                params.toArray());
+
+        boolean hasNext = result.size() > limit;
+        if (hasNext) {
+            result.remove(result.size() - 1);
+        }
+
+        String nextCursor = null;
+        if (hasNext && !result.isEmpty()) {
+            NotificationEventDto last = result.get(result.size() - 1);
+            nextCursor = cursorCodec.encodeNotification(last.getTimestamp(), last.getNotificationId());
+        }
+
+        return CursorResponse.<NotificationEventDto>builder()
+                .hasNextPage(hasNext)
+                .content(result)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    public long countUnread(Long userId) {
+        Long count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM notifications
+                WHERE user_id = ? AND is_read = false
+                """, Long.class, userId);
+
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 본인 알림만 읽음 처리
+     *
+     * @return 변경 여부 (없거나 이미 읽었으면 false)
+     */
+    public boolean markRead(Long userId, Long notificationId) {
+        return jdbcTemplate.update("""
+                UPDATE notifications
+                SET is_read = true
+                WHERE notification_id = ? AND user_id = ? AND is_read = false
+                """, notificationId, userId) == 1;
+    }
+
+    public int markAllRead(Long userId) {
+        return jdbcTemplate.update("""
+                UPDATE notifications
+                SET is_read = true
+                WHERE user_id = ? AND is_read = false
+                """, userId);
+    }
+
+    private NotificationEventDto mapToNotificationEventDto(ResultSet rs, int rowNum) throws SQLException {
+        long notificationId = rs.getLong("notification_id");
+
+        return NotificationEventDto.builder()
+                .eventId(NotificationEventDto.eventIdOf(notificationId))
+                .notificationId(notificationId)
+                .eventType(NotificationEventType.valueOf(rs.getString("event_type")))
+                .userId(rs.getLong("user_id"))
+                .message(rs.getString("message"))
+                .data(fromJson(rs.getString("payload")))
+                .isRead(rs.getBoolean("is_read"))
+                .timestamp(rs.getTimestamp("created_at").toLocalDateTime())
+                .build();
+    }
+
+    private String toJson(Object data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("알림 데이터 직렬화 실패", e);
+        }
+    }
+
+    private Object fromJson(String payload) {
+        if (payload == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("알림 데이터 역직렬화 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+}
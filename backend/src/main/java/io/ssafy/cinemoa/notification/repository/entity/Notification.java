@@ -0,0 +1,67 @@
+package io.ssafy.cinemoa.notification.repository.entity;
+
+import io.ssafy.cinemoa.notification.enums.NotificationEventType;
+import io.ssafy.cinemoa.user.repository.entity.User;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 사용자 알림함
+ * <p>
+ * 알림 이벤트를 발행할 때 한 행씩 기록한다. 조회/읽음 처리는 NotificationRepository의 JDBC 쿼리로만 수행한다.
+ */
+@Getter
+@Setter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "notifications", indexes = {
+        // 알림함 커서 페이지 (최신순)
+        @Index(name = "idx_notifications_user_latest", columnList = "user_id, created_at, notification_id"),
+        // 안 읽은 알림 수
+        @Index(name = "idx_notifications_user_read", columnList = "user_id, is_read")
+})
+public class Notification {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(nullable = false, name = "notification_id")
+    private Long notificationId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "event_type", length = 40)
+    private NotificationEventType eventType;
+
+    @Column(nullable = false, length = 255)
+    private String message;
+
+    // 이벤트별 부가 데이터 (JSON)
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false, name = "is_read")
+    private Boolean isRead;
+
+    @Column(nullable = false, name = "created_at")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,74 @@
+package io.ssafy.cinemoa.notification.service;
+
+import io.ssafy.cinemoa.global.exception.ResourceNotFoundException;
+import io.ssafy.cinemoa.global.response.CursorResponse;
+import io.ssafy.cinemoa.notification.dto.NotificationEventDto;
+import io.ssafy.cinemoa.notification.dto.NotificationInboxSummary;
+import io.ssafy.cinemoa.notification.repository.NotificationRepository;
+import java.time.temporal.ChronoUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자 알림함 (알림 발행 시 저장, 커서 페이지 조회, 읽음 처리)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationInboxService {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 50;
+
+    // SSE 연결 직후 보내는 최근 알림 수
+    private static final int INITIAL_LIMIT = 20;
+
+    private final NotificationRepository notificationRepository;
+
+    /**
+     * 사용자 알림을 알림함에 저장하고 저장된 ID를 이벤트에 채움
+     */
+    public void save(NotificationEventDto event) {
+        // DATETIME(6) 정밀도에 맞춰 커서 비교 시 오차가 없도록 마이크로초로 자름
+        event.setTimestamp(event.getTimestamp().truncatedTo(ChronoUnit.MICROS));
+
+        Long notificationId = notificationRepository.insert(event);
+        event.setNotificationId(notificationId);
+        event.setEventId(NotificationEventDto.eventIdOf(notificationId));
+        event.setIsRead(false);
+    }
+
+    public CursorResponse<NotificationEventDto> getInbox(Long userId, String cursor, Integer limit) {
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        return notificationRepository.findInbox(userId, cursor, size);
+    }
+
+    public long countUnread(Long userId) {
+        return notificationRepository.countUnread(userId);
+    }
+
+    /**
+     * SSE 초기 데이터: 최근 알림 INITIAL_LIMIT개 + 안 읽은 알림 수
+     */
+    public NotificationInboxSummary getSummary(Long userId) {
+        CursorResponse<NotificationEventDto> latest = notificationRepository.findInbox(userId, null, INITIAL_LIMIT);
+
+        return NotificationInboxSummary.builder()
+                .notifications(latest.getContent())
+                .unreadCount(notificationRepository.countUnread(userId))
+                .nextCursor(latest.getNextCursor())
+                .hasNextPage(latest.isHasNextPage())
+                .build();
+    }
+
+    public void markRead(Long userId, Long notificationId) {
+        if (!notificationRepository.markRead(userId, notificationId)) {
+            throw ResourceNotFoundException.ofNotification();
+        }
+    }
+
+    public int markAllRead(Long userId) {
+        return notificationRepository.markAllRead(userId);
+    }
+}
@@ -0,0 +1,138 @@
+package io.ssafy.cinemoa.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ssafy.cinemoa.global.redis.service.RedisService;
+import io.ssafy.cinemoa.notification.dto.NotificationEventDto;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * SSE 재연결 시 놓친 이벤트 재전송(Last-Event-ID)
+ * <p>
+ * 사용자 이벤트는 발행할 때 사용자별 Redis Stream(최근 STREAM_MAX_LENGTH개)에 먼저 쌓고, 스트림 ID를 SSE 이벤트 ID로 쓴다.
+ * 서버 간 전달(pub/sub)은 최대 한 번 전달이라 서버가 받은 이벤트만으로는 빠진 이벤트가 없는지 알 수 없으므로,
+ * 재전송은 항상 스트림에서 읽는다.
+ * 마지막 ID가 스트림에서도 밀려났으면 재전송할 수 없으므로 호출 측이 알림함 요약으로 대신한다.
+ * <p>
+ * 알림 식별자(eventId)는 알림함과 같은 값을 유지하고, 스트림 ID는 streamId에만 둔다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationReplayService {
+
+    private static final String STREAM_KEY_PREFIX = "notification:stream:";
+
+    private static final int STREAM_MAX_LENGTH = 100;
+    private static final Duration STREAM_TTL = Duration.ofDays(1);
+
+    // 스트림이 비어 있을 때의 시작 ID (이후의 모든 이벤트를 재전송)
+    private static final String EMPTY_STREAM_ID = "0-0";
+
+    private static final Pattern STREAM_ID_PATTERN = Pattern.compile("^\\d+-\\d+$");
+
+    private static final String EVENT_FIELD = "event";
+
+    /**
+     * KEYS[1] = 스트림 키, ARGV = [최대 길이, 유지 시간(ms), 이벤트 JSON]
+     * 반환: {스트림 ID}
+     */
+    private static final String APPEND_SCRIPT = """
+            local id = redis.call("xadd", KEYS[1], "MAXLEN", "~", ARGV[1], "*", "event", ARGV[3])
+            redis.call("pexpire", KEYS[1], ARGV[2])
+            return {id}
+            """;
+
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 사용자 스트림에 이벤트를 쌓고 스트림 ID를 streamId에 채움
+     */
+    public void append(Long userId, NotificationEventDto event) throws JsonProcessingException {
+        List<Object> result = redisService.execute(
+                RedisScript.of(APPEND_SCRIPT, List.class),
+                List.of(streamKeyOf(userId)),
+                String.valueOf(STREAM_MAX_LENGTH),
+                String.valueOf(STREAM_TTL.toMillis()),
+                objectMapper.writeValueAsString(event));
+
+        event.setStreamId((String) result.get(0));
+    }
+
+    /**
+     * 사용자의 마지막 스트림 ID (없으면 EMPTY_STREAM_ID), 초기 데이터 이벤트 ID로 사용
+     */
+    public String latestEventId(Long userId) {
+        try {
+            List<MapRecord<String, Object, Object>> latest = redisService.reverseRangeOfStream(streamKeyOf(userId), 1);
+            return latest.isEmpty() ? EMPTY_STREAM_ID : latest.get(0).getId().getValue();
+        } catch (Exception e) {
+            log.warn("알림 스트림 조회 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * lastEventId 이후에 놓친 이벤트 조회
+     *
+     * @return 재전송할 이벤트 (오래된 순), 마지막 ID를 찾을 수 없어 이어 보낼 수 없으면 empty
+     */
+    public Optional<List<NotificationEventDto>> findMissedEvents(Long userId, String lastEventId) {
+        if (!isStreamId(lastEventId)) {
+            return Optional.empty();
+        }
+
+        try {
+            return findInStream(userId, lastEventId);
+        } catch (Exception e) {
+            log.warn("알림 스트림 재전송 조회 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<List<NotificationEventDto>> findInStream(Long userId, String lastEventId) throws
+            JsonProcessingException {
+        // 마지막 ID부터(포함) 읽어 첫 항목이 마지막 ID와 같아야 빠짐없이 이어 보낼 수 있음
+        // (MAXLEN ~ 는 대략적으로 자르므로 넉넉히 읽고, 그래도 가득 차면 중간이 잘렸을 수 있어 포기)
+        int limit = STREAM_MAX_LENGTH * 2;
+        List<MapRecord<String, Object, Object>> records = redisService.rangeOfStream(streamKeyOf(userId),
+                lastEventId, limit);
+
+        boolean fromStart = EMPTY_STREAM_ID.equals(lastEventId);
+        if (records.size() >= limit
+                || (!fromStart && (records.isEmpty() || !records.get(0).getId().getValue().equals(lastEventId)))) {
+            return Optional.empty();
+        }
+
+        List<NotificationEventDto> missed = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            String id = record.getId().getValue();
+            if (id.equals(lastEventId)) {
+                continue;
+            }
+            NotificationEventDto event = objectMapper.readValue((String) record.getValue().get(EVENT_FIELD),
+                    NotificationEventDto.class);
+            event.setStreamId(id);
+            missed.add(event);
+        }
+        return Optional.of(missed);
+    }
+
+    private static boolean isStreamId(String id) {
+        return id != null && STREAM_ID_PATTERN.matcher(id).matches();
+    }
+
+    private static String streamKeyOf(Long userId) {
+        return STREAM_KEY_PREFIX + userId;
+    }
+}
@@ -1,16 +1,14 @@
 package io.ssafy.cinemoa.notification.service;
 
-import io.ssafy.cinemoa.funding.repository.entity.Funding;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ssafy.cinemoa.global.redis.service.RedisService;
 import io.ssafy.cinemoa.notification.dto.NotificationEventDto;
-import io.ssafy.cinemoa.payment.repository.FundingTransactionRepository;
-import io.ssafy.cinemoa.payment.repository.UserTransactionRepository;
-import io.ssafy.cinemoa.payment.repository.entity.FundingTransaction;
-import io.ssafy.cinemoa.payment.repository.entity.UserTransaction;
+import io.ssafy.cinemoa.notification.dto.NotificationInboxSummary;
+import io.ssafy.cinemoa.notification.service.SseConnectionRegistry.SseConnection;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -22,214 +20,252 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 @RequiredArgsConstructor
 public class NotificationService {
 
-    private final UserTransactionRepository userTransactionRepository;
-    private final FundingTransactionRepository fundingTransactionRepository;
+    // 사용자별 알림 채널 (어느 서버에서 발행해도 해당 사용자가 연결된 서버가 받아서 전달)
+    public static final String USER_CHANNEL_PREFIX = "notification:user:";
+    public static final String USER_CHANNEL_PATTERN = USER_CHANNEL_PREFIX + "*";
+    public static final String BROADCAST_CHANNEL = "notification:broadcast";
 
-    // 사용자별 SSE 연결 관리 (사용자 ID -> SseEmitter)
-    private final ConcurrentMap<Long, SseEmitter> userConnections = new ConcurrentHashMap<>();
+    private final NotificationInboxService notificationInboxService;
+    private final NotificationReplayService notificationReplayService;
+    private final RedisService redisService;
+    private final ObjectMapper objectMapper;
 
-    // SSE 연결 타임아웃 (6시간)
-    private static final long TIMEOUT = 6 * 60 * 60 * 1000L;
+    // 이 서버의 SSE 연결 목록 (사용자별 여러 연결)
+    private final SseConnectionRegistry connectionRegistry;
+
+    // SSE 연결 타임아웃 (1시간)
+    // 끊긴 연결은 하트비트로 먼저 정리되고, 만료 후 재연결은 Last-Event-ID로 이어 받으므로 길게 둘 필요가 없음
+    private static final long TIMEOUT = 60 * 60 * 1000L;
+
+    // 서버 전체 최대 연결 수를 넘어 거절한 연결에 알려 주는 재연결 대기 시간
+    private static final long REJECTED_RECONNECT_MILLIS = 30_000L;
 
     /**
      * 새로운 SSE 연결 생성
+     * <p>
+     * 같은 사용자의 다른 탭/기기 연결은 유지한 채 연결을 추가하고(사용자당 최대 수에 이르면 가장 오래된 연결과 교체),
+     * 이벤트는 모든 연결로 보낸다.
+     *
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID (없으면 null)
      */
-    public SseEmitter createConnection(Long userId) {
+    public SseEmitter createConnection(Long userId, String lastEventId) {
         log.info("SSE 연결 생성 - 사용자 ID: {}", userId);
 
-        // 기존 연결이 있다면 종료
-        SseEmitter existingEmitter = userConnections.get(userId);
-        if (existingEmitter != null) {
-            try {
-                existingEmitter.complete();
-            } catch (Exception e) {
-                log.warn("기존 SSE 연결 종료 중 오류 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
-            }
-        }
-
-        // 새 연결 생성
         SseEmitter emitter = new SseEmitter(TIMEOUT);
-        userConnections.put(userId, emitter);
+        SseConnection connection = SseConnection.of(userId, emitter);
+
+        // 서버 전체 최대 연결 수 초과 시 새 연결에 재연결 대기 시간만 알려 주고 닫음
+        if (!connectionRegistry.register(connection)) {
+            rejectConnection(emitter, userId);
+            return emitter;
+        }
 
         // 연결 완료 시 정리
         emitter.onCompletion(() -> {
             log.info("SSE 연결 완료 - 사용자 ID: {}", userId);
-            userConnections.remove(userId);
+            connectionRegistry.remove(connection);
         });
 
         // 연결 타임아웃 시 정리
         emitter.onTimeout(() -> {
             log.info("SSE 연결 타임아웃 - 사용자 ID: {}", userId);
-            userConnections.remove(userId);
-            try {
-                emitter.complete();
-            } catch (Exception e) {
-                log.warn("SSE 연결 타임아웃 처리 중 오류 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
-            }
+            connectionRegistry.close(connection);
         });
 
         // 연결 에러 시 정리
         emitter.onError((throwable) -> {
             log.error("SSE 연결 에러 - 사용자 ID: {}, 오류: {}", userId, throwable.getMessage());
-            userConnections.remove(userId);
-            try {
-                emitter.complete();
-            } catch (Exception e) {
-                log.warn("SSE 연결 에러 처리 중 오류 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
-            }
+            connectionRegistry.closeFailed(connection);
         });
 
-        // 연결 확인 메시지 전송
+        // 연결 확인 메시지 전송 (브라우저의 마지막 이벤트 ID를 덮어쓰지 않도록 ID 없이 보냄)
         try {
-            emitter.send(SseEmitter.event()
-                    .id("connection_" + System.currentTimeMillis())
+            connection.send(SseEmitter.event()
                     .name("connected")
                     .data("SSE 연결이 성공했습니다."));
-        } catch (IOException e) {
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 종료된 emitter
             log.error("SSE 연결 확인 메시지 전송 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
-            userConnections.remove(userId);
-            emitter.completeWithError(e);
+            connectionRegistry.closeFailed(connection);
+            return emitter;
         }
 
-        // 초기 데이터 전송 (과거 알림 이력 목록)
-        sendInitialData(emitter, userId);
+        // 재연결이면 놓친 이벤트만 재전송, 이어 보낼 수 없으면 초기 데이터(알림함 요약) 전송
+        Optional<List<NotificationEventDto>> missedEvents = lastEventId == null
+                ? Optional.empty()
+                : notificationReplayService.findMissedEvents(userId, lastEventId);
+
+        if (missedEvents.isPresent()) {
+            replayMissedEvents(connection, missedEvents.get());
+        } else {
+            sendInitialData(connection);
+        }
 
         return emitter;
     }
 
     /**
-     * 초기 데이터 전송 (과거 알림 이력 목록)
+     * Last-Event-ID 이후 놓친 이벤트 재전송
+     * <p>
+     * 연결을 먼저 등록한 뒤 재전송하므로 그 사이 도착한 이벤트는 두 번 갈 수 있으며, 클라이언트는 이벤트 ID로 걸러낸다.
      */
-    private void sendInitialData(SseEmitter emitter, Long userId) {
-        try {
-            log.info("초기 데이터 전송 - 사용자 ID: {}", userId);
-
-            List<NotificationEventDto> initialNotifications = new ArrayList<>();
-
-            // 1. 결제 성공 알림 (UserTransaction SUCCESS)
-            List<UserTransaction> successTransactions = userTransactionRepository
-                    .findSuccessTransactionsByUserId(userId);
+    private void replayMissedEvents(SseConnection connection, List<NotificationEventDto> events) {
+        Long userId = connection.userId();
+        log.info("놓친 알림 재전송 - 사용자 ID: {}, 재전송 수: {}", userId, events.size());
 
-            for (UserTransaction transaction : successTransactions) {
-                NotificationEventDto eventDto = NotificationEventDto.createPaymentSuccessEvent(
-                        userId,
-                        transaction.getFunding().getFundingId(),
-                        transaction.getFunding().getTitle(),
-                        transaction.getBalance().longValue());
-
-                eventDto.setTimestamp(transaction.getProcessedAt());
-                initialNotifications.add(eventDto);
-            }
-
-            // 2. 펀딩 성공 알림 (FundingTransaction SUCCESS)
-            List<FundingTransaction> successFundingTransactions = fundingTransactionRepository
-                    .findSuccessFundingTransactionsByUserId(userId);
-
-            for (FundingTransaction fundingTransaction : successFundingTransactions) {
-                Funding funding = fundingTransaction.getFunding();
-                NotificationEventDto eventDto = NotificationEventDto.createFundingSuccessEvent(
-                        userId,
-                        funding.getFundingId(),
-                        funding.getTitle(),
-                        fundingTransaction.getBalance(),
-                        funding.getMaxPeople());
-                eventDto.setTimestamp(fundingTransaction.getProcessedAt());
-                initialNotifications.add(eventDto);
-            }
-
-            // 3. 펀딩 실패 환불 알림 (UserTransaction REFUNDED)
-            List<UserTransaction> refundedTransactions = userTransactionRepository
-                    .findRefundedTransactionsByUserId(userId);
-            for (UserTransaction transaction : refundedTransactions) {
-                NotificationEventDto eventDto = NotificationEventDto.createFundingFailedEvent(
-                        userId,
-                        transaction.getFunding().getFundingId(),
-                        transaction.getFunding().getTitle(),
-                        transaction.getBalance());
-                eventDto.setTimestamp(transaction.getProcessedAt());
-                initialNotifications.add(eventDto);
+        try {
+            for (NotificationEventDto event : events) {
+                connection.send(toUserEvent(event));
             }
+        } catch (IOException | IllegalStateException e) {
+            log.error("놓친 알림 재전송 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+            connectionRegistry.closeFailed(connection);
+        }
+    }
 
-            // (보류) 4. 투표→펀딩 전환 알림 (UserFavorite)
-
-            // 시간순으로 정렬 (최신순)
-            initialNotifications.sort((a, b) -> b.getTimestamp().compareTo(a.getTimestamp()));
+    /**
+     * 초기 데이터 전송 (최근 알림 + 안 읽은 알림 수)
+     * <p>
+     * 재연결이 잦으므로 전체 이력 대신 알림함의 첫 페이지만 보내고, 이후 목록은 알림함 API로 조회한다.
+     */
+    private void sendInitialData(SseConnection connection) {
+        Long userId = connection.userId();
+        try {
+            // 요약보다 먼저 읽어야 요약 이후 이벤트를 다음 재연결 때 빠짐없이 이어 받을 수 있음
+            String latestEventId = notificationReplayService.latestEventId(userId);
+            NotificationInboxSummary summary = notificationInboxService.getSummary(userId);
 
-            log.info("초기 알림 데이터 수집 완료 - 사용자 ID: {}, 총 알림 수: {}", userId, initialNotifications.size());
+            log.info("초기 알림 데이터 전송 - 사용자 ID: {}, 최근 알림 수: {}, 안 읽은 알림 수: {}", userId,
+                    summary.getNotifications().size(), summary.getUnreadCount());
 
-            // SSE로 리스트 형태로 한 번에 전송
-            emitter.send(SseEmitter.event()
-                    .id("initial_data_" + System.currentTimeMillis())
+            SseEmitter.SseEventBuilder initialData = SseEmitter.event()
                     .name("INITIAL_DATA")
-                    .data(initialNotifications));
+                    .data(summary);
+            if (latestEventId != null) {
+                initialData.id(latestEventId);
+            }
+            connection.send(initialData);
 
-        } catch (IOException e) {
+        } catch (Exception e) {
             log.error("초기 데이터 전송 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
         }
     }
 
     /**
      * 특정 사용자에게 이벤트 전송
+     * <p>
+     * 먼저 알림함에 저장한 뒤, 사용자의 SSE 연결이 다른 서버에 있을 수 있으므로 Redis 사용자 채널로 발행하고,
+     * 각 서버는 구독한 메시지 중 자기에게 연결된 사용자에게만 전달한다. (deliverToLocalUser)
      */
     @Async("sseTaskExecutor")
     public void sendEventToUser(Long userId, NotificationEventDto event) {
-        SseEmitter emitter = userConnections.get(userId);
-        if (emitter == null) {
-            log.debug("SSE 연결이 없는 사용자 - 사용자 ID: {}", userId);
-            return;
+        try {
+            notificationInboxService.save(event);
+        } catch (Exception e) {
+            // 알림함 저장 실패해도 실시간 전송은 시도
+            log.error("알림함 저장 실패 - 사용자 ID: {}, 이벤트 타입: {}, 오류: {}", userId, event.getEventType(),
+                    e.getMessage());
         }
-
         try {
-            log.info("SSE 이벤트 전송 - 사용자 ID: {}, 이벤트 타입: {}, 메시지: {}",
-                    userId, event.getEventType(), event.getMessage());
+            notificationReplayService.append(userId, event);
+        } catch (Exception e) {
+            log.error("알림 스트림 기록 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+        }
+        publish(USER_CHANNEL_PREFIX + userId, event, () -> deliverToLocalUser(userId, event));
+    }
 
-            emitter.send(SseEmitter.event()
-                    .id(event.getEventId())
-                    .name(event.getEventType().name())
-                    .data(event));
+    /**
+     * 이 서버에 연결된 사용자의 모든 연결로 이벤트 전달 (Redis 구독 메시지 수신 시 호출)
+     */
+    @Async("sseTaskExecutor")
+    public void deliverToLocalUser(Long userId, NotificationEventDto event) {
+        Collection<SseConnection> connections = connectionRegistry.connectionsOf(userId);
+        if (connections.isEmpty()) {
+            log.debug("이 서버에 SSE 연결이 없는 사용자 - 사용자 ID: {}", userId);
+            return;
+        }
 
-        } catch (IOException e) {
-            log.error("SSE 이벤트 전송 실패 - 사용자 ID: {}, 이벤트 ID: {}, 오류: {}",
-                    userId, event.getEventId(), e.getMessage());
+        log.info("SSE 이벤트 전송 - 사용자 ID: {}, 연결 수: {}, 이벤트 타입: {}, 메시지: {}",
+                userId, connections.size(), event.getEventType(), event.getMessage());
 
-            // 전송 실패 시 연결 제거
-            userConnections.remove(userId);
+        for (SseConnection connection : connections) {
             try {
-                emitter.complete();
-            } catch (Exception ex) {
-                log.warn("SSE 연결 종료 처리 중 오류 - 사용자 ID: {}, 오류: {}", userId, ex.getMessage());
+                connection.send(toUserEvent(event));
+            } catch (IOException | IllegalStateException e) {
+                // 한 연결의 실패(끊김, 이미 종료된 emitter)가 다른 연결 전송을 막지 않도록 연결마다 처리
+                log.error("SSE 이벤트 전송 실패 - 사용자 ID: {}, 이벤트 ID: {}, 오류: {}",
+                        userId, event.getEventId(), e.getMessage());
+
+                // 전송 실패한 연결만 제거
+                connectionRegistry.closeFailed(connection);
             }
         }
     }
 
     /**
-     * 모든 연결된 사용자에게 이벤트 전송 (브로드캐스트)
+     * 모든 연결된 사용자에게 이벤트 전송 (브로드캐스트, 모든 서버에 발행)
      */
     @Async("sseTaskExecutor")
     public void broadcastEvent(NotificationEventDto event) {
-        log.info("SSE 브로드캐스트 - 이벤트 타입: {}, 연결된 사용자 수: {}",
-                event.getEventType(), userConnections.size());
+        publish(BROADCAST_CHANNEL, event, () -> deliverToLocalUsers(event));
+    }
 
-        userConnections.entrySet().removeIf(entry -> {
-            Long userId = entry.getKey();
-            SseEmitter emitter = entry.getValue();
+    /**
+     * 이 서버에 연결된 모든 연결로 이벤트 전달 (Redis 구독 메시지 수신 시 호출)
+     */
+    @Async("sseTaskExecutor")
+    public void deliverToLocalUsers(NotificationEventDto event) {
+        List<SseConnection> connections = connectionRegistry.all();
+        log.info("SSE 브로드캐스트 - 이벤트 타입: {}, 이 서버의 연결 수: {}", event.getEventType(), connections.size());
 
+        for (SseConnection connection : connections) {
             try {
-                emitter.send(SseEmitter.event()
-                        .id(event.getEventId())
+                // 브로드캐스트는 재전송 대상이 아니므로 ID 없이 보내 브라우저의 마지막 이벤트 ID를 유지
+                connection.send(SseEmitter.event()
                         .name(event.getEventType().name())
                         .data(event));
-                return false; // 전송 성공 시 제거하지 않음
-            } catch (IOException e) {
-                log.error("SSE 브로드캐스트 전송 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
-                try {
-                    emitter.complete();
-                } catch (Exception ex) {
-                    log.warn("SSE 연결 종료 처리 중 오류 - 사용자 ID: {}, 오류: {}", userId, ex.getMessage());
-                }
-                return true; // 전송 실패 시 제거
+            } catch (IOException | IllegalStateException e) {
+                log.error("SSE 브로드캐스트 전송 실패 - 사용자 ID: {}, 오류: {}", connection.userId(), e.getMessage());
+                connectionRegistry.closeFailed(connection);
             }
-        });
+        }
     }
 
-}
\ No newline at end of file
+    /**
+     * 사용자 이벤트 SSE 프레임 (스트림 ID를 SSE 이벤트 ID로 사용)
+     * <p>
+     * 스트림에 기록되지 않은 이벤트는 재전송할 수 없으므로 ID 없이 보내 브라우저의 마지막 이벤트 ID를 유지한다.
+     */
+    private static SseEmitter.SseEventBuilder toUserEvent(NotificationEventDto event) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (event.getStreamId() != null) {
+            builder.id(event.getStreamId());
+        }
+        return builder
+                .name(event.getEventType().name())
+                .data(event);
+    }
+
+    private void rejectConnection(SseEmitter emitter, Long userId) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("CONNECTION_REJECTED")
+                    .reconnectTime(REJECTED_RECONNECT_MILLIS)
+                    .data("연결 수가 많아 잠시 후 다시 연결합니다."));
+            emitter.complete();
+        } catch (IOException e) {
+            log.warn("SSE 연결 거절 메시지 전송 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void publish(String channel, NotificationEventDto event, Runnable fallback) {
+        try {
+            redisService.publish(channel, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            // Redis 장애 시에는 최소한 이 서버에 연결된 사용자에게라도 전달
+            log.error("알림 발행 실패, 이 서버에만 전달 - 채널: {}, 오류: {}", channel, e.getMessage());
+            fallback.run();
+        }
+    }
+}
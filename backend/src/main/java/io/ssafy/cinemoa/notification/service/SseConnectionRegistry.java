@@ -0,0 +1,332 @@
+package io.ssafy.cinemoa.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * 이 서버에 연결된 SSE 연결 목록
+ * <p>
+ * 한 사용자가 여러 탭/기기로 동시에 연결할 수 있도록 사용자별로 연결 집합을 두고,
+ * 사용자당 최대 연결 수를 넘으면 그 사용자의 가장 오래된 연결을 교체하며, 서버 전체 최대 연결 수를 넘는 새 연결만 거절한다.
+ * <p>
+ * 서버별 지표
+ * <ul>
+ *     <li>sse.connections.active / sse.connections.users: 현재 연결 수 / 연결된 사용자 수</li>
+ *     <li>sse.connections.oldest.age: 가장 오래된 연결의 나이(초)</li>
+ *     <li>sse.connections.lifetime: 끊긴 연결이 유지된 시간</li>
+ *     <li>sse.connections.reaped: 전송 실패/멈춤/교체로 정리한 연결 수 (reason 태그)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class SseConnectionRegistry {
+
+    // 사용자당 최대 연결 수에 이르러 교체된 연결에 보내는 이벤트
+    public static final String REPLACED_EVENT = "CONNECTION_REPLACED";
+
+    private final ConcurrentMap<Long, Set<SseConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger activeCount = new AtomicInteger();
+
+    private final int maxConnectionsPerUser;
+    private final int maxConnections;
+
+    private final Timer lifetimeTimer;
+    private final Counter failedCounter;
+    private final Counter stalledCounter;
+    private final Counter evictedCounter;
+
+    public SseConnectionRegistry(MeterRegistry meterRegistry,
+                                 @Value("${notification.sse.max-connections-per-user:5}") int maxConnectionsPerUser,
+                                 @Value("${notification.sse.max-connections:10000}") int maxConnections) {
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.maxConnections = maxConnections;
+
+        Gauge.builder("sse.connections.active", activeCount, AtomicInteger::get)
+                .description("이 서버에 열려 있는 SSE 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.connections.users", connections, ConcurrentMap::size)
+                .description("이 서버에 SSE로 연결된 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.connections.oldest.age", this, SseConnectionRegistry::oldestAgeSeconds)
+                .description("이 서버에서 가장 오래된 SSE 연결의 나이")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        this.lifetimeTimer = Timer.builder("sse.connections.lifetime")
+                .description("끊긴 SSE 연결이 유지된 시간")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("sse.connections.reaped")
+                .tag("reason", "failed")
+                .register(meterRegistry);
+        this.stalledCounter = Counter.builder("sse.connections.reaped")
+                .tag("reason", "stalled")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("sse.connections.reaped")
+                .tag("reason", "evicted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 연결 등록
+     * <p>
+     * 사용자당 최대 연결 수에 이르면 그 사용자의 가장 오래된 연결을 끊고 새 연결을 받는다.
+     * 새로고침하거나 반쯤 끊긴 탭은 쓰기가 실패하기 전까지 목록에 남으므로, 새 연결을 거절하면 실제로 쓰는 탭이 밀려난다.
+     *
+     * @return 등록 여부 (서버 전체 최대 연결 수를 넘으면 false)
+     */
+    public boolean register(SseConnection connection) {
+        SseConnection[] evicted = {null};
+        boolean[] registered = {false};
+        connections.compute(connection.userId(), (userId, userConnections) -> {
+            Set<SseConnection> target = userConnections != null ? userConnections : ConcurrentHashMap.newKeySet();
+            if (target.size() >= maxConnectionsPerUser) {
+                // 가장 오래된 연결과 교체하므로 전체 연결 수는 그대로
+                SseConnection oldest = target.stream()
+                        .min(Comparator.comparingLong(SseConnection::connectedAt))
+                        .orElseThrow();
+                target.remove(oldest);
+                evicted[0] = oldest;
+            } else if (activeCount.incrementAndGet() > maxConnections) {
+                activeCount.decrementAndGet();
+                return target.isEmpty() ? null : target;
+            }
+            target.add(connection);
+            registered[0] = true;
+            return target;
+        });
+
+        if (!registered[0]) {
+            log.warn("SSE 최대 연결 수 초과 - 사용자 ID: {}, 최대: {}", connection.userId(), maxConnections);
+            return false;
+        }
+
+        if (evicted[0] != null) {
+            SseConnection oldest = evicted[0];
+            lifetimeTimer.record(Duration.ofMillis(System.currentTimeMillis() - oldest.connectedAt()));
+            evictedCounter.increment();
+            log.info("사용자당 최대 SSE 연결 수 도달, 가장 오래된 연결 교체 - 사용자 ID: {}, 최대: {}",
+                    connection.userId(), maxConnectionsPerUser);
+            closeReplaced(oldest);
+        }
+        return true;
+    }
+
+    /**
+     * 교체된 연결에 다시 연결하지 말라고 알리고 종료 (알리지 않으면 브라우저가 자동 재연결하면서 다른 탭을 밀어냄)
+     * <p>
+     * 쓰는 중인 연결은 알림이 그 쓰기 뒤에서 막히므로 알리지 않고 종료만 한다.
+     */
+    private void closeReplaced(SseConnection connection) {
+        if (connection.isWriting()) {
+            connection.closeAfterWrite();
+            return;
+        }
+        try {
+            connection.send(SseEmitter.event()
+                    .name(REPLACED_EVENT)
+                    .data("다른 탭/기기에서 새로 연결되어 이 연결을 종료합니다."));
+        } catch (Exception e) {
+            log.debug("SSE 연결 교체 알림 실패 - 사용자 ID: {}, 오류: {}", connection.userId(), e.getMessage());
+        }
+        connection.closeAfterWrite();
+    }
+
+    /**
+     * 연결 제거 (이미 제거된 연결이면 무시)
+     *
+     * @return 이번 호출로 제거되었는지 여부
+     */
+    public boolean remove(SseConnection connection) {
+        boolean[] removed = {false};
+        connections.computeIfPresent(connection.userId(), (userId, userConnections) -> {
+            removed[0] = userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+
+        if (removed[0]) {
+            activeCount.decrementAndGet();
+            lifetimeTimer.record(Duration.ofMillis(System.currentTimeMillis() - connection.connectedAt()));
+        }
+        return removed[0];
+    }
+
+    /**
+     * 전송에 실패한 연결을 목록에서 빼고 emitter 종료
+     */
+    public void closeFailed(SseConnection connection) {
+        if (remove(connection)) {
+            failedCounter.increment();
+        }
+        connection.closeAfterWrite();
+    }
+
+    /**
+     * 연결을 목록에서 빼고 emitter 종료 (타임아웃 등 정상 종료)
+     */
+    public void close(SseConnection connection) {
+        remove(connection);
+        connection.closeAfterWrite();
+    }
+
+    /**
+     * 쓰기가 멈춘 연결을 목록에서 빼고 emitter 종료
+     * <p>
+     * 멈춘 쓰기가 (컨테이너 쓰기 타임아웃 등으로) 끝나는 즉시 그 쓰기 스레드가 emitter를 종료한다. (SseConnection.closeAfterWrite)
+     */
+    public void reapStalled(SseConnection connection) {
+        if (remove(connection)) {
+            stalledCounter.increment();
+            log.warn("쓰기가 멈춘 SSE 연결 정리 - 사용자 ID: {}, 멈춘 시간: {}ms", connection.userId(),
+                    System.currentTimeMillis() - connection.writeStartedAt());
+        }
+        connection.closeAfterWrite();
+    }
+
+    public Collection<SseConnection> connectionsOf(Long userId) {
+        Set<SseConnection> userConnections = connections.get(userId);
+        return userConnections == null ? List.of() : List.copyOf(userConnections);
+    }
+
+    public List<SseConnection> all() {
+        List<SseConnection> result = new ArrayList<>(activeCount.get());
+        connections.values().forEach(result::addAll);
+        return result;
+    }
+
+    public int size() {
+        return activeCount.get();
+    }
+
+    private double oldestAgeSeconds() {
+        long now = System.currentTimeMillis();
+        long oldest = now;
+        for (Set<SseConnection> userConnections : connections.values()) {
+            for (SseConnection connection : userConnections) {
+                oldest = Math.min(oldest, connection.connectedAt());
+            }
+        }
+        return (now - oldest) / 1000.0;
+    }
+
+    /**
+     * SSE 연결 한 개 (사용자 ID, emitter, 연결 시각, 쓰기 상태)
+     * <p>
+     * 모든 전송은 send()를 거쳐 마지막 전송 시각과 진행 중인 쓰기 시작 시각을 기록하며,
+     * 하트비트가 이 값으로 멈춘 연결을 찾는다. 같은 사용자의 연결끼리도 구분해야 하므로 객체 동일성으로 비교한다.
+     */
+    public static final class SseConnection {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final long connectedAt;
+
+        private final AtomicLong lastWriteAt;
+        // 진행 중인 쓰기가 없으면 0
+        private final AtomicLong writeStartedAt = new AtomicLong();
+        // 종료 요청된 연결 (진행 중인 쓰기가 있으면 그 쓰기가 끝나는 쪽에서 emitter를 종료)
+        private final AtomicBoolean closing = new AtomicBoolean();
+
+        private SseConnection(Long userId, SseEmitter emitter, long connectedAt) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.connectedAt = connectedAt;
+            this.lastWriteAt = new AtomicLong(connectedAt);
+        }
+
+        public static SseConnection of(Long userId, SseEmitter emitter) {
+            return new SseConnection(userId, emitter, System.currentTimeMillis());
+        }
+
+        public void send(SseEventBuilder event) throws IOException {
+            if (closing.get()) {
+                // 종료 중인 연결에 쓰면 멈춘 쓰기 뒤에서 같이 막힐 수 있으므로 바로 실패 처리
+                // (호출 측은 끊긴 연결과 같게 IOException으로 처리)
+                throw new IOException("종료된 SSE 연결");
+            }
+
+            writeStartedAt.set(System.currentTimeMillis());
+            try {
+                emitter.send(event);
+                lastWriteAt.set(System.currentTimeMillis());
+            } finally {
+                writeStartedAt.set(0);
+                if (closing.get()) {
+                    completeEmitter();
+                }
+            }
+        }
+
+        /**
+         * emitter 종료 요청 (호출 스레드를 막지 않음)
+         * <p>
+         * emitter의 send/complete는 같은 잠금을 쓰므로 쓰기가 멈춘 연결을 바로 complete하면 호출 스레드도 같이 막힌다.
+         * 진행 중인 쓰기가 없으면 바로 종료하고, 있으면 그 쓰기가 끝날 때 send()에서 종료한다.
+         * 표시와 쓰기 상태 확인이 서로 엇갈려도 어느 쪽이든 최소 한 번은 종료하며, 두 번 종료해도 무해하다.
+         */
+        void closeAfterWrite() {
+            closing.set(true);
+            if (!isWriting()) {
+                completeEmitter();
+            }
+        }
+
+        private void completeEmitter() {
+            try {
+                emitter.complete();
+            } catch (Exception e) {
+                log.warn("SSE 연결 종료 처리 중 오류 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+            }
+        }
+
+        /**
+         * 쓰기가 stallMillis 넘게 끝나지 않고 있는지 여부
+         */
+        public boolean isStalled(long now, long stallMillis) {
+            long startedAt = writeStartedAt.get();
+            return startedAt != 0 && now - startedAt > stallMillis;
+        }
+
+        public boolean isWriting() {
+            return writeStartedAt.get() != 0;
+        }
+
+        public Long userId() {
+            return userId;
+        }
+
+        public SseEmitter emitter() {
+            return emitter;
+        }
+
+        public long connectedAt() {
+            return connectedAt;
+        }
+
+        public long lastWriteAt() {
+            return lastWriteAt.get();
+        }
+
+        public long writeStartedAt() {
+            return writeStartedAt.get();
+        }
+    }
+}
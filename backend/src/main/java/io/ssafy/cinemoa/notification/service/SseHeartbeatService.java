@@ -0,0 +1,88 @@
+package io.ssafy.cinemoa.notification.service;
+
+import io.ssafy.cinemoa.notification.service.SseConnectionRegistry.SseConnection;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 하트비트와 끊긴 연결 정리
+ * <p>
+ * 주기마다 한동안 아무것도 보내지 않은 연결에 주석 프레임을 보내 프록시 유휴 타임아웃을 막고,
+ * 클라이언트가 사라진 연결은 쓰기 실패로 찾아 정리한다.
+ * 전송은 연결마다 하트비트 전용 실행기에 넘기므로, 느린 쓰기 하나가 다른 연결의 하트비트를 막지 않고
+ * 스케줄러 스레드는 직접 쓰지 않는다. (실행기 큐가 가득 차면 남은 연결은 다음 주기로 미룸)
+ * 이전 주기의 쓰기가 STALL_FACTOR 주기 넘게 끝나지 않은 연결은 멈춘 것으로 보고 정리한다.
+ */
+@Slf4j
+@Service
+public class SseHeartbeatService {
+
+    private static final int STALL_FACTOR = 2;
+
+    private final SseConnectionRegistry connectionRegistry;
+    private final Executor heartbeatExecutor;
+    private final long intervalMillis;
+
+    public SseHeartbeatService(SseConnectionRegistry connectionRegistry,
+                               @Qualifier("sseHeartbeatExecutor") Executor heartbeatExecutor,
+                               @Value("${notification.sse.heartbeat-interval-ms:25000}") long intervalMillis) {
+        this.connectionRegistry = connectionRegistry;
+        this.heartbeatExecutor = heartbeatExecutor;
+        this.intervalMillis = intervalMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-interval-ms:25000}",
+            initialDelayString = "${notification.sse.heartbeat-interval-ms:25000}")
+    public void sendHeartbeats() {
+        long now = System.currentTimeMillis();
+        long stallMillis = intervalMillis * STALL_FACTOR;
+
+        List<SseConnection> targets = new ArrayList<>();
+        int stalled = 0;
+        for (SseConnection connection : connectionRegistry.all()) {
+            if (connection.isStalled(now, stallMillis)) {
+                connectionRegistry.reapStalled(connection);
+                stalled++;
+            } else if (!connection.isWriting() && now - connection.lastWriteAt() >= intervalMillis) {
+                // 최근에 이벤트를 보낸 연결이나 쓰는 중인 연결은 건너뜀
+                targets.add(connection);
+            }
+        }
+
+        int deferred = 0;
+        for (int i = 0; i < targets.size(); i++) {
+            SseConnection connection = targets.get(i);
+            try {
+                heartbeatExecutor.execute(() -> sendHeartbeat(connection));
+            } catch (TaskRejectedException e) {
+                deferred = targets.size() - i;
+                break;
+            }
+        }
+
+        if (stalled > 0 || deferred > 0 || log.isDebugEnabled()) {
+            log.info("SSE 하트비트 - 전송 대상: {}, 다음 주기로 미룸: {}, 멈춘 연결 정리: {}, 남은 연결: {}", targets.size(),
+                    deferred, stalled, connectionRegistry.size());
+        }
+    }
+
+    private void sendHeartbeat(SseConnection connection) {
+        try {
+            // 이벤트 빌더는 build 시 내용을 덧붙이므로 공유하지 않고 매번 새로 만듦
+            connection.send(SseEmitter.event().comment("heartbeat"));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊었거나 이미 종료된 emitter
+            log.debug("SSE 하트비트 전송 실패 - 사용자 ID: {}, 오류: {}", connection.userId(), e.getMessage());
+            connectionRegistry.closeFailed(connection);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import io.ssafy.cinemoa.cinema.repository.entity.Screen;
 import io.ssafy.cinemoa.external.finance.Client.AccountTransferApiClient;
 import io.ssafy.cinemoa.external.finance.dto.AccountTransferResponse;
 import io.ssafy.cinemoa.funding.enums.FundingState;
+import io.ssafy.cinemoa.funding.event.FundingDetailChangedEvent;
 import io.ssafy.cinemoa.funding.repository.FundingRepository;
 import io.ssafy.cinemoa.funding.repository.FundingStatRepository;
 import io.ssafy.cinemoa.funding.repository.entity.Funding;
@@ -26,6 +27,7 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -47,6 +49,7 @@ public class FundingSchedulerService {
     private final UserTransactionRepository userTransactionRepository;
     private final AccountTransferApiClient accountTransferApiClient;
     private final FundingNotificationService fundingNotificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${finance.cinema-accounts.cgv.account-no}")
     private String cgvAccountNo;
@@ -192,6 +195,7 @@ public class FundingSchedulerService {
             // 3. 펀딩 상태 업데이트
             funding.setState(newState);
             fundingRepository.save(funding);
+            eventPublisher.publishEvent(new FundingDetailChangedEvent(fundingId));
 
             log.info("펀딩 결과 업데이트 - 펀딩ID: {}, 제목: {}, 참여자수: {}/{}, 결과: {}",
                     fundingId, funding.getTitle(), participantCount, maxPeople, newState);
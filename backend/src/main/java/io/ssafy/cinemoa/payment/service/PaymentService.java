@@ -6,6 +6,7 @@ import io.ssafy.cinemoa.external.finance.Client.CardApiClient;
 import io.ssafy.cinemoa.external.finance.dto.AccountDepositResponse;
 import io.ssafy.cinemoa.external.finance.dto.AccountTransferResponse;
 import io.ssafy.cinemoa.external.finance.dto.CreditCardTransactionResponse;
+import io.ssafy.cinemoa.funding.event.FundingStatChangedEvent;
 import io.ssafy.cinemoa.funding.exception.SeatLockException;
 import io.ssafy.cinemoa.funding.repository.FundingRepository;
 import io.ssafy.cinemoa.funding.repository.FundingStatRepository;
@@ -33,6 +34,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -50,6 +52,7 @@ public class PaymentService {
     private final AccountTransferApiClient accountTransferApiClient;
     private final RedisService redisService;
     private final FundingNotificationService fundingNotificationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 펀딩 참여 처리
@@ -135,6 +138,7 @@ public class PaymentService {
 
             // 6. 펀딩 상태 업데이트(참여자 수 +1)
             fundingStatRepository.incrementParticipantCount(fundingId);
+            eventPublisher.publishEvent(new FundingStatChangedEvent(fundingId));
             redisService.removeKey(seatKey);
 
             // 7. SSE 알림 전송 (결제 성공)
@@ -218,6 +222,7 @@ public class PaymentService {
 
                 // 4-4. 펀딩 상태 업데이트(참여자 수 -1)
                 fundingStatRepository.decrementParticipantCount(fundingId);
+                eventPublisher.publishEvent(new FundingStatChangedEvent(fundingId));
 
                 log.info("환불 처리 완료 - 환불 대상 사용자ID: {}, 펀딩ID: {}, 환불금액: {}, 환불계좌: {}",
                         targetUserId, fundingId, successTransaction.getBalance(),
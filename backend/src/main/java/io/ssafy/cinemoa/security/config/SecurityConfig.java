@@ -46,13 +46,21 @@ public class SecurityConfig {
             "/api/cinema/**",
             "/api/screen/**",
             "/api/image/**",
-            "/api/search"
+            "/api/search",
+            "/api/search/stream",
+            "/api/search/suggestions",
+            "/api/search/facets"
     };
 
     private static final String[] PERMIT_ANONYMOUS = {
             "/api/wonauth/**"
     };
 
+    // 상영관 조회는 공개지만 시간대 선점은 로그인 사용자만
+    private static final String[] SCREEN_HOLD_PATHS = {
+            "/api/screen/*/hold"
+    };
+
     private static final String[] NOTIFICATION_PATHS = {
             "/api/notification/**"
     };
@@ -95,6 +103,7 @@ public class SecurityConfig {
                 .exceptionHandling(e -> e.accessDeniedHandler(accessDeniedHandler)
                         .authenticationEntryPoint(authenticationEntryPoint))
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(SCREEN_HOLD_PATHS).hasRole(Role.USER.getRole())
                         .requestMatchers(PERMIT_ALL_PATHS)
                         .permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/api/**").permitAll()
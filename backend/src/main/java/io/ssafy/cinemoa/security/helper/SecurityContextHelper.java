@@ -32,6 +32,19 @@ public class SecurityContextHelper {
         throw new RuntimeException("사용자 정보를 가져올 수 없습니다.");
     }
 
+    /**
+     * 현재 로그인한 사용자의 ID를 반환 (비로그인 요청이면 null)
+     */
+    public Long getCurrentUserIdOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+
     /**
      * 현재 로그인한 사용자의 상세 정보를 반환
      */
@@ -2,6 +2,7 @@ package io.ssafy.cinemoa.user.service;
 
 import io.ssafy.cinemoa.category.repository.CategoryRepository;
 import io.ssafy.cinemoa.category.repository.entity.Category;
+import io.ssafy.cinemoa.category.service.CategoryService;
 import io.ssafy.cinemoa.global.exception.BadRequestException;
 import io.ssafy.cinemoa.global.exception.ResourceNotFoundException;
 import io.ssafy.cinemoa.security.enums.Role;
@@ -34,6 +35,7 @@ public class UserAdditionalInfoService {
     private final UserRepository userRepository;
     private final UserCategoryRepository userCategoryRepository;
     private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
     private final WonAuthService wonAuthService;
 
     private final ApplicationEventPublisher eventPublisher;
@@ -114,19 +116,17 @@ public class UserAdditionalInfoService {
             throw BadRequestException.ofInput();
         }
 
-        // DB에서 카테고리 조회
-        List<Category> categories = categoryRepository.findAllById(categoryIds);
-        if (categories.size() != categoryIds.size()) {
-            throw BadRequestException.ofInput();
-        }
-
-        // 하위 카테고리 여부 검증 (부모 카테고리가 있는 카테고리만 선택 가능)
-        for (Category category : categories) {
-            if (category.getParentCategory() == null) {
+        // 존재 여부 및 하위 카테고리 여부 검증 (부모 카테고리가 있는 카테고리만 선택 가능)
+        for (Long categoryId : categoryIds) {
+            if (!categoryService.isSubCategory(categoryId)) {
                 throw BadRequestException.ofInput();
             }
         }
-        return categories;
+
+        // 검증된 ID는 조회 없이 참조만 사용
+        return categoryIds.stream()
+                .map(categoryRepository::getReferenceById)
+                .toList();
     }
 
     // 계좌 유효성 검증 로직 (임시 구현)
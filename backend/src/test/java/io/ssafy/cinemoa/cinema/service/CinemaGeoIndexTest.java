@@ -0,0 +1,103 @@
+package io.ssafy.cinemoa.cinema.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import io.ssafy.cinemoa.cinema.enums.CinemaFeature;
+import io.ssafy.cinemoa.cinema.repository.entity.Cinema;
+import io.ssafy.cinemoa.cinema.service.CinemaCatalog.CinemaEntry;
+import io.ssafy.cinemoa.cinema.service.CinemaGeoIndex.CinemaDistance;
+import io.ssafy.cinemoa.cinema.util.FeatureMask;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CinemaGeoIndexTest {
+
+    // 서울시청 기준
+    private static final double LAT = 37.5665;
+    private static final double LNG = 126.9780;
+
+    private final CinemaGeoIndex index = new CinemaGeoIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.rebuild(List.of(
+                entry(1L, 37.5700, 126.9830, FeatureMask.IMAX),   // 약 0.6km
+                entry(2L, 37.5172, 127.0473, 0),                  // 강남, 약 8km
+                entry(3L, 37.4563, 126.7052, FeatureMask.DOLBY),  // 인천, 약 27km
+                entry(4L, 35.1796, 129.0756, FeatureMask.IMAX),   // 부산, 약 325km
+                entry(5L, null, null, 0)));                       // 좌표 없음
+    }
+
+    @Test
+    void distanceKmUsesHaversine() {
+        assertThat(CinemaGeoIndex.distanceKm(0, 0, 1, 0)).isCloseTo(111.19, within(0.01));
+        assertThat(CinemaGeoIndex.distanceKm(LAT, LNG, 35.1796, 129.0756)).isCloseTo(325, within(5.0));
+        assertThat(CinemaGeoIndex.distanceKm(LAT, LNG, LAT, LNG)).isZero();
+    }
+
+    @Test
+    void findWithinRadiusReturnsNearestFirst() {
+        List<CinemaDistance> result = index.findWithinRadius(LAT, LNG, 30, null);
+
+        assertThat(ids(result)).containsExactly(1L, 2L, 3L);
+        assertThat(result).isSortedAccordingTo((a, b) -> Double.compare(a.distanceKm(), b.distanceKm()));
+        assertThat(result).allSatisfy(distance -> assertThat(distance.distanceKm()).isLessThanOrEqualTo(30));
+    }
+
+    @Test
+    void findWithinRadiusFiltersByFeature() {
+        assertThat(ids(index.findWithinRadius(LAT, LNG, 30, Set.of(CinemaFeature.IMAX)))).containsExactly(1L);
+        assertThat(ids(index.findWithinRadius(LAT, LNG, 400, Set.of(CinemaFeature.IMAX))))
+                .containsExactly(1L, 4L);
+    }
+
+    @Test
+    void findWithinRadiusOfEmptyAreaIsEmpty() {
+        assertThat(index.findWithinRadius(33.4996, 126.5312, 10, null)).isEmpty();
+    }
+
+    @Test
+    void findNearestReturnsAtMostK() {
+        assertThat(ids(index.findNearest(LAT, LNG, 2, null))).containsExactly(1L, 2L);
+        assertThat(ids(index.findNearest(LAT, LNG, 10, null))).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(index.findNearest(LAT, LNG, 0, null)).isEmpty();
+    }
+
+    @Test
+    void findNearestAppliesFeatureFilterBeforeLimit() {
+        // 제주에서는 부산이 가장 가깝지만 특별관이 없는 극장만 고르면 강남
+        assertThat(ids(index.findNearest(33.4996, 126.5312, 1, null))).containsExactly(4L);
+        assertThat(ids(index.findNearest(33.4996, 126.5312, 1, Set.of(CinemaFeature.NORMAL)))).containsExactly(2L);
+    }
+
+    @Test
+    void findCinemaIdsByDistanceSkipsCinemasWithoutCoordinates() {
+        assertThat(index.findCinemaIdsByDistance(35.1796, 129.0756)).containsExactly(4L, 2L, 1L, 3L);
+    }
+
+    @Test
+    void rebuildReplacesPreviousCinemas() {
+        index.rebuild(List.of(entry(9L, LAT, LNG, 0)));
+
+        assertThat(index.findCinemaIdsByDistance(LAT, LNG)).containsExactly(9L);
+    }
+
+    private static CinemaEntry entry(Long cinemaId, Double lat, Double lng, int featureMask) {
+        Cinema cinema = Cinema.builder()
+                .cinemaId(cinemaId)
+                .cinemaName("영화관" + cinemaId)
+                .lat(lat)
+                .lng(lng)
+                .build();
+        return new CinemaEntry(cinema, featureMask, List.of());
+    }
+
+    private static List<Long> ids(List<CinemaDistance> distances) {
+        return distances.stream()
+                .map(distance -> distance.cinema().getCinemaId())
+                .toList();
+    }
+}
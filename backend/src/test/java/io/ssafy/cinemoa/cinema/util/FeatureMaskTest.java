@@ -0,0 +1,44 @@
+package io.ssafy.cinemoa.cinema.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.ssafy.cinemoa.cinema.enums.CinemaFeature;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class FeatureMaskTest {
+
+    private static final int IMAX_DOLBY = FeatureMask.of(true, null, false, true, null);
+
+    @Test
+    void ofSetsOnlyTrueFlags() {
+        assertThat(IMAX_DOLBY).isEqualTo(FeatureMask.IMAX | FeatureMask.DOLBY);
+        assertThat(FeatureMask.of(null, null, null, null, null)).isZero();
+        assertThat(FeatureMask.of(true, true, true, true, true))
+                .isEqualTo(FeatureMask.IMAX | FeatureMask.SCREENX | FeatureMask.FDX | FeatureMask.DOLBY
+                        | FeatureMask.RECLINER);
+    }
+
+    @Test
+    void noSelectedFeatureMatchesEverything() {
+        assertThat(FeatureMask.matches(IMAX_DOLBY, null)).isTrue();
+        assertThat(FeatureMask.matches(0, Set.of())).isTrue();
+    }
+
+    @Test
+    void selectedFeaturesMustAllBePresent() {
+        assertThat(FeatureMask.matches(IMAX_DOLBY, Set.of(CinemaFeature.IMAX))).isTrue();
+        assertThat(FeatureMask.matches(IMAX_DOLBY, Set.of(CinemaFeature.IMAX, CinemaFeature.DOLBY))).isTrue();
+        assertThat(FeatureMask.matches(IMAX_DOLBY, Set.of(CinemaFeature.IMAX, CinemaFeature.FDX))).isFalse();
+        assertThat(FeatureMask.matches(0, Set.of(CinemaFeature.RECLINER))).isFalse();
+    }
+
+    @Test
+    void normalMatchesCinemasWithoutAnyFeature() {
+        assertThat(FeatureMask.matches(0, Set.of(CinemaFeature.NORMAL, CinemaFeature.IMAX))).isTrue();
+        assertThat(FeatureMask.matches(FeatureMask.IMAX, Set.of(CinemaFeature.NORMAL, CinemaFeature.IMAX)))
+                .isTrue();
+        assertThat(FeatureMask.matches(FeatureMask.DOLBY, Set.of(CinemaFeature.NORMAL, CinemaFeature.IMAX)))
+                .isFalse();
+    }
+}
@@ -0,0 +1,54 @@
+package io.ssafy.cinemoa.cinema.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class HourBlockMaskTest {
+
+    @Test
+    void rangeOfSetsInclusiveHourBits() {
+        assertThat(HourBlockMask.rangeOf(4, 6)).isEqualTo(0b111_0000);
+        assertThat(HourBlockMask.rangeOf(0, 0)).isEqualTo(1);
+        assertThat(HourBlockMask.rangeOf(23, 23)).isEqualTo(1 << 23);
+        assertThat(HourBlockMask.rangeOf(0, 23)).isEqualTo(HourBlockMask.FULL_DAY);
+    }
+
+    @Test
+    void rangeOfRejectsInvalidRanges() {
+        assertThatThrownBy(() -> HourBlockMask.rangeOf(-1, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HourBlockMask.rangeOf(20, 24)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HourBlockMask.rangeOf(12, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void availableOfExcludesBookedAndClosedHours() {
+        int booked = HourBlockMask.rangeOf(10, 12);
+
+        List<Byte> available = HourBlockMask.toHours(HourBlockMask.availableOf(booked));
+
+        assertThat(available).hasSize(HourBlockMask.HOURS_PER_DAY - 3 - 3)
+                .doesNotContain((byte) 4, (byte) 5, (byte) 6, (byte) 10, (byte) 11, (byte) 12)
+                .contains((byte) 0, (byte) 9, (byte) 13, (byte) 23);
+    }
+
+    @Test
+    void availableOfFullyBookedDayIsEmpty() {
+        assertThat(HourBlockMask.availableOf(HourBlockMask.FULL_DAY)).isZero();
+    }
+
+    @Test
+    void toHoursListsSetBitsInAscendingOrder() {
+        int mask = HourBlockMask.rangeOf(22, 23) | HourBlockMask.rangeOf(0, 0) | HourBlockMask.rangeOf(7, 7);
+
+        assertThat(HourBlockMask.toHours(mask)).containsExactly((byte) 0, (byte) 7, (byte) 22, (byte) 23);
+        assertThat(HourBlockMask.toHours(0)).isEmpty();
+    }
+
+    @Test
+    void toHoursIgnoresBitsBeyondTheDay() {
+        assertThat(HourBlockMask.toHours(1 << HourBlockMask.HOURS_PER_DAY | 1)).containsExactly((byte) 0);
+    }
+}
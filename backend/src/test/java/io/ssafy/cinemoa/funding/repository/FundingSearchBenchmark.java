@@ -0,0 +1,201 @@
+package io.ssafy.cinemoa.funding.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.ssafy.cinemoa.funding.dto.SearchRequest;
+import io.ssafy.cinemoa.funding.enums.FundingSortOrder;
+import io.ssafy.cinemoa.global.config.SchemaMigrationRunner;
+import io.ssafy.cinemoa.global.util.CursorCodec;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 펀딩 검색 벤치마크: 기존 LIKE 부분 일치 vs ngram FULLTEXT 관련도순 (펀딩 10만/100만 건)
+ * <p>
+ * funding_cards에 한글 제목/상영물 이름을 채운 뒤 같은 검색어로 두 쿼리의 지연 시간(p50/p95)을 비교해 로그로 남긴다.
+ * 실행 환경에 따라 값이 달라지므로 속도 자체는 검사하지 않고, 두 쿼리가 같은 검색어로 결과를 찾는지만 확인한다.
+ * <p>
+ * 오래 걸리므로 기본 test 태스크에서는 제외하며, ./gradlew benchmark 로 실행한다. Docker가 없으면 실행하지 않는다.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=create", "cursor.secret=test-secret"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Import({FundingFilterRepository.class, CursorCodec.class, SchemaMigrationRunner.class})
+class FundingSearchBenchmark {
+
+    private static final int FULLTEXT_MIGRATION_VERSION = 1;
+    private static final String FULLTEXT_INDEX = "ft_funding_cards_title_video_name";
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 20;
+
+    private static final String[] MOVIES = {
+            "스파이더맨", "어벤져스", "인터스텔라", "기생충", "라라랜드", "범죄도시", "해리포터", "반지의 제왕",
+            "겨울왕국", "토이 스토리", "인사이드 아웃", "올드보이", "극한직업", "명량", "부산행", "아바타"
+    };
+    private static final String[] WORDS = {
+            "함께", "보는", "상영회", "재개봉", "단관", "팬들의", "심야", "특별", "관람", "모임", "주말", "감독판",
+            "자막", "더빙", "기념", "정주행", "아이맥스", "돌비", "굿즈", "이벤트"
+    };
+    private static final String[] QUERIES = {"스파이더맨", "상영회", "심야 상영회", "인터스텔라 아이맥스", "감독판"};
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withCommand("--ngram_token_size=2")
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private FundingFilterRepository fundingFilterRepository;
+    @Autowired
+    private SchemaMigrationRunner schemaMigrationRunner;
+
+    private int seeded;
+
+    @ParameterizedTest(name = "펀딩 {0}건")
+    @ValueSource(ints = {100_000, 1_000_000})
+    void compareLikeAndFullText(int fundings) {
+        seedUpTo(fundings);
+
+        log.info("검색 벤치마크 - 펀딩 {}건", fundings);
+        for (String query : QUERIES) {
+            Result like = measure(() -> searchWithLike(query));
+            Result fullText = measure(() -> fundingFilterRepository.findRelevantWithFilters(request(query))
+                    .getContent().size());
+
+            log.info("  \"{}\" LIKE p50 {}ms p95 {}ms ({}건) | FULLTEXT p50 {}ms p95 {}ms ({}건)", query,
+                    like.p50(), like.p95(), like.rows(), fullText.p50(), fullText.p95(), fullText.rows());
+
+            assertThat(like.rows()).as("LIKE 결과: " + query).isPositive();
+            assertThat(fullText.rows()).as("FULLTEXT 결과: " + query).isPositive();
+        }
+    }
+
+    /**
+     * 기존 검색 조건: 제목/상영물 이름 부분 일치, 최신순 100건
+     */
+    private int searchWithLike(String query) {
+        StringBuilder sql = new StringBuilder("SELECT fc.funding_id FROM funding_cards fc WHERE 1=1");
+        List<Object> params = new ArrayList<>();
+        for (String term : query.strip().split("\\s+")) {
+            sql.append(" AND (LOWER(fc.title) LIKE LOWER(?) OR LOWER(fc.video_name) LIKE LOWER(?))");
+            params.add("%" + term + "%");
+            params.add("%" + term + "%");
+        }
+        sql.append(" ORDER BY fc.created_at DESC, fc.funding_id DESC LIMIT 100");
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, params.toArray()).size();
+    }
+
+    private SearchRequest request(String query) {
+        SearchRequest request = new SearchRequest();
+        request.setQ(query);
+        request.setSortBy(FundingSortOrder.RELEVANCE);
+        return request;
+    }
+
+    private Result measure(IntSupplier search) {
+        int rows = 0;
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            rows = search.getAsInt();
+        }
+
+        long[] elapsed = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long startedAt = System.nanoTime();
+            search.getAsInt();
+            elapsed[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(elapsed);
+        return new Result(toMillis(elapsed[MEASURED_RUNS / 2]), toMillis(elapsed[MEASURED_RUNS * 95 / 100]), rows);
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    private void seedUpTo(int fundings) {
+        if (seeded >= fundings) {
+            return;
+        }
+
+        // 대량 적재 중에는 FULLTEXT 인덱스를 떼어 두고, 적재 후 마이그레이션으로 다시 만든다
+        if (indexExists()) {
+            jdbcTemplate.update("DELETE FROM schema_index_history WHERE version = ?", FULLTEXT_MIGRATION_VERSION);
+            jdbcTemplate.execute("ALTER TABLE funding_cards DROP INDEX " + FULLTEXT_INDEX);
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (long id = seeded + 1; id <= fundings; id++) {
+            String movie = MOVIES[(int) (id % MOVIES.length)];
+            String title = movie + " " + WORDS[(int) (id % WORDS.length)] + " "
+                    + WORDS[(int) (id / 7 % WORDS.length)] + " " + id;
+            Timestamp at = Timestamp.valueOf(now.minusSeconds(id));
+            rows.add(new Object[]{id, title, "banner.png", "ON_PROGRESS", "FUNDING", today.plusDays(id % 30),
+                    today.plusDays(id % 30 + 10), movie, 50, 5 + id % 16, 1 + id % 500, at, 3000, 1 + id % 20,
+                    "영화관", "서울", "강남구", id % 50, id % 100, id % 1000, (id % 1000) / 10.0, at});
+            if (rows.size() == BATCH_SIZE) {
+                insertCards(rows);
+                rows.clear();
+            }
+        }
+        insertCards(rows);
+        seeded = fundings;
+
+        schemaMigrationRunner.migrate();
+        jdbcTemplate.execute("ANALYZE TABLE funding_cards");
+    }
+
+    private void insertCards(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO funding_cards (funding_id, title, banner_url, state, funding_type, ends_on, screen_day,
+                                           video_name, max_people, category_id, leader_id, created_at, price,
+                                           cinema_id, cinema_name, city, district, participant_count,
+                                           favorite_count, view_count, recommend_score, synced_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    private boolean indexExists() {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM information_schema.statistics
+                WHERE table_schema = DATABASE()
+                  AND table_name = 'funding_cards'
+                  AND index_name = ?
+                """, Integer.class, FULLTEXT_INDEX);
+        return count != null && count > 0;
+    }
+
+    private record Result(double p50, double p95, int rows) {
+    }
+}
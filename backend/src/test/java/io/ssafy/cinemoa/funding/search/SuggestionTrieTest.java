@@ -0,0 +1,84 @@
+package io.ssafy.cinemoa.funding.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.ssafy.cinemoa.funding.dto.SearchSuggestionDto;
+import io.ssafy.cinemoa.funding.enums.SuggestionType;
+import org.junit.jupiter.api.Test;
+
+class SuggestionTrieTest {
+
+    private static final SearchSuggestionDto SPIDER = suggestion("스파이더맨", SuggestionType.VIDEO_NAME, null);
+    private static final SearchSuggestionDto SPY = suggestion("스파이", SuggestionType.VIDEO_NAME, null);
+    private static final SearchSuggestionDto SPACE = suggestion("스페이스 상영회", SuggestionType.FUNDING_TITLE, 1L);
+
+    private final SuggestionTrie trie = new SuggestionTrie();
+
+    @Test
+    void findByPrefixReturnsShorterKeysFirst() {
+        trie.add("스파이더맨", SPIDER);
+        trie.add("스파이", SPY);
+        trie.add("스페이스 상영회", SPACE);
+
+        assertThat(trie.findByPrefix("스파", 10)).containsExactly(SPY, SPIDER);
+        assertThat(trie.findByPrefix("스", 10)).containsExactlyInAnyOrder(SPY, SPIDER, SPACE);
+        assertThat(trie.findByPrefix("스파이", 10).iterator().next()).isEqualTo(SPY);
+    }
+
+    @Test
+    void findByPrefixStopsAtLimit() {
+        trie.add("스파이더맨", SPIDER);
+        trie.add("스파이", SPY);
+        trie.add("스페이스 상영회", SPACE);
+
+        assertThat(trie.findByPrefix("스", 2)).hasSize(2);
+    }
+
+    @Test
+    void findByPrefixReturnsEmptyForUnknownPrefix() {
+        trie.add("스파이", SPY);
+
+        assertThat(trie.findByPrefix("어벤져스", 10)).isEmpty();
+        assertThat(trie.findByPrefix("스파이더", 10)).isEmpty();
+    }
+
+    @Test
+    void sameEntryAddedTwiceIsReturnedOnceAndNeedsTwoRemovals() {
+        // 같은 상영물 이름의 펀딩이 둘이면 같은 항목이 두 번 추가됨
+        trie.add("스파이", SPY);
+        trie.add("스파이", SPY);
+
+        assertThat(trie.findByPrefix("스", 10)).containsExactly(SPY);
+
+        trie.remove("스파이", SPY);
+        assertThat(trie.findByPrefix("스", 10)).containsExactly(SPY);
+
+        trie.remove("스파이", SPY);
+        assertThat(trie.findByPrefix("스", 10)).isEmpty();
+    }
+
+    @Test
+    void removeKeepsEntriesSharingThePrefix() {
+        trie.add("스파이더맨", SPIDER);
+        trie.add("스파이", SPY);
+
+        trie.remove("스파이더맨", SPIDER);
+
+        assertThat(trie.findByPrefix("스파", 10)).containsExactly(SPY);
+        assertThat(trie.findByPrefix("스파이더", 10)).isEmpty();
+    }
+
+    @Test
+    void removeOfMissingKeyIsIgnored() {
+        trie.add("스파이", SPY);
+
+        trie.remove("스파이더맨", SPIDER);
+        trie.remove("스파이", SPIDER);
+
+        assertThat(trie.findByPrefix("스", 10)).containsExactly(SPY);
+    }
+
+    private static SearchSuggestionDto suggestion(String text, SuggestionType type, Long id) {
+        return new SearchSuggestionDto(text, type, id);
+    }
+}
@@ -0,0 +1,191 @@
+package io.ssafy.cinemoa.funding.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+import io.ssafy.cinemoa.cinema.repository.ScreenScheduleRepository;
+import io.ssafy.cinemoa.cinema.service.CinemaCatalog;
+import io.ssafy.cinemoa.cinema.service.ScreenHoldService;
+import io.ssafy.cinemoa.external.text.client.GPTApiClient;
+import io.ssafy.cinemoa.favorite.service.FundingFavoriteService;
+import io.ssafy.cinemoa.funding.dto.FundingDetailResponse;
+import io.ssafy.cinemoa.funding.repository.FundingDetailRepository;
+import io.ssafy.cinemoa.funding.repository.FundingListRepository;
+import io.ssafy.cinemoa.global.exception.ResourceNotFoundException;
+import io.ssafy.cinemoa.global.redis.service.RedisService;
+import io.ssafy.cinemoa.image.service.ImageService;
+import io.ssafy.cinemoa.notification.service.FundingNotificationService;
+import io.ssafy.cinemoa.support.RecordingDataSource;
+import io.ssafy.cinemoa.support.RecordingDataSourceConfig;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 펀딩 상세 조회(GET /api/funding/{fundingId})가 실행하는 쿼리 수 검사
+ * <p>
+ * 캐시가 비어 있으면 상세 정보 한 번 + 통계/참여 여부 한 번, 로컬 캐시에 올라간 뒤에는 통계/참여 여부 한 번만 실행해야 한다.
+ * 상세 정보를 다시 엔티티 지연 로딩으로 바꾸거나 통계를 따로 조회하면 쿼리 수가 늘어 실패한다.
+ * <p>
+ * Redis(상세 캐시, 좋아요 집합, 조회자 중복 확인)와 조회수 일괄 반영은 DB 쿼리가 아니므로 목으로 둔다.
+ * Docker가 없으면 실행하지 않는다.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Import({FundingService.class, FundingDetailCacheService.class, FundingDetailRepository.class,
+        RecordingDataSourceConfig.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class FundingDetailQueryCountTest {
+
+    private static final long FUNDING_ID = 1L;
+    private static final long USER_ID = 2L;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private FundingService fundingService;
+    @Autowired
+    private FundingDetailCacheService fundingDetailCacheService;
+
+    @MockitoBean
+    private FundingListRepository fundingListRepository;
+    @MockitoBean
+    private ScreenScheduleRepository screenScheduleRepository;
+    @MockitoBean
+    private CinemaCatalog cinemaCatalog;
+    @MockitoBean
+    private ScreenHoldService screenHoldService;
+    @MockitoBean
+    private ImageService imageService;
+    @MockitoBean
+    private FundingScoreService fundingScoreService;
+    @MockitoBean
+    private RedisService redisService;
+    @MockitoBean
+    private RedisRankingService redisRankingService;
+    @MockitoBean
+    private FundingNotificationService fundingNotificationService;
+    @MockitoBean
+    private FundingFavoriteService fundingFavoriteService;
+    @MockitoBean
+    private GPTApiClient openAiApiClient;
+
+    @BeforeAll
+    void seed() {
+        LocalDate today = LocalDate.now();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.update("""
+                INSERT INTO categories (category_id, parent_category_id, tag_name)
+                VALUES (1, NULL, '영화'), (5, 1, '액션')
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO cinemas (cinema_id, cinema_name, address, city, district,
+                                     is_imax, is_screenx, is_4dx, is_dolby, is_recliner, lat, lng)
+                VALUES (1, '영화관', '서울시 강남구', '서울', '강남구', true, false, false, false, false, 37.5, 127.0)
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO screens (screen_id, cinema_id, screen_name, seats,
+                                     is_imax, is_screenx, is_4dx, is_dolby, is_recliner, price)
+                VALUES (1, 1, '1관', 100, true, false, false, false, false, 150000)
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO users (user_id, username, password, nickname, profile_img_url, is_adult, role, created_at)
+                VALUES (1, 'leader', 'password', '제안자', 'profile.png', false, 'USER', ?),
+                       (2, 'viewer', 'password', '참여자', 'profile.png', false, 'USER', ?)
+                """, now, now);
+        jdbcTemplate.update("""
+                INSERT INTO fundings (funding_id, leader_id, cinema_id, screen_id, video_name, max_people,
+                                      title, summary, content, banner_url, screen_day, screen_starts_on,
+                                      screen_ends_on, category_id, ends_on, state, funding_type, created_at)
+                VALUES (1, 1, 1, 1, '영화', 50, '함께 보는 상영회', '요약', '내용', 'banner.png', ?, 10, 12, 5, ?,
+                        'ON_PROGRESS', 'FUNDING', ?)
+                """, today.plusDays(20), today.plusDays(10), now);
+        jdbcTemplate.update("""
+                INSERT INTO funding_stats (stat_id, funding_id, participant_count, view_count,
+                                           favorite_count, recommend_score)
+                VALUES (1, 1, 10, 100, 5, 0)
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO user_transactions (transaction_id, transaction_unique_no, user_id, funding_id,
+                                               balance, state, processed_at, created_at)
+                VALUES (1, 'tx-1', 2, 1, 3000, 'SUCCESS', ?, ?)
+                """, now, now);
+    }
+
+    @BeforeEach
+    void clearCache() {
+        fundingDetailCacheService.evictLocal(FUNDING_ID);
+        recorder().clear();
+    }
+
+    @Test
+    void coldDetailRunsTwoStatements() {
+        FundingDetailResponse detail = fundingService.getFundingDetail(FUNDING_ID, USER_ID, null);
+
+        assertThat(recorder().count()).as("상세 정보 + 통계/참여 여부").isEqualTo(2);
+        assertThat(detail.getFunding().getTitle()).isEqualTo("함께 보는 상영회");
+        assertThat(detail.getFunding().getProgressRate()).isEqualTo(20);
+        assertThat(detail.getCategory().getParentCategoryName()).isEqualTo("영화");
+        assertThat(detail.getCinema().getCinemaName()).isEqualTo("영화관");
+        assertThat(detail.getScreen().getScreenName()).isEqualTo("1관");
+        assertThat(detail.getProposer().getNickname()).isEqualTo("제안자");
+        assertThat(detail.getStat().getParticipantCount()).isEqualTo(10);
+        assertThat(detail.getStat().getIsParticipated()).isTrue();
+
+        // 조회수는 DB에 바로 쓰지 않고 모아서 반영
+        verify(fundingScoreService).recordView(FUNDING_ID);
+    }
+
+    @Test
+    void cachedDetailRunsOneStatement() {
+        fundingService.getFundingDetail(FUNDING_ID, USER_ID, null);
+        recorder().clear();
+
+        FundingDetailResponse detail = fundingService.getFundingDetail(FUNDING_ID, null, null);
+
+        assertThat(recorder().count()).as("통계/참여 여부").isEqualTo(1);
+        assertThat(detail.getStat().getIsParticipated()).isFalse();
+    }
+
+    @Test
+    void missingFundingRunsOneStatement() {
+        assertThatThrownBy(() -> fundingService.getFundingDetail(999L, USER_ID, null))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(recorder().count()).isEqualTo(1);
+    }
+
+    private RecordingDataSource recorder() {
+        return (RecordingDataSource) dataSource;
+    }
+}
@@ -0,0 +1,414 @@
+package io.ssafy.cinemoa.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.ssafy.cinemoa.cinema.repository.ScreenScheduleRepository;
+import io.ssafy.cinemoa.funding.dto.CardTypeFundingInfoDto;
+import io.ssafy.cinemoa.funding.dto.CursorRequestDto;
+import io.ssafy.cinemoa.funding.dto.SearchRequest;
+import io.ssafy.cinemoa.funding.enums.FundingSortOrder;
+import io.ssafy.cinemoa.funding.enums.FundingType;
+import io.ssafy.cinemoa.funding.repository.ExpiringFundingRepository;
+import io.ssafy.cinemoa.funding.repository.FundingCardRepository;
+import io.ssafy.cinemoa.funding.repository.FundingDetailRepository;
+import io.ssafy.cinemoa.funding.repository.FundingFilterRepository;
+import io.ssafy.cinemoa.funding.repository.FundingListRepository;
+import io.ssafy.cinemoa.funding.repository.FundingScoreRepository;
+import io.ssafy.cinemoa.funding.repository.LikedFundingRepository;
+import io.ssafy.cinemoa.funding.repository.ParticipatedFundingRepository;
+import io.ssafy.cinemoa.funding.repository.ProposedFundingRepository;
+import io.ssafy.cinemoa.funding.repository.RecommendedFundingRepository;
+import io.ssafy.cinemoa.funding.repository.SearchSuggestionRepository;
+import io.ssafy.cinemoa.global.response.CursorResponse;
+import io.ssafy.cinemoa.global.util.CursorCodec;
+import io.ssafy.cinemoa.notification.dto.NotificationEventDto;
+import io.ssafy.cinemoa.notification.enums.NotificationEventType;
+import io.ssafy.cinemoa.notification.repository.NotificationRepository;
+import io.ssafy.cinemoa.support.RecordingDataSource;
+import io.ssafy.cinemoa.support.RecordingDataSource.RecordedStatement;
+import io.ssafy.cinemoa.support.RecordingDataSourceConfig;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 조회 쿼리 실행 계획 회귀 테스트
+ * <p>
+ * 실제 MySQL 8에 SchemaMigrationRunner를 적용하고 데이터를 채운 뒤, 각 리포지토리 메서드가 실행한 SQL을 그대로 EXPLAIN 하여
+ * 큰 테이블을 전체 스캔(type = ALL)하는 쿼리가 없는지 검사한다.
+ * 극장/상영관/카테고리처럼 행이 적은 테이블의 전체 스캔은 허용하므로 FULL_SCAN_ROW_LIMIT보다 적게 채운다.
+ * <p>
+ * facet 인덱스 구성, 자동완성 전체 로드, 카드 전체 재생성처럼 원래 전체를 읽는 일괄 작업은 검사 대상에서 뺀다.
+ * Docker가 없으면 실행하지 않는다.
+ */
+@DataJpaTest(properties = {"spring.jpa.hibernate.ddl-auto=create", "cursor.secret=test-secret"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Import({SchemaMigrationRunner.class, CursorCodec.class,
+        FundingFilterRepository.class, FundingListRepository.class, RecommendedFundingRepository.class,
+        ExpiringFundingRepository.class, LikedFundingRepository.class, ProposedFundingRepository.class,
+        ParticipatedFundingRepository.class, FundingDetailRepository.class, FundingScoreRepository.class,
+        FundingCardRepository.class, SearchSuggestionRepository.class, NotificationRepository.class,
+        ScreenScheduleRepository.class, RecordingDataSourceConfig.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class QueryPlanRegressionTest {
+
+    private static final int FULL_SCAN_ROW_LIMIT = 100;
+
+    private static final int CINEMAS = 20;
+    private static final int SCREENS_PER_CINEMA = 3;
+    private static final int USERS = 500;
+    private static final int FUNDINGS = 5000;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withCommand("--ngram_token_size=2");
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FundingFilterRepository fundingFilterRepository;
+    @Autowired
+    private FundingListRepository fundingListRepository;
+    @Autowired
+    private RecommendedFundingRepository recommendedFundingRepository;
+    @Autowired
+    private ExpiringFundingRepository expiringFundingRepository;
+    @Autowired
+    private LikedFundingRepository likedFundingRepository;
+    @Autowired
+    private ProposedFundingRepository proposedFundingRepository;
+    @Autowired
+    private ParticipatedFundingRepository participatedFundingRepository;
+    @Autowired
+    private FundingDetailRepository fundingDetailRepository;
+    @Autowired
+    private FundingScoreRepository fundingScoreRepository;
+    @Autowired
+    private FundingCardRepository fundingCardRepository;
+    @Autowired
+    private SearchSuggestionRepository searchSuggestionRepository;
+    @Autowired
+    private NotificationRepository notificationRepository;
+    @Autowired
+    private ScreenScheduleRepository screenScheduleRepository;
+
+    @BeforeAll
+    void setUp() {
+        // 인덱스는 컨텍스트 기동 시 SchemaMigrationRunner가 이미 적용함
+        seed();
+        recorder().clear();
+    }
+
+    @Test
+    void queriesDoNotFullScanLargeTables() {
+        exerciseRepositories();
+
+        JdbcTemplate explain = new JdbcTemplate(recorder().getTargetDataSource());
+        Map<String, RecordedStatement> distinct = new LinkedHashMap<>();
+        for (RecordedStatement statement : recorder().statements()) {
+            if (statement.label() != null && isExplainable(statement.sql())) {
+                distinct.putIfAbsent(statement.sql(), statement);
+            }
+        }
+
+        List<String> violations = new ArrayList<>();
+        for (RecordedStatement statement : distinct.values()) {
+            for (Map<String, Object> row : explain.queryForList("EXPLAIN " + statement.sql(),
+                    statement.params().toArray())) {
+                String table = String.valueOf(row.get("table"));
+                long rows = row.get("rows") == null ? 0 : ((Number) row.get("rows")).longValue();
+                if ("ALL".equals(row.get("type")) && !table.startsWith("<") && rows > FULL_SCAN_ROW_LIMIT) {
+                    violations.add("%s: %s 전체 스캔 (예상 %d행)%n%s".formatted(
+                            statement.label(), table, rows, statement.sql().strip()));
+                }
+            }
+        }
+
+        assertThat(distinct).isNotEmpty();
+        assertThat(violations).as("전체 스캔 쿼리").isEmpty();
+    }
+
+    private void exerciseRepositories() {
+        CursorRequestDto firstPage = new CursorRequestDto(null, 20);
+
+        for (FundingSortOrder sortBy : List.of(FundingSortOrder.LATEST, FundingSortOrder.RECOMMENDED,
+                FundingSortOrder.POPULAR)) {
+            SearchRequest request = searchRequest(sortBy, null);
+            CursorResponse<CardTypeFundingInfoDto> page = run("search." + sortBy, () -> search(request));
+            request.setNextCursor(page.getNextCursor());
+            run("search." + sortBy + ".next", () -> search(request));
+
+            SearchRequest filtered = searchRequest(sortBy, null);
+            filtered.setFundingType(FundingType.FUNDING);
+            filtered.setCategory(Set.of(5L, 6L));
+            filtered.setIsClosed(false);
+            run("search." + sortBy + ".filtered", () -> search(filtered));
+        }
+
+        SearchRequest relevant = searchRequest(FundingSortOrder.RELEVANCE, "상영회");
+        CursorResponse<CardTypeFundingInfoDto> relevantPage = run("search.RELEVANCE",
+                () -> fundingFilterRepository.findRelevantWithFilters(relevant));
+        relevant.setNextCursor(relevantPage.getNextCursor());
+        run("search.RELEVANCE.next", () -> fundingFilterRepository.findRelevantWithFilters(relevant));
+        // 한 글자 단어는 FULLTEXT로 좁힌 행에만 LIKE 적용
+        run("search.RELEVANCE.shortTerm", () -> fundingFilterRepository.findRelevantWithFilters(
+                searchRequest(FundingSortOrder.RELEVANCE, "상영회 1")));
+        run("search.RELEVANCE.stream", () -> {
+            fundingFilterRepository.streamRelevantWithFilters(searchRequest(FundingSortOrder.RELEVANCE, "상영회"),
+                    card -> {
+                    });
+            return null;
+        });
+        run("search.DISTANCE", () -> fundingFilterRepository.findByCinemaOrderWithFilters(
+                searchRequest(FundingSortOrder.DISTANCE, null), List.of(3L, 1L, 2L)));
+
+        run("list.byIds", () -> fundingListRepository.findByFundingIdIn(List.of(1L, 2L, 3L, 4L, 5L), 1L));
+        run("list.recommended", () -> recommendedFundingRepository.findRecommendedFundings(1L));
+        run("list.expiring", () -> expiringFundingRepository.findExpiringFundings(1L));
+
+        CursorResponse<CardTypeFundingInfoDto> liked = run("mypage.liked",
+                () -> likedFundingRepository.findLikedFundings(1L, null, firstPage));
+        run("mypage.liked.next", () -> likedFundingRepository.findLikedFundings(1L, null,
+                new CursorRequestDto(liked.getNextCursor(), 20)));
+        run("mypage.proposed", () -> proposedFundingRepository.findProposedFundings(1L, null, firstPage));
+        run("mypage.participated", () -> participatedFundingRepository.findParticipatedFundings(1L, "ALL",
+                firstPage));
+        run("mypage.participated.onProgress", () -> participatedFundingRepository.findParticipatedFundings(1L,
+                "ON_PROGRESS", firstPage));
+
+        run("detail.static", () -> fundingDetailRepository.findStaticDetailById(1L));
+        run("detail.volatile", () -> fundingDetailRepository.findVolatileStatById(1L, 1L));
+
+        run("score.viewCounts", () -> {
+            fundingScoreRepository.addViewCounts(Map.of(1L, 3L, 2L, 1L));
+            return null;
+        });
+        run("score.recalculate", () -> fundingScoreRepository.recalculateRecommendScores(List.of(1L, 2L)));
+        run("card.upsert", () -> fundingCardRepository.upsertCards(List.of(1L, 2L)));
+        run("card.refreshStats", () -> fundingCardRepository.refreshStats(List.of(1L, 2L)));
+        run("suggestion.funding", () -> searchSuggestionRepository.findFundingSuggestions(1L));
+
+        CursorResponse<NotificationEventDto> inbox = run("notification.inbox",
+                () -> notificationRepository.findInbox(1L, null, 5));
+        run("notification.inbox.next", () -> notificationRepository.findInbox(1L, inbox.getNextCursor(), 5));
+        run("notification.unread", () -> notificationRepository.countUnread(1L));
+        run("notification.markRead", () -> notificationRepository.markRead(1L, 1L));
+        run("notification.markAllRead", () -> notificationRepository.markAllRead(1L));
+        run("notification.insert", () -> notificationRepository.insert(NotificationEventDto.builder()
+                .userId(1L)
+                .eventType(NotificationEventType.PAYMENT_SUCCESS)
+                .message("결제 완료")
+                .data(Map.of("fundingId", 1L))
+                .timestamp(LocalDateTime.now())
+                .build()));
+
+        LocalDate targetDate = LocalDate.now().plusDays(3);
+        run("schedule.reserve", () -> screenScheduleRepository.reserveIfAvailable(1L, targetDate, (byte) 10,
+                (byte) 12));
+        run("schedule.mask", () -> screenScheduleRepository.findBookedMask(1L, targetDate));
+        run("schedule.cinema", () -> screenScheduleRepository.findBookedMasksOfCinema(1L, targetDate,
+                targetDate.plusDays(30)));
+    }
+
+    private CursorResponse<CardTypeFundingInfoDto> search(SearchRequest request) {
+        return switch (request.getSortBy()) {
+            case RECOMMENDED -> fundingFilterRepository.findRecommendedWithFilters(request);
+            case POPULAR -> fundingFilterRepository.findPopularWithFilters(request);
+            default -> fundingFilterRepository.findLatestWithFilters(request);
+        };
+    }
+
+    private SearchRequest searchRequest(FundingSortOrder sortBy, String q) {
+        SearchRequest request = new SearchRequest();
+        request.setQ(q);
+        request.setUserId(1L);
+        request.setSortBy(sortBy);
+        return request;
+    }
+
+    private <T> T run(String label, Supplier<T> action) {
+        recorder().label(label);
+        try {
+            return action.get();
+        } finally {
+            recorder().label(null);
+        }
+    }
+
+    private static boolean isExplainable(String sql) {
+        String head = sql.stripLeading().toUpperCase();
+        return head.startsWith("SELECT") || head.startsWith("WITH") || head.startsWith("UPDATE")
+                || head.startsWith("DELETE") || (head.startsWith("INSERT") && head.contains("SELECT"));
+    }
+
+    private RecordingDataSource recorder() {
+        return (RecordingDataSource) dataSource;
+    }
+
+    private void seed() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> categories = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            categories.add(new Object[]{id, id <= 4 ? null : (id - 5) / 4 + 1, "태그" + id});
+        }
+        batch("INSERT INTO categories (category_id, parent_category_id, tag_name) VALUES (?, ?, ?)", categories);
+
+        List<Object[]> cinemas = new ArrayList<>();
+        List<Object[]> screens = new ArrayList<>();
+        for (long id = 1; id <= CINEMAS; id++) {
+            cinemas.add(new Object[]{id, "영화관" + id, "서울시 " + id, "서울", "구" + (id % 5),
+                    id % 2 == 0, id % 3 == 0, id % 4 == 0, id % 5 == 0, id % 6 == 0,
+                    37.4 + id * 0.01, 126.9 + id * 0.01});
+            for (int s = 0; s < SCREENS_PER_CINEMA; s++) {
+                long screenId = (id - 1) * SCREENS_PER_CINEMA + s + 1;
+                screens.add(new Object[]{screenId, id, s + 1 + "관", 100, s == 0, s == 1, s == 2, false, false,
+                        15000});
+            }
+        }
+        batch("""
+                INSERT INTO cinemas (cinema_id, cinema_name, address, city, district,
+                                     is_imax, is_screenx, is_4dx, is_dolby, is_recliner, lat, lng)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, cinemas);
+        batch("""
+                INSERT INTO screens (screen_id, cinema_id, screen_name, seats,
+                                     is_imax, is_screenx, is_4dx, is_dolby, is_recliner, price)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, screens);
+
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> userCategories = new ArrayList<>();
+        for (long id = 1; id <= USERS; id++) {
+            users.add(new Object[]{id, "user" + id, "password", "닉네임" + id, "profile.png", false, "USER",
+                    Timestamp.valueOf(now)});
+            userCategories.add(new Object[]{id, 5 + id % 16});
+        }
+        batch("""
+                INSERT INTO users (user_id, username, password, nickname, profile_img_url, is_adult, role, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, users);
+        batch("INSERT INTO user_categories (user_id, category_id) VALUES (?, ?)", userCategories);
+
+        String[] states = {"ON_PROGRESS", "ON_PROGRESS", "SUCCESS", "FAILED", "VOTING"};
+        List<Object[]> fundings = new ArrayList<>();
+        List<Object[]> stats = new ArrayList<>();
+        List<Object[]> estimates = new ArrayList<>();
+        for (long id = 1; id <= FUNDINGS; id++) {
+            long cinemaId = id % CINEMAS + 1;
+            long screenId = (cinemaId - 1) * SCREENS_PER_CINEMA + id % SCREENS_PER_CINEMA + 1;
+            String state = states[(int) (id % states.length)];
+            String type = "VOTING".equals(state) ? "VOTE" : "FUNDING";
+            fundings.add(new Object[]{id, id % USERS + 1, cinemaId, screenId, "영화" + id % 100, 50,
+                    "함께 보는 상영회 " + id, "요약", "내용", "banner.png", today.plusDays(id % 20 + 10), (byte) 10,
+                    (byte) 12, 5 + id % 16, today.plusDays(id % 30 - 10), state, type,
+                    Timestamp.valueOf(now.minusMinutes(id))});
+            stats.add(new Object[]{id, id, id % 50, id % 1000, id % 100, (id % 1000) / 10.0});
+            if ("VOTE".equals(type)) {
+                estimates.add(new Object[]{id, id, today.plusDays(10), today.plusDays(20)});
+            }
+        }
+        batch("""
+                INSERT INTO fundings (funding_id, leader_id, cinema_id, screen_id, video_name, max_people,
+                                      title, summary, content, banner_url, screen_day, screen_starts_on,
+                                      screen_ends_on, category_id, ends_on, state, funding_type, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, fundings);
+        batch("""
+                INSERT INTO funding_stats (stat_id, funding_id, participant_count, view_count,
+                                           favorite_count, recommend_score)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, stats);
+        batch("""
+                INSERT INTO funding_estimate_days (estimation_id, funding_id, min_date, max_date)
+                VALUES (?, ?, ?, ?)
+                """, estimates);
+
+        List<Object[]> favorites = new ArrayList<>();
+        List<Object[]> transactions = new ArrayList<>();
+        long transactionId = 1;
+        for (long userId = 1; userId <= USERS; userId++) {
+            for (int i = 0; i < 10; i++) {
+                long fundingId = (userId * 37 + i * 101) % FUNDINGS + 1;
+                Timestamp at = Timestamp.valueOf(now.minusHours(i));
+                favorites.add(new Object[]{userId, fundingId, at});
+                transactions.add(new Object[]{transactionId, "tx-" + transactionId, userId, fundingId, 10000,
+                        i % 4 == 0 ? "REFUNDED" : "SUCCESS", at, at});
+                transactionId++;
+            }
+        }
+        batch("INSERT INTO user_favorites (user_id, funding_id, created_at) VALUES (?, ?, ?)", favorites);
+        batch("""
+                INSERT INTO user_transactions (transaction_id, transaction_unique_no, user_id, funding_id,
+                                               balance, state, processed_at, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, transactions);
+
+        List<Object[]> schedules = new ArrayList<>();
+        long scheduleId = 1;
+        for (long screenId = 1; screenId <= (long) CINEMAS * SCREENS_PER_CINEMA; screenId++) {
+            for (int day = 0; day < 30; day++) {
+                schedules.add(new Object[]{scheduleId++, screenId, today.plusDays(day), 1 << (day % 24)});
+            }
+        }
+        batch("""
+                INSERT INTO screen_schedules (id, screen_id, target_date, booked_mask)
+                VALUES (?, ?, ?, ?)
+                """, schedules);
+
+        List<Object[]> notifications = new ArrayList<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            for (int i = 0; i < 10; i++) {
+                notifications.add(new Object[]{userId, "PAYMENT_SUCCESS", "결제 완료", "{}", i % 2 == 0,
+                        Timestamp.valueOf(now.minusMinutes(i))});
+            }
+        }
+        batch("""
+                INSERT INTO notifications (user_id, event_type, message, payload, is_read, created_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, notifications);
+
+        fundingCardRepository.upsertCardsInRange(0, fundingCardRepository.findMaxFundingId());
+
+        jdbcTemplate.execute("""
+                ANALYZE TABLE categories, cinemas, screens, users, user_categories, fundings, funding_stats,
+                              funding_estimate_days, funding_cards, user_favorites, user_transactions,
+                              screen_schedules, notifications
+                """);
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+}
@@ -0,0 +1,102 @@
+package io.ssafy.cinemoa.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.ssafy.cinemoa.funding.dto.ScoreCursorInfo;
+import io.ssafy.cinemoa.funding.dto.TimestampCursorInfo;
+import io.ssafy.cinemoa.global.exception.BadRequestException;
+import io.ssafy.cinemoa.notification.dto.NotificationCursorInfo;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class CursorCodecTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 9, 1, 12, 30, 15, 123_456_000);
+
+    private final CursorCodec codec = new CursorCodec("test-secret");
+
+    @Test
+    void timestampCursorRoundTripsWithMicrosecondPrecision() {
+        TimestampCursorInfo decoded = codec.decodeTimestamp(codec.encode(CREATED_AT, 42L));
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(decoded.getFundingId()).isEqualTo(42L);
+    }
+
+    @Test
+    void scoreCursorRoundTrips() {
+        ScoreCursorInfo decoded = codec.decodeScore(codec.encode(87.25, CREATED_AT, 7L));
+
+        assertThat(decoded.getScore()).isEqualTo(87.25);
+        assertThat(decoded.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(decoded.getFundingId()).isEqualTo(7L);
+    }
+
+    @Test
+    void notificationCursorRoundTrips() {
+        NotificationCursorInfo decoded = codec.decodeNotification(codec.encodeNotification(CREATED_AT, 9L));
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(decoded.getNotificationId()).isEqualTo(9L);
+    }
+
+    @Test
+    void timestampsBeforeEpochRoundTrip() {
+        LocalDateTime beforeEpoch = LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000);
+
+        assertThat(codec.decodeTimestamp(codec.encode(beforeEpoch, 1L)).getCreatedAt()).isEqualTo(beforeEpoch);
+    }
+
+    @Test
+    void cursorIsUrlSafeWithoutPadding() {
+        String cursor = codec.encode(87.25, CREATED_AT, Long.MAX_VALUE);
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void cursorOfAnotherKindIsRejected() {
+        String timestampCursor = codec.encode(CREATED_AT, 1L);
+        String notificationCursor = codec.encodeNotification(CREATED_AT, 1L);
+
+        assertInvalid(() -> codec.decodeNotification(timestampCursor));
+        assertInvalid(() -> codec.decodeTimestamp(notificationCursor));
+        assertInvalid(() -> codec.decodeScore(timestampCursor));
+    }
+
+    @Test
+    void tamperedCursorIsRejected() {
+        byte[] bytes = Base64.getUrlDecoder().decode(codec.encode(CREATED_AT, 1L));
+        // id 마지막 바이트 변경
+        bytes[bytes.length - 9] ^= 1;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        assertInvalid(() -> codec.decodeTimestamp(tampered));
+    }
+
+    @Test
+    void cursorSignedWithAnotherSecretIsRejected() {
+        String cursor = new CursorCodec("other-secret").encode(CREATED_AT, 1L);
+
+        assertInvalid(() -> codec.decodeTimestamp(cursor));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertInvalid(() -> codec.decodeTimestamp("not a cursor!"));
+        assertInvalid(() -> codec.decodeTimestamp(""));
+        assertInvalid(() -> codec.decodeTimestamp("AQE"));
+    }
+
+    @Test
+    void blankSecretIsRejected() {
+        assertThatThrownBy(() -> new CursorCodec("")).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new CursorCodec(" ")).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static void assertInvalid(Runnable decode) {
+        assertThatThrownBy(decode::run).isInstanceOf(BadRequestException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package io.ssafy.cinemoa.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HangulUtilsTest {
+
+    @Test
+    void decomposeSplitsSyllablesIntoCompatibilityJamo() {
+        assertThat(HangulUtils.decompose("스파")).isEqualTo("ㅅㅡㅍㅏ");
+        assertThat(HangulUtils.decompose("한")).isEqualTo("ㅎㅏㄴ");
+    }
+
+    @Test
+    void decomposeSplitsCompoundVowelsAndFinalsInTypingOrder() {
+        assertThat(HangulUtils.decompose("과")).isEqualTo("ㄱㅗㅏ");
+        assertThat(HangulUtils.decompose("값")).isEqualTo("ㄱㅏㅂㅅ");
+        assertThat(HangulUtils.decompose("의")).isEqualTo("ㅇㅡㅣ");
+    }
+
+    @Test
+    void decomposeLowercasesOtherCharacters() {
+        assertThat(HangulUtils.decompose("IMAX 2관")).isEqualTo("imax 2ㄱㅗㅏㄴ");
+        assertThat(HangulUtils.decompose("ㅅ")).isEqualTo("ㅅ");
+    }
+
+    @Test
+    void syllableBeingTypedIsPrefixOfCompletedWord() {
+        // "과" 입력 중의 "고", "스파" 입력 중의 "스ㅍ"
+        assertThat(HangulUtils.decompose("과자")).startsWith(HangulUtils.decompose("고"));
+        assertThat(HangulUtils.decompose("스파이더맨")).startsWith(HangulUtils.decompose("스ㅍ"));
+        assertThat(HangulUtils.decompose("스파이더맨")).doesNotStartWith(HangulUtils.decompose("스피"));
+    }
+
+    @Test
+    void toChosungKeepsOnlyInitialConsonants() {
+        assertThat(HangulUtils.toChosung("스파이더맨")).isEqualTo("ㅅㅍㅇㄷㅁ");
+        assertThat(HangulUtils.toChosung("까치 A")).isEqualTo("ㄲㅊ a");
+    }
+
+    @Test
+    void isChosungOnlyIgnoresWhitespace() {
+        assertThat(HangulUtils.isChosungOnly("ㅅㅍ")).isTrue();
+        assertThat(HangulUtils.isChosungOnly("ㅅ ㅍ")).isTrue();
+    }
+
+    @Test
+    void isChosungOnlyRejectsSyllablesVowelsAndBlankText() {
+        assertThat(HangulUtils.isChosungOnly("ㅅ파")).isFalse();
+        assertThat(HangulUtils.isChosungOnly("ㅏ")).isFalse();
+        assertThat(HangulUtils.isChosungOnly("a")).isFalse();
+        assertThat(HangulUtils.isChosungOnly("")).isFalse();
+        assertThat(HangulUtils.isChosungOnly("  ")).isFalse();
+    }
+}
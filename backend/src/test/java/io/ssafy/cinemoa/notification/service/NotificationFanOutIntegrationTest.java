@@ -0,0 +1,284 @@
+package io.ssafy.cinemoa.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.ssafy.cinemoa.global.redis.listener.NotificationMessageListener;
+import io.ssafy.cinemoa.global.redis.service.RedisService;
+import io.ssafy.cinemoa.notification.dto.NotificationEventDto;
+import io.ssafy.cinemoa.notification.repository.NotificationRepository;
+import io.ssafy.cinemoa.notification.service.SseConnectionRegistry.SseConnection;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import redis.embedded.RedisServer;
+
+/**
+ * 여러 서버 간 SSE 알림 전달 통합 테스트
+ * <p>
+ * 내장 Redis 하나에 두 서버(노드)를 붙여, 한 노드에서 발행한 알림이 사용자가 연결된 다른 노드로만 전달되는지,
+ * 브로드캐스트가 모든 노드에 가는지, 다른 노드로 재연결해도 Redis 스트림에서 놓친 알림을 이어 받는지 검사한다.
+ * <p>
+ * 노드는 스프링 컨텍스트 없이 NotificationService와 구독 컨테이너를 직접 조립하며, 알림함 저장소만 목으로 둔다.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class NotificationFanOutIntegrationTest {
+
+    private static final Duration DELIVERY_TIMEOUT = Duration.ofSeconds(5);
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory adminConnectionFactory;
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeAll
+    void startCluster() throws IOException {
+        int port = freePort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        adminConnectionFactory = connectionFactory(port);
+        AtomicLong notificationIds = new AtomicLong();
+        nodeA = new Node("A", port, notificationIds);
+        nodeB = new Node("B", port, notificationIds);
+
+        // 두 노드가 모두 사용자 채널 패턴을 구독한 뒤에 발행해야 메시지를 놓치지 않음
+        await().atMost(DELIVERY_TIMEOUT).until(() -> patternSubscriptions() >= 2);
+    }
+
+    @AfterAll
+    void stopCluster() throws IOException {
+        nodeA.stop();
+        nodeB.stop();
+        adminConnectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void flushRedis() {
+        try (RedisConnection connection = adminConnectionFactory.getConnection()) {
+            connection.serverCommands().flushAll();
+        }
+    }
+
+    @Test
+    void userEventPublishedOnOneNodeReachesOnlyTheNodeHoldingTheUser() {
+        RecordingEmitter onB = nodeB.connect(1L);
+        RecordingEmitter otherUserOnA = nodeA.connect(2L);
+
+        NotificationEventDto event = NotificationEventDto.createPaymentSuccessEvent(1L, 10L, "상영회", 15000L);
+        nodeA.notificationService.sendEventToUser(1L, event);
+
+        await().atMost(DELIVERY_TIMEOUT).until(() -> onB.events().size() == 1);
+        SentEvent delivered = onB.events().get(0);
+        assertThat(delivered.event().getNotificationId()).isNotNull();
+        assertThat(delivered.event().getEventId())
+                .isEqualTo(NotificationEventDto.eventIdOf(delivered.event().getNotificationId()));
+        // SSE 이벤트 ID는 스트림 ID, 알림 식별자는 알림함 ID로 서로 분리됨
+        assertThat(delivered.id()).isEqualTo(delivered.event().getStreamId()).matches("\\d+-\\d+");
+
+        assertThat(otherUserOnA.events()).isEmpty();
+    }
+
+    @Test
+    void userConnectedToBothNodesReceivesTheEventOnEveryConnection() {
+        RecordingEmitter onA = nodeA.connect(3L);
+        RecordingEmitter onB = nodeB.connect(3L);
+
+        nodeB.notificationService.sendEventToUser(3L,
+                NotificationEventDto.createFundingFailedEvent(3L, 11L, "상영회", 20000));
+
+        await().atMost(DELIVERY_TIMEOUT).until(() -> onA.events().size() == 1 && onB.events().size() == 1);
+        assertThat(onA.events().get(0).event().getEventId()).isEqualTo(onB.events().get(0).event().getEventId());
+    }
+
+    @Test
+    void broadcastReachesConnectionsOnAllNodesWithoutEventId() {
+        RecordingEmitter onA = nodeA.connect(4L);
+        RecordingEmitter onB = nodeB.connect(5L);
+
+        nodeA.notificationService.broadcastEvent(
+                NotificationEventDto.createFundingSuccessEvent(0L, 12L, "상영회", 30000, 10));
+
+        await().atMost(DELIVERY_TIMEOUT).until(() -> onA.events().size() == 1 && onB.events().size() == 1);
+        assertThat(onA.events().get(0).id()).isNull();
+        assertThat(onB.events().get(0).id()).isNull();
+    }
+
+    @Test
+    void reconnectingToAnotherNodeReplaysMissedEventsFromTheStream() {
+        RecordingEmitter onA = nodeA.connect(6L);
+
+        nodeB.notificationService.sendEventToUser(6L,
+                NotificationEventDto.createPaymentSuccessEvent(6L, 13L, "첫 번째", 10000L));
+        await().atMost(DELIVERY_TIMEOUT).until(() -> onA.events().size() == 1);
+        String lastEventId = onA.events().get(0).id();
+
+        // A와의 연결이 끊긴 사이 발행된 알림
+        nodeA.disconnectAll();
+        nodeA.notificationService.sendEventToUser(6L,
+                NotificationEventDto.createPaymentSuccessEvent(6L, 14L, "두 번째", 10000L));
+        nodeA.notificationService.sendEventToUser(6L,
+                NotificationEventDto.createPaymentSuccessEvent(6L, 15L, "세 번째", 10000L));
+
+        Optional<List<NotificationEventDto>> missed = nodeB.replayService.findMissedEvents(6L, lastEventId);
+
+        assertThat(missed).isPresent();
+        assertThat(missed.get())
+                .extracting(event -> ((Map<?, ?>) event.getData()).get("fundingTitle"))
+                .containsExactly("두 번째", "세 번째");
+        assertThat(missed.get())
+                .allSatisfy(event -> assertThat(event.getEventId()).startsWith("notification_"))
+                .allSatisfy(event -> assertThat(event.getStreamId()).isNotNull());
+    }
+
+    @Test
+    void unknownLastEventIdCannotBeReplayed() {
+        nodeA.notificationService.sendEventToUser(7L,
+                NotificationEventDto.createPaymentSuccessEvent(7L, 16L, "상영회", 10000L));
+
+        assertThat(nodeB.replayService.findMissedEvents(7L, "1-0")).isEmpty();
+        assertThat(nodeB.replayService.findMissedEvents(7L, "notification_1")).isEmpty();
+    }
+
+    private long patternSubscriptions() {
+        try (RedisConnection connection = adminConnectionFactory.getConnection()) {
+            Object result = connection.execute("PUBSUB", "NUMPAT".getBytes(StandardCharsets.UTF_8));
+            return result instanceof Number number ? number.longValue() : 0;
+        }
+    }
+
+    private static LettuceConnectionFactory connectionFactory(int port) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", port));
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * 서버 한 대에 해당하는 알림 구성 (자기 연결 목록과 Redis 구독을 따로 가짐)
+     */
+    private static final class Node {
+
+        private final LettuceConnectionFactory connectionFactory;
+        private final RedisMessageListenerContainer container;
+        private final SseConnectionRegistry connectionRegistry;
+        private final NotificationReplayService replayService;
+        private final NotificationService notificationService;
+
+        private Node(String name, int port, AtomicLong notificationIds) {
+            connectionFactory = connectionFactory(port);
+
+            StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+            RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+            redisTemplate.setConnectionFactory(connectionFactory);
+            redisTemplate.afterPropertiesSet();
+            RedisService redisService = new RedisService(redisTemplate, stringRedisTemplate);
+
+            ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+            // 알림함은 두 노드가 같은 DB를 쓰므로 ID를 공유
+            NotificationRepository notificationRepository = mock(NotificationRepository.class);
+            when(notificationRepository.insert(any())).thenAnswer(invocation -> notificationIds.incrementAndGet());
+
+            connectionRegistry = new SseConnectionRegistry(new SimpleMeterRegistry(), 5, 100);
+            replayService = new NotificationReplayService(redisService, objectMapper);
+            notificationService = new NotificationService(new NotificationInboxService(notificationRepository),
+                    replayService, redisService, objectMapper, connectionRegistry);
+
+            container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.setBeanName("notification-node-" + name);
+            container.addMessageListener(new NotificationMessageListener(notificationService, objectMapper),
+                    List.of(new PatternTopic(NotificationService.USER_CHANNEL_PATTERN),
+                            new ChannelTopic(NotificationService.BROADCAST_CHANNEL)));
+            container.afterPropertiesSet();
+            container.start();
+        }
+
+        /**
+         * 이 노드에 SSE 연결 추가 (HTTP 응답 대신 보낸 이벤트를 기록)
+         */
+        RecordingEmitter connect(Long userId) {
+            RecordingEmitter emitter = new RecordingEmitter();
+            assertThat(connectionRegistry.register(SseConnection.of(userId, emitter))).isTrue();
+            return emitter;
+        }
+
+        void disconnectAll() {
+            connectionRegistry.all().forEach(connectionRegistry::remove);
+        }
+
+        void stop() {
+            disconnectAll();
+            container.stop();
+            connectionFactory.destroy();
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<SentEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String id = null;
+            NotificationEventDto event = null;
+            for (DataWithMediaType part : builder.build()) {
+                if (part.getData() instanceof NotificationEventDto dto) {
+                    event = dto;
+                } else if (part.getData() instanceof String text) {
+                    for (String line : text.split("\n")) {
+                        if (line.startsWith("id:")) {
+                            id = line.substring("id:".length());
+                        }
+                    }
+                }
+            }
+            if (event != null) {
+                events.add(new SentEvent(id, event));
+            }
+        }
+
+        List<SentEvent> events() {
+            return events;
+        }
+    }
+
+    private record SentEvent(String id, NotificationEventDto event) {
+    }
+}
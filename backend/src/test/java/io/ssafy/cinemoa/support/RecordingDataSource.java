@@ -0,0 +1,126 @@
+package io.ssafy.cinemoa.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 실행된 SQL과 바인딩 값을 기록하는 테스트용 DataSource
+ * <p>
+ * 쿼리 실행 계획 검사(EXPLAIN)와 엔드포인트별 실행 쿼리 수 검사에 쓴다.
+ */
+public class RecordingDataSource extends DelegatingDataSource {
+
+    private final List<RecordedStatement> statements = Collections.synchronizedList(new ArrayList<>());
+    private volatile String label;
+
+    public RecordingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    /**
+     * 이후 기록되는 SQL에 붙일 이름 (어떤 리포지토리 메서드가 실행했는지 구분)
+     */
+    public void label(String label) {
+        this.label = label;
+    }
+
+    public void clear() {
+        statements.clear();
+    }
+
+    public List<RecordedStatement> statements() {
+        synchronized (statements) {
+            return List.copyOf(statements);
+        }
+    }
+
+    public int count() {
+        return statements.size();
+    }
+
+    private Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            if (result instanceof PreparedStatement prepared && method.getName().equals("prepareStatement")) {
+                return wrapPrepared(prepared, (String) args[0]);
+            }
+            if (result instanceof Statement statement && method.getName().equals("createStatement")) {
+                return wrapStatement(statement);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement wrapPrepared(PreparedStatement prepared, String sql) {
+        Map<Integer, Object> params = new TreeMap<>();
+        return proxy(PreparedStatement.class, prepared, (target, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                params.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                params.clear();
+            } else if (name.equals("addBatch") || name.startsWith("execute")) {
+                record(sql, new ArrayList<>(params.values()));
+            }
+            return method.invoke(target, args);
+        });
+    }
+
+    private Statement wrapStatement(Statement statement) {
+        return proxy(Statement.class, statement, (target, method, args) -> {
+            String name = method.getName();
+            if ((name.equals("addBatch") || name.startsWith("execute")) && args != null && args.length > 0
+                    && args[0] instanceof String sql) {
+                record(sql, List.of());
+            }
+            return method.invoke(target, args);
+        });
+    }
+
+    private void record(String sql, List<Object> params) {
+        statements.add(new RecordedStatement(label, sql, params));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Interceptor interceptor) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return interceptor.invoke(target, method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(RecordingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    @FunctionalInterface
+    private interface Interceptor {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    public record RecordedStatement(String label, String sql, List<Object> params) {
+    }
+}
@@ -0,0 +1,25 @@
+package io.ssafy.cinemoa.support;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 테스트 컨텍스트의 DataSource를 RecordingDataSource로 감싸는 설정 (@Import로 사용)
+ */
+@TestConfiguration
+public class RecordingDataSourceConfig {
+
+    @Bean
+    static BeanPostProcessor recordingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof RecordingDataSource)
+                        ? new RecordingDataSource(dataSource)
+                        : bean;
+            }
+        };
+    }
+}
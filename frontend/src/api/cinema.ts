@@ -74,7 +74,9 @@ export const getReservationTime = async (screenId: number, targetDate: Date): Pr
     // Date 객체를 YYYY-MM-DD 형식으로 변환
     const targetDateString = formatDateToISOString(targetDate);
     const url = `https://j13a110.p.ssafy.io:8443/api/screen/${screenId}/available-time?targetDate=${targetDateString}`;
-    const response = await fetch(url);
+    const response = await fetch(url, {
+      credentials: 'include', // 본인이 선점한 시간은 가능한 시간으로 받기 위해 세션 쿠키 포함
+    });
 
     if (!response.ok) {
       const errorText = await response.text();
@@ -1,6 +1,6 @@
 import { useNotificationStore } from '@/stores/notificationStore';
 import { useAuthStore } from '@/stores/authStore';
-import { NotificationEventDto } from '@/types/notification';
+import { NotificationEventDto, NotificationInboxSummary } from '@/types/notification';
 
 // SSE 연결 관리 클래스
 class NotificationSSEManager {
@@ -60,14 +60,21 @@ class NotificationSSEManager {
           // console.log('🔥 INITIAL_DATA 이벤트 수신됨!', event);
           // console.log('🔥 INITIAL_DATA 데이터:', event.data);
           try {
-            const data: NotificationEventDto[] = JSON.parse(event.data);
-            useNotificationStore.getState().setNotifications(data);
+            const data: NotificationInboxSummary = JSON.parse(event.data);
+            useNotificationStore.getState().setNotifications(data.notifications, data.unreadCount);
             // console.log('초기 알림 데이터 로드:', data);
           } catch (error) {
             console.error('초기 데이터 파싱 오류:', error);
           }
         });
 
+        // 같은 계정의 연결이 너무 많아 서버가 이 연결을 새 연결로 교체한 경우
+        // (자동 재연결하면 다른 탭의 연결을 다시 밀어내므로 닫기만 함)
+        this.eventSource.addEventListener('CONNECTION_REPLACED', () => {
+          console.log('다른 탭/기기의 새 연결로 교체되어 SSE 연결을 종료합니다.');
+          this.disconnect();
+        });
+
         // 실시간 알림 이벤트들
         this.eventSource.addEventListener('PAYMENT_SUCCESS', (event) => {
           this.handleNotificationEvent(event);
@@ -10,7 +10,7 @@ interface NotificationState {
 
 interface NotificationStore extends NotificationState {
   // Actions
-  setNotifications: (notifications: NotificationEventDto[]) => void;
+  setNotifications: (notifications: NotificationEventDto[], unreadCount: number) => void;
   addNotification: (notification: NotificationEventDto) => void;
   markAsRead: (eventId: string) => void;
   markAllAsRead: () => void;
@@ -30,7 +30,7 @@ export const useNotificationStore = create<NotificationStore>()(
       hasUnread: false,
 
       // Actions
-      setNotifications: (notifications) => {
+      setNotifications: (notifications, unreadCount) => {
         // 중복된 eventId 제거 (같은 eventId를 가진 알림 중 가장 최근 것만 유지)
         const uniqueNotifications = notifications.reduce((acc, current) => {
           const existingIndex = acc.findIndex(n => n.eventId === current.eventId);
@@ -46,15 +46,15 @@ export const useNotificationStore = create<NotificationStore>()(
           return acc;
         }, [] as NotificationEventDto[]);
         
-        // 초기 데이터는 모두 읽음 처리
-        const readNotifications = uniqueNotifications.map(notification => ({
+        // 초기 데이터는 서버 알림함의 읽음 상태를 그대로 사용
+        const inboxNotifications = uniqueNotifications.map(notification => ({
           ...notification,
-          isRead: true
+          isRead: notification.isRead ?? true
         }));
         
         set({ 
-          notifications: readNotifications,
-          hasUnread: false // 초기 데이터는 읽음 처리되므로 hasUnread를 false로 설정
+          notifications: inboxNotifications,
+          hasUnread: unreadCount > 0 // 목록에 없는 오래된 알림까지 포함한 서버 기준 안 읽은 수
         });
       },
 
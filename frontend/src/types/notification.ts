@@ -12,22 +12,35 @@ export interface SSEConnectedEvent {
   data: string;
 }
 
-// 초기 데이터 이벤트
+// 초기 데이터 이벤트 (알림함 요약)
 export interface SSEInitialDataEvent {
   id: string;
   event: 'INITIAL_DATA';
-  data: NotificationEventDto[];
+  data: NotificationInboxSummary;
+}
+
+// SSE 연결 직후 받는 알림함 요약 (최근 알림 + 안 읽은 알림 수)
+// 나머지 알림은 nextCursor로 알림함 API를 이어서 조회
+export interface NotificationInboxSummary {
+  notifications: NotificationEventDto[];
+  unreadCount: number;
+  nextCursor: string | null;
+  hasNextPage: boolean;
 }
 
 // 알림 이벤트 데이터
 export interface NotificationEventDto {
   eventId: string;
+  // 재연결 이어 받기용 스트림 ID (SSE 이벤트 ID와 같음, 알림함에서 온 알림은 null)
+  streamId?: string | null;
+  // 알림함에 저장된 알림 ID (저장되지 않은 이벤트는 null)
+  notificationId: number | null;
   eventType: NotificationEventType;
   userId: number;
   message: string;
   data: NotificationEventData;
   timestamp: string;
-  // 읽음 상태 (현재는 서버에서 보내지 않음)
+  // 읽음 상태 (알림함에서 온 알림은 서버 값, 실시간 알림은 없음)
   isRead?: boolean;
 }
 